@@ -0,0 +1,78 @@
+package com.example.account.benchmark;
+
+import com.example.account.entity.Account;
+import com.example.account.entity.type.AccountStatus;
+import com.example.account.limit.LimitType;
+import com.example.account.money.Money;
+import com.example.account.policy.TransferPolicy;
+import com.example.account.policy.TransferPolicyProperties;
+import com.example.account.policy.TransferPolicyProperties.Bracket;
+import com.example.account.policy.TransferPolicyProperties.Fee;
+import com.example.account.policy.TransferPolicyProperties.Tier;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌 잔액 계산과 이체 수수료, 한도 계산의 연산 비용
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountBenchmark {
+    private final Money amount = Money.ofMinor(1_234_567L);
+    private final TransferPolicy flatPolicy = TransferPolicy.flat(
+            Money.of(1_000_000L), Money.of(3_000_000L), new BigDecimal("0.01"));
+    private final TransferPolicy tieredPolicy = tieredPolicy();
+    private Account account;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        account = Account.builder()
+                .id(1L)
+                .accountNumber("1000000001")
+                .balance(Money.of(1_000_000_000L))
+                .dailyWithdrawLimit(Money.of(1_000_000L))
+                .dailyTransferLimit(Money.of(3_000_000L))
+                .status(AccountStatus.ACTIVE)
+                .build();
+    }
+
+    @Benchmark
+    public Money depositThenWithdraw() {
+        account.deposit(amount);
+        account.withdraw(amount);
+        return account.getBalance();
+    }
+
+    @Benchmark
+    public Money transferFee() {
+        return flatPolicy.transferFee(account, amount);
+    }
+
+    @Benchmark
+    public Money tieredTransferFee() {
+        return tieredPolicy.transferFee(account, amount);
+    }
+
+    @Benchmark
+    public Money transferLimit() {
+        return tieredPolicy.dailyLimit(account, LimitType.TRANSFER);
+    }
+
+    private static TransferPolicy tieredPolicy() {
+        Fee fee = new Fee(List.of(
+                new Bracket(new BigDecimal("10000"), BigDecimal.ZERO, new BigDecimal("500")),
+                new Bracket(new BigDecimal("1000000"), new BigDecimal("0.005"), null),
+                new Bracket(null, new BigDecimal("0.003"), null)),
+                new BigDecimal("500"), new BigDecimal("5000"), RoundingMode.HALF_UP);
+        Tier fallback = new Tier(new BigDecimal("1000000"), new BigDecimal("3000000"), fee);
+        return TransferPolicy.compile(new TransferPolicyProperties(TransferPolicy.DEFAULT_TIER, Map.of(
+                TransferPolicy.DEFAULT_TIER, fallback,
+                "VIP", new Tier(null, new BigDecimal("10000000"), null))), fallback);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.account.benchmark;
+
+import com.example.account.money.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 금액 연산 비용. 기존 BigDecimal 연산을 기준선으로 함께 측정합니다.
+ *
+ * 이체 한 건의 핫패스(수수료 계산, 잔액 비교, 출금, 입금, 한도 누적)를 같은 순서로 수행합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+    private static final BigDecimal FEE_RATE = new BigDecimal("0.01");
+
+    private final BigDecimal decimalAmount = new BigDecimal("12345.67");
+    private final BigDecimal decimalLimit = new BigDecimal("3000000.00");
+    private BigDecimal decimalFrom;
+    private BigDecimal decimalTo;
+    private BigDecimal decimalUsed;
+
+    private final Money amount = Money.ofMinor(1_234_567L);
+    private final Money limit = Money.of(3_000_000L);
+    private Money from;
+    private Money to;
+    private Money used;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        decimalFrom = new BigDecimal("1000000000.00");
+        decimalTo = BigDecimal.ZERO;
+        decimalUsed = BigDecimal.ZERO;
+        from = Money.of(1_000_000_000L);
+        to = Money.ZERO;
+        used = Money.ZERO;
+    }
+
+    @Benchmark
+    public BigDecimal transferBigDecimal() {
+        BigDecimal fee = decimalAmount.multiply(FEE_RATE).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal total = decimalAmount.add(fee);
+        if (decimalFrom.compareTo(total) < 0 || decimalUsed.add(decimalAmount).compareTo(decimalLimit) > 0) {
+            decimalUsed = BigDecimal.ZERO;
+        }
+        decimalFrom = decimalFrom.subtract(total);
+        decimalTo = decimalTo.add(decimalAmount);
+        decimalUsed = decimalUsed.add(decimalAmount);
+        return decimalFrom;
+    }
+
+    @Benchmark
+    public Money transferMoney() {
+        Money fee = amount.multiply(100L, 10_000L, RoundingMode.HALF_UP);
+        Money total = amount.plus(fee);
+        if (from.isLessThan(total) || used.plus(amount).isGreaterThan(limit)) {
+            used = Money.ZERO;
+        }
+        from = from.minus(total);
+        to = to.plus(amount);
+        used = used.plus(amount);
+        return from;
+    }
+}
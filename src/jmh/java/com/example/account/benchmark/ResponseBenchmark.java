@@ -0,0 +1,96 @@
+package com.example.account.benchmark;
+
+import com.example.account.dto.response.TransactionHistoryResponse;
+import com.example.account.dto.response.TransactionResponse;
+import com.example.account.entity.Account;
+import com.example.account.entity.Posting;
+import com.example.account.entity.Transaction;
+import com.example.account.entity.type.AccountStatus;
+import com.example.account.entity.type.TransactionStatus;
+import com.example.account.entity.type.TransactionType;
+import com.example.account.money.Money;
+import com.example.account.repository.PostingHistoryRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 내역 응답 매핑과 JSON 직렬화 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseBenchmark {
+    @Param({"20", "100"})
+    private int pageSize;
+
+    // Spring Boot 기본 설정과 같게 날짜를 ISO 문자열로 씁니다.
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private List<PostingHistoryRow> postings;
+    private TransactionResponse transactionResponse;
+    private TransactionHistoryResponse historyResponse;
+
+    @Setup
+    public void setUp() {
+        Account from = account(1L, "1000000001");
+        Account to = account(2L, "1000000002");
+        Instant now = Instant.now();
+        postings = new ArrayList<>(pageSize);
+        Transaction transaction = null;
+        for (int i = 0; i < pageSize; i++) {
+            transaction = Transaction.builder()
+                    .id((long) i)
+                    .transactionId("TRX0A88YDDC4" + String.format("%04d", i))
+                    .fromAccount(from)
+                    .toAccount(to)
+                    .amount(Money.of(10_000L))
+                    .fee(Money.of(100L))
+                    .type(TransactionType.TRANSFER)
+                    .status(TransactionStatus.COMPLETED)
+                    .createdAt(now.minusSeconds(i))
+                    .build();
+            Posting posting = Posting.debit(transaction, from.getId(), Money.of(1_000_000L), to);
+            postings.add(new PostingHistoryRow((long) i, posting.getTransactionId(), posting.getType(), posting.getAmount(),
+                    posting.getFee(), posting.getCounterpartyAccountNumber(), posting.getBalanceAfter(), posting.getCreatedAt()));
+        }
+        transactionResponse = TransactionResponse.from(transaction);
+        historyResponse = TransactionHistoryResponse.from(from.getAccountNumber(), postings, 10, 10L * pageSize, true);
+    }
+
+    @Benchmark
+    public TransactionHistoryResponse mapHistory() {
+        return TransactionHistoryResponse.from("1000000001", postings, 10, 10L * pageSize, true);
+    }
+
+    @Benchmark
+    public byte[] serializeHistory() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(historyResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeTransaction() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(transactionResponse);
+    }
+
+    private Account account(Long id, String accountNumber) {
+        return Account.builder()
+                .id(id)
+                .accountNumber(accountNumber)
+                .balance(Money.of(1_000_000L))
+                .dailyWithdrawLimit(Money.of(1_000_000L))
+                .dailyTransferLimit(Money.of(3_000_000L))
+                .status(AccountStatus.ACTIVE)
+                .build();
+    }
+}
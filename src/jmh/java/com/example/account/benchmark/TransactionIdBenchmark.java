@@ -0,0 +1,38 @@
+package com.example.account.benchmark;
+
+import com.example.account.id.TransactionIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 ID 발급 비용. 기존 UUID 기반 방식을 기준선으로 함께 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionIdBenchmark {
+    private final TransactionIdGenerator generator = new TransactionIdGenerator(1);
+
+    @Benchmark
+    public long nextId() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    public String nextTransactionId() {
+        return generator.nextTransactionId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String nextTransactionIdContended() {
+        return generator.nextTransactionId();
+    }
+
+    @Benchmark
+    public String uuidBaseline() {
+        return "TRX" + UUID.randomUUID().toString().replace("-", "").substring(0, 8).toUpperCase();
+    }
+}
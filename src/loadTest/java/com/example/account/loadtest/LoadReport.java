@@ -0,0 +1,62 @@
+package com.example.account.loadtest;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * 시나리오 한 번의 실행 결과
+ *
+ * @param succeeded 성공한 요청 수
+ * @param lockFailures 락 획득 실패(409) 수
+ * @param rejected 잔액 부족, 한도 초과 등 업무 규칙으로 거절된(4xx) 수
+ * @param errors 그 밖의 실패(5xx, 연결 오류) 수
+ * @param expectedTotal 성공한 이체의 수수료만큼 줄어든 기대 잔액 합계
+ * @param actualTotal 실행 후 DB 의 잔액 합계
+ */
+public record LoadReport(
+        LoadScenario scenario,
+        int concurrency,
+        double durationSeconds,
+        long succeeded,
+        long lockFailures,
+        long rejected,
+        long errors,
+        double throughputPerSecond,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis,
+        BigDecimal expectedTotal,
+        BigDecimal actualTotal) {
+
+    static LoadReport of(LoadScenario scenario, int concurrency, long elapsedNanos, long[] latencyNanos,
+                         long succeeded, long lockFailures, long rejected, long errors,
+                         BigDecimal expectedTotal, BigDecimal actualTotal) {
+        Arrays.sort(latencyNanos);
+        double seconds = elapsedNanos / 1e9;
+        return new LoadReport(scenario, concurrency, seconds, succeeded, lockFailures, rejected, errors,
+                latencyNanos.length / seconds,
+                percentile(latencyNanos, 0.50), percentile(latencyNanos, 0.95), percentile(latencyNanos, 0.99),
+                latencyNanos.length == 0 ? 0 : latencyNanos[latencyNanos.length - 1] / 1e6,
+                expectedTotal, actualTotal);
+    }
+
+    boolean balanceConserved() {
+        return expectedTotal.compareTo(actualTotal) == 0;
+    }
+
+    String summary() {
+        return String.format("%-20s %8.1f req/s  p50 %7.2fms  p95 %7.2fms  p99 %7.2fms  max %8.2fms  "
+                        + "ok %d  lock-fail %d  rejected %d  error %d  balance %s",
+                scenario, throughputPerSecond, p50Millis, p95Millis, p99Millis, maxMillis,
+                succeeded, lockFailures, rejected, errors, balanceConserved() ? "OK" : "MISMATCH");
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
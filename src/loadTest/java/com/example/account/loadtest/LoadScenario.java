@@ -0,0 +1,81 @@
+package com.example.account.loadtest;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 시나리오별 요청 생성 규칙
+ */
+public enum LoadScenario {
+    /**
+     * 모든 계좌에서 고르게 이체
+     */
+    UNIFORM {
+        @Override
+        Operation next(Random random, List<String> accounts) {
+            int from = random.nextInt(accounts.size());
+            int to = (from + 1 + random.nextInt(accounts.size() - 1)) % accounts.size();
+            return Operation.transfer(accounts.get(from), accounts.get(to), amount(random));
+        }
+    },
+    /**
+     * 이체의 90% 가 소수의 인기 계좌를 출금 또는 입금 계좌로 사용
+     */
+    HOT_ACCOUNTS {
+        @Override
+        Operation next(Random random, List<String> accounts) {
+            if (random.nextInt(10) == 0) {
+                return UNIFORM.next(random, accounts);
+            }
+            String hot = accounts.get(random.nextInt(HOT_ACCOUNT_COUNT));
+            String other = accounts.get(HOT_ACCOUNT_COUNT + random.nextInt(accounts.size() - HOT_ACCOUNT_COUNT));
+            return random.nextBoolean()
+                    ? Operation.transfer(hot, other, amount(random))
+                    : Operation.transfer(other, hot, amount(random));
+        }
+    },
+    /**
+     * 고정된 계좌 쌍 안에서 양방향으로 동시에 이체 (교착 상태 검증)
+     */
+    BIDIRECTIONAL_PAIRS {
+        @Override
+        Operation next(Random random, List<String> accounts) {
+            int pair = random.nextInt(accounts.size() / 2) * 2;
+            String a = accounts.get(pair);
+            String b = accounts.get(pair + 1);
+            return random.nextBoolean()
+                    ? Operation.transfer(a, b, amount(random))
+                    : Operation.transfer(b, a, amount(random));
+        }
+    },
+    /**
+     * 계좌 조회 70%, 이체 30%
+     */
+    MIXED_READ_WRITE {
+        @Override
+        Operation next(Random random, List<String> accounts) {
+            if (random.nextInt(10) < 7) {
+                return Operation.read(accounts.get(random.nextInt(accounts.size())));
+            }
+            return UNIFORM.next(random, accounts);
+        }
+    };
+
+    static final int HOT_ACCOUNT_COUNT = 5;
+
+    abstract Operation next(Random random, List<String> accounts);
+
+    private static long amount(Random random) {
+        return 1 + random.nextInt(100);
+    }
+
+    record Operation(boolean transfer, String fromAccount, String toAccount, long amount) {
+        static Operation transfer(String from, String to, long amount) {
+            return new Operation(true, from, to, amount);
+        }
+
+        static Operation read(String accountNumber) {
+            return new Operation(false, accountNumber, null, 0);
+        }
+    }
+}
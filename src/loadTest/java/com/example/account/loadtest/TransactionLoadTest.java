@@ -0,0 +1,214 @@
+package com.example.account.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 MySQL, Redis 컨테이너 위에서 거래 API 에 동시 부하를 걸고 처리량, 지연 시간, 락 실패, 잔액 보존을 확인합니다.
+ *
+ * {@code ./gradlew loadTest} 로 실행하며 Docker 가 필요합니다. 결과는 로그와
+ * {@code build/reports/loadtest/<시나리오>.json} 에 남습니다. 설정은 {@code -Ploadtest.xxx=값} 으로 바꿉니다.
+ * <ul>
+ *     <li>{@code loadtest.concurrency} 동시 요청 수 (기본 64)</li>
+ *     <li>{@code loadtest.duration-seconds} 시나리오별 실행 시간 (기본 20)</li>
+ *     <li>{@code loadtest.accounts} 계좌 수 (기본 200)</li>
+ *     <li>{@code loadtest.profiles} 추가로 활성화할 프로필 (예: virtual-threads, single-node)</li>
+ * </ul>
+ */
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TransactionLoadTest {
+    private static final Logger log = LoggerFactory.getLogger(TransactionLoadTest.class);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 64);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 20);
+    private static final int ACCOUNTS = Integer.getInteger("loadtest.accounts", 200);
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000");
+    private static final Path REPORT_DIR = Path.of("build", "reports", "loadtest");
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("wirebarley");
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.redis.host", REDIS::getHost);
+        registry.add("spring.redis.port", () -> REDIS.getMappedPort(6379));
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("logging.level.com.example.account", () -> "INFO");
+    }
+
+    // 시나리오 사이에 계좌를 공유합니다.
+    private static final List<String> accountNumbers = new ArrayList<>();
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @EnumSource(LoadScenario.class)
+    void run(LoadScenario scenario) throws Exception {
+        setUpAccounts();
+        BigDecimal before = totalBalance();
+        LongAdder succeeded = new LongAdder();
+        LongAdder lockFailures = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        LongAdder errors = new LongAdder();
+        // 성공한 이체의 수수료는 계좌 밖으로 나가므로 기대 합계에서 뺍니다.
+        AtomicLong feeCents = new AtomicLong();
+
+        long deadline = System.nanoTime() + DURATION_SECONDS * 1_000_000_000L;
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        List<Future<long[]>> workers = new ArrayList<>();
+        long startedAt = System.nanoTime();
+        for (int w = 0; w < CONCURRENCY; w++) {
+            Random random = new Random(w);
+            workers.add(executor.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    LoadScenario.Operation operation = scenario.next(random, accountNumbers);
+                    long start = System.nanoTime();
+                    int status;
+                    String body;
+                    try {
+                        HttpResponse<String> response = send(operation);
+                        status = response.statusCode();
+                        body = response.body();
+                    } catch (IOException e) {
+                        status = -1;
+                        body = null;
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - start;
+
+                    if (status == 200) {
+                        succeeded.increment();
+                        if (operation.transfer()) {
+                            JsonNode fee = objectMapper.readTree(body).get("fee");
+                            feeCents.addAndGet(fee.decimalValue().movePointRight(2).longValueExact());
+                        }
+                    } else if (status == 409) {
+                        lockFailures.increment();
+                    } else if (status >= 400 && status < 500) {
+                        rejected.increment();
+                    } else {
+                        errors.increment();
+                    }
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+        List<long[]> results = new ArrayList<>();
+        for (Future<long[]> worker : workers) {
+            results.add(worker.get());
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        long[] latencies = results.stream().flatMapToLong(Arrays::stream).toArray();
+        BigDecimal expected = before.subtract(BigDecimal.valueOf(feeCents.get(), 2));
+        LoadReport report = LoadReport.of(scenario, CONCURRENCY, elapsed, latencies,
+                succeeded.sum(), lockFailures.sum(), rejected.sum(), errors.sum(), expected, totalBalance());
+
+        log.info(report.summary());
+        Files.createDirectories(REPORT_DIR);
+        objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValue(REPORT_DIR.resolve(scenario.name().toLowerCase() + ".json").toFile(), report);
+
+        assertThat(report.balanceConserved())
+                .as("잔액 합계 (기대 %s, 실제 %s)", report.expectedTotal(), report.actualTotal())
+                .isTrue();
+    }
+
+    private void setUpAccounts() throws Exception {
+        if (!accountNumbers.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String accountNumber = String.format("9%09d", i);
+            post("/api/accounts", "{\"accountNumber\":\"" + accountNumber + "\"}");
+            post("/api/transactions/deposit",
+                    "{\"accountNumber\":\"" + accountNumber + "\",\"amount\":" + INITIAL_BALANCE + "}");
+            accountNumbers.add(accountNumber);
+        }
+    }
+
+    private HttpResponse<String> send(LoadScenario.Operation operation) throws IOException, InterruptedException {
+        if (!operation.transfer()) {
+            HttpRequest request = HttpRequest.newBuilder(uri("/api/accounts/" + operation.fromAccount())).GET().build();
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        }
+        return post("/api/transactions/transfer", "{\"fromAccountNumber\":\"" + operation.fromAccount()
+                + "\",\"toAccountNumber\":\"" + operation.toAccount()
+                + "\",\"amount\":" + operation.amount() + "}");
+    }
+
+    private HttpResponse<String> post(String path, String json) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    /**
+     * 잔액 분할 계좌는 입금이 슬롯에 쌓이므로 계좌 행과 슬롯 잔액을 함께 더합니다.
+     */
+    private BigDecimal totalBalance() {
+        return jdbcTemplate.queryForObject("""
+                SELECT (SELECT COALESCE(SUM(balance), 0) FROM accounts)
+                     + (SELECT COALESCE(SUM(balance), 0) FROM account_balance_slots)
+                """, BigDecimal.class);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.account.balance;
+
+import com.example.account.repository.BalanceCheckpointJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지난 날짜의 계좌별 마감 잔액 체크포인트를 주기적으로 기록합니다.
+ *
+ * 마지막으로 기록한 날짜 다음 날부터 마감이 끝난 날짜까지 하루씩 기록합니다. 지연 기록 모드와 원장 모드에서는
+ * 분개가 거래 시각보다 늦게 저장되므로, 날짜가 바뀐 뒤 {@code settle-minutes} 가 지나야 그날을 마감하고,
+ * 그 뒤에 도착한 분개도 반영되도록 최근 {@code reclose-days} 일은 실행할 때마다 오래된 날짜부터 다시 마감합니다.
+ * 같은 날짜를 다시 기록해도 결과가 같으므로 여러 인스턴스에서 함께 실행해도 됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceCheckpointWriter {
+    private final BalanceCheckpointJdbcRepository checkpointRepository;
+
+    @Value("${transfer.zone-id:Asia/Seoul}")
+    private ZoneId zoneId;
+
+    @Value("${account.balance-checkpoint.interval-minutes:60}")
+    private long intervalMinutes;
+
+    @Value("${account.balance-checkpoint.settle-minutes:10}")
+    private long settleMinutes;
+
+    @Value("${account.balance-checkpoint.max-days-per-run:31}")
+    private int maxDaysPerRun;
+
+    @Value("${account.balance-checkpoint.reclose-days:3}")
+    private int recloseDays;
+
+    // 분개가 없는 날은 체크포인트가 남지 않으므로 확인을 마친 날짜를 따로 기억합니다.
+    private LocalDate lastChecked;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "balance-checkpoint-writer"));
+        scheduler.scheduleWithFixedDelay(this::writePendingDays, 1, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 아직 기록하지 않은 마감 날짜와 최근 {@code reclose-days} 일의 체크포인트를 기록합니다.
+     * 한 번에 최대 {@code max-days-per-run} 일까지 기록합니다.
+     */
+    void writePendingDays() {
+        writePendingDays(Instant.now());
+    }
+
+    void writePendingDays(Instant now) {
+        try {
+            LocalDate lastClosed = LocalDate.ofInstant(now.minus(settleMinutes, ChronoUnit.MINUTES), zoneId).minusDays(1);
+            LocalDate next = nextDate();
+            if (next != null && recloseDays > 0) {
+                LocalDate recloseFrom = lastClosed.minusDays(recloseDays - 1);
+                if (recloseFrom.isBefore(next)) {
+                    next = recloseFrom;
+                }
+            }
+            for (int i = 0; i < maxDaysPerRun && next != null && !next.isAfter(lastClosed)
+                    && !Thread.currentThread().isInterrupted(); i++) {
+                Instant from = next.atStartOfDay(zoneId).toInstant();
+                Instant to = next.plusDays(1).atStartOfDay(zoneId).toInstant();
+                int written = checkpointRepository.writeDay(next, from, to);
+                if (written > 0) {
+                    log.info("마감 잔액 체크포인트 {}건 기록 ({})", written, next);
+                }
+                lastChecked = next;
+                next = next.plusDays(1);
+            }
+        } catch (RuntimeException e) {
+            log.error("마감 잔액 체크포인트 기록 실패", e);
+        }
+    }
+
+    /**
+     * 다음에 기록할 날짜. 분개가 하나도 없으면 null 입니다.
+     */
+    private LocalDate nextDate() {
+        LocalDate latest = checkpointRepository.findLatestDate()
+                .or(() -> checkpointRepository.findFirstPostingAt().map(at -> LocalDate.ofInstant(at, zoneId).minusDays(1)))
+                .orElse(null);
+        if (latest == null) {
+            return null;
+        }
+        if (lastChecked != null && lastChecked.isAfter(latest)) {
+            latest = lastChecked;
+        }
+        return latest.plusDays(1);
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.account.cache;
+
+import com.example.account.dto.response.AccountResponse;
+import com.example.account.lock.AccountLockManager;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 계좌 조회 결과({@link AccountResponse})의 2단계 캐시
+ *
+ * 1단계는 프로세스 내부의 Caffeine 캐시(크기, TTL 제한), 2단계는 Redis 입니다.
+ * 잔액이나 상태가 바뀌면 트랜잭션 커밋 후 계좌 락이 풀린 뒤에 두 단계 모두에서 제거하고, 다른 노드의 1단계 캐시는
+ * Redis 토픽으로 무효화를 전파합니다. 조회 도중 무효화된 결과는 캐시에 다시 넣지 않습니다.
+ *
+ * 다른 노드의 무효화는 토픽 메시지가 도착하기 전까지 알 수 없으므로, Redis 에서는 키를 지우는 대신 짧은 TTL 의
+ * 묘비(tombstone)를 남기고 값은 키가 비어 있을 때만 씁니다. 무효화 전에 낡은 행을 읽은 노드가 무효화 뒤에
+ * 값을 쓰려 해도 묘비가 남아 있는 동안에는 거절되므로, 묘비 TTL 은 DB 조회에 걸리는 시간보다 길어야 합니다.
+ * Redis 장애 시에는 DB 조회로 대체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountCache {
+    private static final String KEY_PREFIX = "account-cache:";
+    private static final String INVALIDATION_TOPIC = "account-cache:invalidate";
+    private static final String TOMBSTONE = "-";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${account.cache.local.maximum-size:10000}")
+    private long localMaximumSize;
+
+    @Value("${account.cache.local.ttl-seconds:5}")
+    private long localTtlSeconds;
+
+    @Value("${account.cache.redis.ttl-seconds:60}")
+    private long redisTtlSeconds;
+
+    @Value("${account.cache.redis.tombstone-seconds:5}")
+    private long redisTombstoneSeconds;
+
+    private Cache<String, CachedAccount> localCache;
+    private Cache<String, Long> invalidatedAt;
+    private RTopic invalidationTopic;
+    private int listenerId;
+    private Counter redisHits;
+    private Counter redisMisses;
+    private Counter invalidations;
+    private Timer entryAge;
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        invalidatedAt = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "account.local");
+
+        redisHits = meterRegistry.counter("account.cache.redis.requests", "result", "hit");
+        redisMisses = meterRegistry.counter("account.cache.redis.requests", "result", "miss");
+        invalidations = meterRegistry.counter("account.cache.invalidations");
+        entryAge = Timer.builder("account.cache.entry.age")
+                .description("조회 시점에 반환한 캐시 항목이 만들어진 뒤 지난 시간")
+                .register(meterRegistry);
+
+        invalidationTopic = redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+        listenerId = invalidationTopic.addListener(String.class, (channel, accountNumber) -> evictLocal(accountNumber));
+    }
+
+    @PreDestroy
+    public void destroy() {
+        invalidationTopic.removeListener(listenerId);
+    }
+
+    /**
+     * 캐시에서 계좌 정보를 조회하고, 없으면 loader 로 조회해 캐시에 저장합니다.
+     *
+     * @param accountNumber 계좌번호
+     * @param loader 캐시에 없을 때 DB에서 조회하는 함수
+     * @return 계좌 정보
+     */
+    public AccountResponse get(String accountNumber, Supplier<AccountResponse> loader) {
+        CachedAccount cached = localCache.getIfPresent(accountNumber);
+        if (cached == null) {
+            long loadStartedAt = System.nanoTime();
+            cached = readRedis(accountNumber);
+            boolean loaded = cached == null;
+            if (loaded) {
+                cached = new CachedAccount(loader.get(), Instant.now());
+            }
+            // 조회하는 동안 무효화되었다면 이미 낡은 값일 수 있으므로 캐시에 넣지 않습니다.
+            if (!invalidatedSince(accountNumber, loadStartedAt) && (!loaded || writeRedis(accountNumber, cached))) {
+                localCache.put(accountNumber, cached);
+            }
+        }
+        entryAge.record(Duration.between(cached.cachedAt(), Instant.now()));
+        return cached.account();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되고 계좌 락이 해제된 뒤 계좌 캐시를 무효화합니다. 트랜잭션이 없으면 즉시 무효화합니다.
+     * Redis 호출이 락을 잡고 있는 시간에 더해지지 않도록 {@link AccountLockManager} 의 해제보다 뒤에 실행합니다.
+     *
+     * @param accountNumbers 변경된 계좌번호
+     */
+    public void evictAfterCommit(Collection<String> accountNumbers) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accountNumbers.forEach(this::evict);
+            return;
+        }
+        List<String> snapshot = List.copyOf(accountNumbers);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return AccountLockManager.RELEASE_ORDER + 1;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    snapshot.forEach(AccountCache.this::evict);
+                }
+            }
+        });
+    }
+
+    public void evictAfterCommit(String... accountNumbers) {
+        evictAfterCommit(List.of(accountNumbers));
+    }
+
+    private void evict(String accountNumber) {
+        invalidations.increment();
+        evictLocal(accountNumber);
+        try {
+            bucket(accountNumber).set(TOMBSTONE, Duration.ofSeconds(redisTombstoneSeconds));
+            invalidationTopic.publish(accountNumber);
+        } catch (RuntimeException e) {
+            log.warn("계좌 캐시 무효화 실패 (Redis TTL 이후 만료): {}", accountNumber, e);
+        }
+    }
+
+    private boolean invalidatedSince(String accountNumber, long nanoTime) {
+        Long invalidated = invalidatedAt.getIfPresent(accountNumber);
+        return invalidated != null && invalidated - nanoTime >= 0;
+    }
+
+    private void evictLocal(String accountNumber) {
+        invalidatedAt.put(accountNumber, System.nanoTime());
+        localCache.invalidate(accountNumber);
+    }
+
+    private CachedAccount readRedis(String accountNumber) {
+        try {
+            String json = bucket(accountNumber).get();
+            if (json == null || TOMBSTONE.equals(json)) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            return objectMapper.readValue(json, CachedAccount.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("계좌 캐시 조회 실패: {}", accountNumber, e);
+            return null;
+        }
+    }
+
+    /**
+     * 키가 비어 있을 때만 저장합니다.
+     *
+     * @return 저장했거나 Redis 장애로 건너뛰었으면 true, 묘비나 다른 값이 있어 거절되었으면 false
+     */
+    private boolean writeRedis(String accountNumber, CachedAccount cached) {
+        try {
+            return bucket(accountNumber).setIfAbsent(objectMapper.writeValueAsString(cached),
+                    Duration.ofSeconds(redisTtlSeconds));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("계좌 캐시 저장 실패: {}", accountNumber, e);
+            return true;
+        }
+    }
+
+    private RBucket<String> bucket(String accountNumber) {
+        return redissonClient.getBucket(KEY_PREFIX + accountNumber, StringCodec.INSTANCE);
+    }
+
+    /**
+     * 캐시 항목
+     *
+     * @param account 계좌 정보
+     * @param cachedAt DB에서 조회한 시각
+     */
+    record CachedAccount(AccountResponse account, Instant cachedAt) {
+    }
+}
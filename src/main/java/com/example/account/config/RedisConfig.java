@@ -15,11 +15,19 @@ public class RedisConfig {
     @Value("${spring.redis.port}")
     private int port;
 
+    @Value("${spring.redis.connection-pool-size:64}")
+    private int connectionPoolSize;
+
+    @Value("${spring.redis.connection-minimum-idle-size:24}")
+    private int connectionMinimumIdleSize;
+
     @Bean
     public RedissonClient redissonClient() {
         Config config = new Config();
         config.useSingleServer()
-                .setAddress("redis://" + host + ":" + port);
+                .setAddress("redis://" + host + ":" + port)
+                .setConnectionPoolSize(connectionPoolSize)
+                .setConnectionMinimumIdleSize(connectionMinimumIdleSize);
         return Redisson.create(config);
     }
 }
\ No newline at end of file
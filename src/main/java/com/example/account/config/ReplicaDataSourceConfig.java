@@ -0,0 +1,87 @@
+package com.example.account.config;
+
+import com.example.account.replica.ReplicaHealthMonitor;
+import com.example.account.replica.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 복제 DB 로 보내는 데이터소스 구성 ({@code replica.enabled=true} 인 경우에만)
+ *
+ * 주 DB 풀은 spring.datasource 설정으로, 복제 DB 풀은 replica.urls 의 주소마다 하나씩 만듭니다.
+ * 애플리케이션이 사용하는 데이터소스는 둘을 라우팅하는 지연 커넥션 프록시입니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+    @Value("${replica.urls}")
+    private List<String> urls;
+
+    @Value("${replica.username:${spring.datasource.username:}}")
+    private String username;
+
+    @Value("${replica.password:${spring.datasource.password:}}")
+    private String password;
+
+    @Value("${replica.pool-size:10}")
+    private int poolSize;
+
+    @Value("${replica.max-lag-seconds:5}")
+    private long maxLagSeconds;
+
+    @Value("${replica.health-check-interval-millis:1000}")
+    private long healthCheckIntervalMillis;
+
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        // 자동 구성 풀과 같은 spring.datasource.hikari 설정을 적용합니다.
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(urls.get(i).trim());
+            dataSource.setUsername(username);
+            dataSource.setPassword(password);
+            dataSource.setDriverClassName(properties.determineDriverClassName());
+            dataSource.setMaximumPoolSize(poolSize);
+            dataSource.setReadOnly(true);
+            replicas.put(dataSource.getPoolName(), dataSource);
+        }
+        return new ReplicaHealthMonitor(replicas, maxLagSeconds, healthCheckIntervalMillis, meterRegistry);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaHealthMonitor replicaHealthMonitor) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaHealthMonitor.dataSources(), replicaHealthMonitor);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
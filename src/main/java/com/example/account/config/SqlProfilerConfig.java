@@ -0,0 +1,17 @@
+package com.example.account.config;
+
+import com.example.account.sql.SqlProfiler;
+import com.example.account.sql.SqlProfilingFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "db.profiler", name = "enabled", havingValue = "true")
+public class SqlProfilerConfig {
+
+    @Bean
+    public SqlProfilingFilter sqlProfilingFilter(SqlProfiler sqlProfiler) {
+        return new SqlProfilingFilter(sqlProfiler);
+    }
+}
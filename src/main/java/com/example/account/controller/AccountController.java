@@ -2,16 +2,31 @@ package com.example.account.controller;
 
 import com.example.account.dto.request.AccountCreateRequest;
 import com.example.account.dto.response.AccountResponse;
+import com.example.account.dto.response.BalanceResponse;
+import com.example.account.dto.response.TransactionCursorResponse;
 import com.example.account.dto.response.TransactionHistoryResponse;
+import com.example.account.ledger.LedgerEngine;
 import com.example.account.service.AccountService;
+import com.example.account.service.ExportFormat;
+import com.example.account.service.TransactionExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 
 @Tag(name = "Account", description = "계좌 관리 API")
 @RestController
@@ -20,6 +35,8 @@ import org.springframework.web.bind.annotation.*;
 public class AccountController {
 
     private final AccountService accountService;
+    private final TransactionExportService transactionExportService;
+    private final ObjectProvider<LedgerEngine> ledgerEngineProvider;
 
     @Operation(summary = "계좌 생성", description = "새로운 계좌를 생성합니다.")
     @ApiResponses({
@@ -43,6 +60,10 @@ public class AccountController {
     public ResponseEntity<AccountResponse> getAccount(
             @Parameter(description = "계좌번호", required = true)
             @PathVariable String accountNumber) {
+        LedgerEngine ledgerEngine = ledgerEngineProvider.getIfAvailable();
+        if (ledgerEngine != null) {
+            return ResponseEntity.ok(ledgerEngine.getAccount(accountNumber));
+        }
         return ResponseEntity.ok(accountService.getAccount(accountNumber));
     }
 
@@ -56,10 +77,32 @@ public class AccountController {
     public ResponseEntity<Void> deleteAccount(
             @Parameter(description = "계좌번호", required = true)
             @PathVariable String accountNumber) {
-        accountService.deleteAccount(accountNumber);
+        LedgerEngine ledgerEngine = ledgerEngineProvider.getIfAvailable();
+        if (ledgerEngine != null) {
+            ledgerEngine.deactivate(accountNumber);
+        } else {
+            accountService.deleteAccount(accountNumber);
+        }
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(summary = "시점 잔액 조회",
+            description = "지정한 시각 이전의 거래까지 반영한 잔액을 조회합니다. 시각을 생략하면 현재 시각 기준입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "잔액 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/{accountNumber}/balance")
+    public ResponseEntity<BalanceResponse> getBalanceAt(
+            @Parameter(description = "계좌번호", required = true)
+            @PathVariable String accountNumber,
+            @Parameter(description = "기준 시각 (ISO-8601, 예: 2025-01-02T00:00:00+09:00)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime at) {
+        Instant instant = at != null ? at.toInstant() : Instant.now();
+        return ResponseEntity.ok(accountService.getBalanceAt(accountNumber, instant));
+    }
+
     @Operation(summary = "거래 내역 조회", description = "계좌의 거래 내역을 페이지 단위로 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "거래 내역 조회 성공"),
@@ -76,4 +119,52 @@ public class AccountController {
             @RequestParam(defaultValue = "20") int size) {
         return ResponseEntity.ok(accountService.getTransactionHistory(accountNumber, page, size));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "거래 내역 커서 조회",
+            description = "계좌의 거래 내역을 최신순으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "거래 내역 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/{accountNumber}/transactions/cursor")
+    public ResponseEntity<TransactionCursorResponse> getTransactionHistoryByCursor(
+            @Parameter(description = "계좌번호", required = true)
+            @PathVariable String accountNumber,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        return ResponseEntity.ok(accountService.getTransactionHistory(accountNumber, cursor, pageSize));
+    }
+
+    @Operation(summary = "거래 내역 내보내기",
+            description = "계좌의 거래 내역 전체를 오래된 순으로 NDJSON 또는 CSV 로 스트리밍합니다. 기간은 거래일 기준이며 양 끝을 포함합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "내보내기 시작"),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/{accountNumber}/transactions/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactionHistory(
+            @Parameter(description = "계좌번호", required = true)
+            @PathVariable String accountNumber,
+            @Parameter(description = "형식 (NDJSON, CSV)", example = "NDJSON")
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @Parameter(description = "시작일 (생략 시 처음부터)", example = "2024-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (생략 시 끝까지)", example = "2024-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long accountId = transactionExportService.getAccountId(accountNumber);
+        StreamingResponseBody body = out -> transactionExportService.export(accountId, from, to, format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(accountNumber + "-transactions." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
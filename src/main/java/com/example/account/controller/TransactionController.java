@@ -1,8 +1,13 @@
 package com.example.account.controller;
 
+import com.example.account.dto.request.BatchTransactionRequest;
 import com.example.account.dto.request.TransactionRequest;
 import com.example.account.dto.request.TransferRequest;
+import com.example.account.dto.response.BatchTransactionResponse;
 import com.example.account.dto.response.TransactionResponse;
+import com.example.account.ledger.LedgerEngine;
+import com.example.account.service.BatchTransactionService;
+import com.example.account.service.TransactionCoalescer;
 import com.example.account.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,6 +18,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,6 +31,9 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "거래 API", description = "입금, 출금, 계좌이체 관련 API")
 public class TransactionController {
     private final TransactionService transactionService;
+    private final BatchTransactionService batchTransactionService;
+    private final ObjectProvider<LedgerEngine> ledgerEngineProvider;
+    private final ObjectProvider<TransactionCoalescer> coalescerProvider;
 
     /**
      * 계좌 입금을 처리합니다.
@@ -43,6 +52,14 @@ public class TransactionController {
     public ResponseEntity<TransactionResponse> deposit(
             @Parameter(description = "입금 요청 정보", required = true)
             @Valid @RequestBody TransactionRequest request) {
+        LedgerEngine ledgerEngine = ledgerEngineProvider.getIfAvailable();
+        if (ledgerEngine != null) {
+            return ResponseEntity.ok(ledgerEngine.deposit(request));
+        }
+        TransactionCoalescer coalescer = coalescerProvider.getIfAvailable();
+        if (coalescer != null) {
+            return ResponseEntity.ok(coalescer.deposit(request));
+        }
         return ResponseEntity.ok(transactionService.deposit(request));
     }
 
@@ -62,6 +79,14 @@ public class TransactionController {
     public ResponseEntity<TransactionResponse> withdraw(
             @Parameter(description = "출금 요청 정보", required = true)
             @Valid @RequestBody TransactionRequest request) {
+        LedgerEngine ledgerEngine = ledgerEngineProvider.getIfAvailable();
+        if (ledgerEngine != null) {
+            return ResponseEntity.ok(ledgerEngine.withdraw(request));
+        }
+        TransactionCoalescer coalescer = coalescerProvider.getIfAvailable();
+        if (coalescer != null) {
+            return ResponseEntity.ok(coalescer.withdraw(request));
+        }
         return ResponseEntity.ok(transactionService.withdraw(request));
     }
 
@@ -81,6 +106,37 @@ public class TransactionController {
     public ResponseEntity<TransactionResponse> transfer(
             @Parameter(description = "이체 요청 정보", required = true)
             @Valid @RequestBody TransferRequest request) {
+        LedgerEngine ledgerEngine = ledgerEngineProvider.getIfAvailable();
+        if (ledgerEngine != null) {
+            return ResponseEntity.ok(ledgerEngine.transfer(request));
+        }
+        TransactionCoalescer coalescer = coalescerProvider.getIfAvailable();
+        if (coalescer != null) {
+            return ResponseEntity.ok(coalescer.transfer(request));
+        }
         return ResponseEntity.ok(transactionService.transfer(request));
     }
+
+    /**
+     * 여러 건의 입금, 출금, 이체를 일괄 처리합니다.
+     *
+     * @param request 일괄 거래 요청 정보
+     * @return 항목별 처리 결과
+     */
+    @Operation(summary = "일괄 거래", description = "여러 건의 입금, 출금, 이체를 한 번에 처리하고 항목별 결과를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "일괄 처리 완료 (항목별 성공/실패 포함)",
+                    content = @Content(schema = @Schema(implementation = BatchTransactionResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchTransactionResponse> batch(
+            @Parameter(description = "일괄 거래 요청 정보", required = true)
+            @Valid @RequestBody BatchTransactionRequest request) {
+        LedgerEngine ledgerEngine = ledgerEngineProvider.getIfAvailable();
+        if (ledgerEngine != null) {
+            return ResponseEntity.ok(ledgerEngine.executeBatch(request));
+        }
+        return ResponseEntity.ok(batchTransactionService.execute(request));
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.example.account.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -13,4 +14,8 @@ public class AccountCreateRequest {
     @NotBlank(message = "계좌번호는 필수입니다.")
     @Pattern(regexp = "^\\d{10}$", message = "계좌번호는 10자리 숫자여야 합니다.")
     private String accountNumber;
+
+    // 계좌 등급 (생략하면 기본 등급)
+    @Size(max = 32, message = "등급은 32자 이하여야 합니다.")
+    private String tier;
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.example.account.dto.request;
+
+import com.example.account.entity.type.TransactionType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTransactionRequest {
+    @NotEmpty(message = "거래 항목은 1건 이상이어야 합니다.")
+    @Size(max = 1000, message = "거래 항목은 최대 1000건까지 요청할 수 있습니다.")
+    private List<@Valid Item> items;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        @NotNull(message = "거래 유형은 필수입니다.")
+        private TransactionType type;
+
+        /**
+         * 입금/출금 대상 계좌 또는 이체 출금 계좌
+         */
+        @NotBlank(message = "계좌번호는 필수입니다.")
+        private String accountNumber;
+
+        /**
+         * 이체 입금 계좌 (이체인 경우에만 사용)
+         */
+        private String toAccountNumber;
+
+        @NotNull(message = "거래금액은 필수입니다.")
+        @Positive(message = "거래금액은 0보다 커야 합니다.")
+        @Digits(integer = 16, fraction = 2, message = "거래금액은 소수점 둘째 자리까지 입력할 수 있습니다.")
+        private BigDecimal amount;
+    }
+}
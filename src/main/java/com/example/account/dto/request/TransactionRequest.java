@@ -1,5 +1,6 @@
 package com.example.account.dto.request;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
@@ -18,5 +19,6 @@ public class TransactionRequest {
     private String accountNumber;
 
     @Positive(message = "거래금액은 0보다 커야 합니다.")
+    @Digits(integer = 16, fraction = 2, message = "거래금액은 소수점 둘째 자리까지 입력할 수 있습니다.")
     private BigDecimal amount;
 }
\ No newline at end of file
@@ -1,24 +1,30 @@
 package com.example.account.dto.response;
 
 import com.example.account.entity.Account;
+import com.example.account.money.Money;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 
 @Getter
 @Builder
+@Jacksonized
 public class AccountResponse {
     private String accountNumber;
-    private BigDecimal balance;
+    private Money balance;
     private String status;
     private Instant createdAt;
 
     public static AccountResponse from(Account account) {
+        return from(account, account.getBalance());
+    }
+
+    public static AccountResponse from(Account account, Money balance) {
         return AccountResponse.builder()
                 .accountNumber(account.getAccountNumber())
-                .balance(account.getBalance())
+                .balance(balance)
                 .status(account.getStatus().name())
                 .createdAt(account.getCreatedAt())
                 .build();
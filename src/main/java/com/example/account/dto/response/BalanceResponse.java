@@ -0,0 +1,15 @@
+package com.example.account.dto.response;
+
+import com.example.account.money.Money;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+public class BalanceResponse {
+    private String accountNumber;
+    private Money balance;
+    private Instant at;
+}
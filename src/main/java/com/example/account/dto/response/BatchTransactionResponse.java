@@ -0,0 +1,59 @@
+package com.example.account.dto.response;
+
+import com.example.account.exception.ErrorCode;
+import com.example.account.money.Money;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BatchTransactionResponse {
+    private int successCount;
+    private int failureCount;
+    private List<ItemResult> results;
+
+    @Getter
+    @Builder
+    public static class ItemResult {
+        private int index;
+        private String status;
+        private String transactionId;
+        private Money amount;
+        private Money fee;
+        private String errorCode;
+        private String message;
+
+        public static ItemResult success(int index, TransactionResponse transaction) {
+            return ItemResult.builder()
+                    .index(index)
+                    .status(transaction.getStatus())
+                    .transactionId(transaction.getTransactionId())
+                    .amount(transaction.getAmount())
+                    .fee(transaction.getFee())
+                    .build();
+        }
+
+        public static ItemResult failure(int index, RuntimeException exception) {
+            return ItemResult.builder()
+                    .index(index)
+                    .status("FAILED")
+                    .errorCode(ErrorCode.of(exception).name())
+                    .message(exception.getMessage())
+                    .build();
+        }
+    }
+
+    public static BatchTransactionResponse from(List<ItemResult> results) {
+        int failureCount = (int) results.stream()
+                .filter(result -> result.getErrorCode() != null)
+                .count();
+
+        return BatchTransactionResponse.builder()
+                .successCount(results.size() - failureCount)
+                .failureCount(failureCount)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.account.dto.response;
+
+import com.example.account.repository.PostingHistoryRow;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@Builder
+public class TransactionCursorResponse {
+    private String accountNumber;
+    private List<TransactionHistoryResponse.TransactionDetail> transactions;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static TransactionCursorResponse from(
+            String accountNumber,
+            List<PostingHistoryRow> postings,
+            String nextCursor) {
+
+        List<TransactionHistoryResponse.TransactionDetail> details = postings.stream()
+                .map(TransactionHistoryResponse.TransactionDetail::from)
+                .collect(Collectors.toList());
+
+        return TransactionCursorResponse.builder()
+                .accountNumber(accountNumber)
+                .transactions(details)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
@@ -1,12 +1,10 @@
 package com.example.account.dto.response;
 
-import com.example.account.entity.Transaction;
+import com.example.account.money.Money;
+import com.example.account.repository.PostingHistoryRow;
 import lombok.Builder;
 import lombok.Getter;
-import com.example.account.entity.type.TransactionType;
 
-
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,38 +23,34 @@ public class TransactionHistoryResponse {
     public static class TransactionDetail {
         private String transactionId;
         private String type;
-        private BigDecimal amount;
-        private BigDecimal fee;
+        private Money amount;
+        private Money fee;
         private String counterPartyAccount;
+        private Money balanceAfter;
         private Instant transactionDate;
         private String description;
 
-        public static TransactionDetail from(Transaction transaction) {
-            String counterPartyAccount = null;
-            if (transaction.getType().equals(TransactionType.TRANSFER)) {
-                counterPartyAccount = transaction.getToAccount().getAccountNumber();
-            }
-
+        public static TransactionDetail from(PostingHistoryRow posting) {
             return TransactionDetail.builder()
-                    .transactionId(transaction.getTransactionId())
-                    .type(transaction.getType().name())
-                    .amount(transaction.getAmount())
-                    .fee(transaction.getFee())
-                    .counterPartyAccount(counterPartyAccount)
-                    .transactionDate(transaction.getCreatedAt())
-                    .description(transaction.getDescription())
+                    .transactionId(posting.transactionId())
+                    .type(posting.type().name())
+                    .amount(posting.amount().abs())
+                    .fee(posting.fee())
+                    .counterPartyAccount(posting.counterpartyAccountNumber())
+                    .balanceAfter(posting.balanceAfter())
+                    .transactionDate(posting.createdAt())
                     .build();
         }
     }
 
     public static TransactionHistoryResponse from(
             String accountNumber,
-            List<Transaction> transactions,
+            List<PostingHistoryRow> postings,
             int totalPages,
             long totalElements,
             boolean hasNext) {
 
-        List<TransactionDetail> details = transactions.stream()
+        List<TransactionDetail> details = postings.stream()
                 .map(TransactionDetail::from)
                 .collect(Collectors.toList());
 
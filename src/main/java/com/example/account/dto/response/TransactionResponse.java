@@ -1,10 +1,10 @@
 package com.example.account.dto.response;
 
 import com.example.account.entity.Transaction;
+import com.example.account.money.Money;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 
 @Getter
@@ -13,8 +13,8 @@ public class TransactionResponse {
     private String transactionId;
     private String fromAccount;
     private String toAccount;
-    private BigDecimal amount;
-    private BigDecimal fee;
+    private Money amount;
+    private Money fee;
     private String type;
     private String status;
     private Instant createdAt;
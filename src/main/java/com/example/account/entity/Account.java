@@ -5,8 +5,8 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.DynamicUpdate;
 import com.example.account.exception.InsufficientBalanceException;
+import com.example.account.money.Money;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 
 @Entity
@@ -18,20 +18,24 @@ import java.time.Instant;
 @Builder
 public class Account {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_seq")
+    @SequenceGenerator(name = "account_seq", sequenceName = "account_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
     private String accountNumber;
 
     @Column(nullable = false)
-    private BigDecimal balance;
+    private Money balance;
 
-    @Column(nullable = false)
-    private BigDecimal dailyWithdrawLimit;
+    // 계좌별로 따로 정한 일일 한도 (없으면 등급 한도를 따르고, 있으면 등급 한도와 비교해 작은 값을 씁니다)
+    private Money dailyWithdrawLimit;
 
-    @Column(nullable = false)
-    private BigDecimal dailyTransferLimit;
+    private Money dailyTransferLimit;
+
+    // 수수료와 한도 상한을 정하는 등급 (없으면 기본 등급)
+    @Column(length = 32)
+    private String tier;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -53,15 +57,15 @@ public class Account {
         updatedAt = Instant.now();
     }
 
-    public void deposit(BigDecimal amount) {
-        this.balance = this.balance.add(amount);
+    public void deposit(Money amount) {
+        this.balance = this.balance.plus(amount);
     }
 
-    public void withdraw(BigDecimal amount) {
-        if (this.balance.compareTo(amount) < 0) {
+    public void withdraw(Money amount) {
+        if (this.balance.isLessThan(amount)) {
             throw new InsufficientBalanceException("잔액이 부족합니다.");
         }
-        this.balance = this.balance.subtract(amount);
+        this.balance = this.balance.minus(amount);
     }
 
     public void deactivate() {
@@ -0,0 +1,40 @@
+package com.example.account.entity;
+
+import com.example.account.money.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 계좌별 일일 마감 잔액
+ *
+ * 그날({@code transfer.zone-id} 기준 달력 날짜) 분개가 있는 계좌마다 한 행을 남기며, 특정 시점의 잔액은
+ * 그 전날까지의 가장 최근 체크포인트에 이후 분개만 더해 계산합니다.
+ * 행은 {@link com.example.account.repository.BalanceCheckpointJdbcRepository} 의 INSERT ... SELECT 로만 생성됩니다.
+ */
+@Entity
+@Table(name = "balance_checkpoints", uniqueConstraints = @UniqueConstraint(
+        name = "uk_balance_checkpoints_account_date",
+        columnNames = {"account_id", "balance_date"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class BalanceCheckpoint {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private LocalDate balanceDate;
+
+    @Column(nullable = false)
+    private Money closingBalance;
+
+    private Instant createdAt;
+}
@@ -0,0 +1,35 @@
+package com.example.account.entity;
+
+import jakarta.persistence.*;
+import com.example.account.money.Money;
+import lombok.*;
+
+/**
+ * 잔액 분할 계좌의 하위 잔액
+ *
+ * 입금이 많은 계좌는 잔액을 계좌 행과 여러 슬롯에 나누어 보관하고, 입금은 비어 있는 슬롯 하나에만 더합니다.
+ * 계좌의 실제 잔액은 계좌 행의 잔액과 슬롯 잔액의 합이며,
+ * 접근은 {@link com.example.account.repository.BalanceSlotJdbcRepository} 로만 합니다.
+ */
+@Entity
+@Table(name = "account_balance_slots", uniqueConstraints = @UniqueConstraint(
+        name = "uk_balance_slots_account_slot",
+        columnNames = {"account_id", "slot_no"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class BalanceSlot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private int slotNo;
+
+    @Column(nullable = false)
+    private Money balance;
+}
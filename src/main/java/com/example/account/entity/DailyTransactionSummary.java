@@ -2,11 +2,20 @@ package com.example.account.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
-import java.math.BigDecimal;
+import com.example.account.money.Money;
 import java.time.Instant;
-
+import java.time.LocalDate;
+
+/**
+ * 계좌별 일일 출금/이체 누적 금액
+ *
+ * 계좌와 날짜({@code transfer.zone-id} 기준 달력 날짜)마다 한 행만 존재하며,
+ * 누적은 {@link com.example.account.repository.DailyTransactionSummaryJdbcRepository} 의 단일 UPDATE 로 처리합니다.
+ */
 @Entity
-@Table(name = "daily_transaction_summaries")
+@Table(name = "daily_transaction_summaries", uniqueConstraints = @UniqueConstraint(
+        name = "uk_daily_summaries_account_date",
+        columnNames = {"account_id", "date"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -20,26 +29,13 @@ public class DailyTransactionSummary {
     private Long accountId;
 
     @Column(nullable = false)
-    private Instant date;
+    private LocalDate date;
 
     @Column(nullable = false)
-    private BigDecimal totalWithdraw;
+    private Money totalWithdraw;
 
     @Column(nullable = false)
-    private BigDecimal totalTransfer;
+    private Money totalTransfer;
 
     private Instant updatedAt;
-
-    @Version
-    private Long version;
-
-    public void addWithdraw(BigDecimal amount) {
-        this.totalWithdraw = this.totalWithdraw.add(amount);
-        this.updatedAt = Instant.now();
-    }
-
-    public void addTransfer(BigDecimal amount) {
-        this.totalTransfer = this.totalTransfer.add(amount);
-        this.updatedAt = Instant.now();
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.example.account.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 원장 샤드별로 MySQL 에 반영이 끝난 저널 위치
+ */
+@Entity
+@Table(name = "ledger_projection_offsets")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class LedgerProjectionOffset {
+    @Id
+    private Integer shardIndex;
+
+    @Column(nullable = false)
+    private Long journalPosition;
+}
@@ -0,0 +1,104 @@
+package com.example.account.entity;
+
+import com.example.account.entity.type.TransactionType;
+import com.example.account.money.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 거래가 한 계좌에 미친 영향을 기록하는 분개
+ *
+ * 거래 한 건당 영향을 받은 계좌마다 한 행이 생기며, 계좌별 거래 내역과 특정 시점의 잔액 조회는
+ * (account_id, created_at, id) 로 시작하는 커버링 인덱스의 범위 스캔만으로 처리됩니다.
+ * amount 는 계좌 기준 부호가 있는 원금(입금 +, 출금 -)이고, 수수료는 fee 에 따로 기록하므로
+ * 잔액 변동은 {@code amount - fee} 입니다.
+ */
+@Entity
+@Table(name = "postings", indexes = {
+        @Index(name = "idx_postings_account_history",
+                columnList = "account_id, created_at, id, transaction_id, type, amount, fee, balance_after, counterparty_account_number"),
+        // 일일 마감 잔액 체크포인트를 만들 때 하루치 분개만 읽기 위한 인덱스
+        @Index(name = "idx_postings_created_at", columnList = "created_at, account_id, amount, fee")})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Posting {
+    // 거래 한 건에 보통 두 행이 생기므로 거래보다 큰 블록을 받습니다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posting_seq")
+    @SequenceGenerator(name = "posting_seq", sequenceName = "posting_seq", allocationSize = 200)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private String transactionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Column(nullable = false)
+    private Money amount;
+
+    private Money fee;
+
+    private String counterpartyAccountNumber;
+
+    @Column(nullable = false)
+    private Money balanceAfter;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    /**
+     * 출금 측 분개를 만듭니다.
+     *
+     * @param transaction 거래 내역
+     * @param account 출금 계좌 (잔액 반영 후)
+     * @param counterparty 입금 계좌 (없으면 null)
+     */
+    public static Posting debit(Transaction transaction, Account account, Account counterparty) {
+        return debit(transaction, account.getId(), account.getBalance(), counterparty);
+    }
+
+    public static Posting debit(Transaction transaction, Long accountId, Money balanceAfter, Account counterparty) {
+        return Posting.builder()
+                .accountId(accountId)
+                .transactionId(transaction.getTransactionId())
+                .type(transaction.getType())
+                .amount(transaction.getAmount().negate())
+                .fee(transaction.getFee())
+                .counterpartyAccountNumber(counterparty != null ? counterparty.getAccountNumber() : null)
+                .balanceAfter(balanceAfter)
+                .createdAt(transaction.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 입금 측 분개를 만듭니다.
+     *
+     * @param transaction 거래 내역
+     * @param account 입금 계좌 (잔액 반영 후)
+     * @param counterparty 출금 계좌 (없으면 null)
+     */
+    public static Posting credit(Transaction transaction, Account account, Account counterparty) {
+        return credit(transaction, account.getId(), account.getBalance(), counterparty);
+    }
+
+    public static Posting credit(Transaction transaction, Long accountId, Money balanceAfter, Account counterparty) {
+        return Posting.builder()
+                .accountId(accountId)
+                .transactionId(transaction.getTransactionId())
+                .type(transaction.getType())
+                .amount(transaction.getAmount())
+                .counterpartyAccountNumber(counterparty != null ? counterparty.getAccountNumber() : null)
+                .balanceAfter(balanceAfter)
+                .createdAt(transaction.getCreatedAt())
+                .build();
+    }
+}
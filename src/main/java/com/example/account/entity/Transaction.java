@@ -2,10 +2,10 @@ package com.example.account.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
-import java.math.BigDecimal;
 import java.time.Instant;
 import com.example.account.entity.type.TransactionStatus;
 import com.example.account.entity.type.TransactionType;
+import com.example.account.money.Money;
 
 @Entity
 @Table(name = "transactions")
@@ -15,8 +15,10 @@ import com.example.account.entity.type.TransactionType;
 @AllArgsConstructor
 @Builder
 public class Transaction {
+    // 시퀀스에서 블록 단위로 미리 받아 두므로 INSERT 를 JDBC 배치로 묶을 수 있습니다 (IDENTITY 는 배치 불가).
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "transaction_seq", allocationSize = 100)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -31,9 +33,9 @@ public class Transaction {
     private Account toAccount;
 
     @Column(nullable = false)
-    private BigDecimal amount;
+    private Money amount;
 
-    private BigDecimal fee;
+    private Money fee;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
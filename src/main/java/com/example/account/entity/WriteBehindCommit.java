@@ -0,0 +1,27 @@
+package com.example.account.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 지연 기록 모드에서 거래를 처리한 DB 트랜잭션이 커밋됐다는 표시
+ *
+ * 거래를 처리하는 트랜잭션 안에서 거래 ID 로 한 행을 넣고, 거래 내역이 저장될 때 같은 트랜잭션에서 지웁니다.
+ * 저널에 커밋 결과가 남지 않은 거래는 이 행이 있는지로 커밋 여부를 판단합니다.
+ * 행은 {@link com.example.account.repository.TransactionJdbcRepository} 로만 다룹니다.
+ */
+@Entity
+@Table(name = "write_behind_commits")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class WriteBehindCommit {
+    @Id
+    private String transactionId;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
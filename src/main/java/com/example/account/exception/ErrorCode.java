@@ -13,8 +13,41 @@ public enum ErrorCode {
     DAILY_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "일일 한도를 초과했습니다."),
     DUPLICATE_ACCOUNT(HttpStatus.BAD_REQUEST, "이미 존재하는 계좌번호입니다."),
     INVALID_TRANSACTION(HttpStatus.BAD_REQUEST, "유효하지 않은 거래입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
+    LOCK_ACQUISITION_FAILED(HttpStatus.CONFLICT, "다른 거래가 처리 중입니다. 잠시 후 다시 시도해주세요."),
     SYSTEM_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "시스템 오류가 발생했습니다.");
 
     private final HttpStatus status;
     private final String message;
+
+    /**
+     * 비즈니스 예외에 해당하는 에러 코드를 반환합니다.
+     *
+     * @param exception 발생한 예외
+     * @return 에러 코드 (알 수 없는 예외는 SYSTEM_ERROR)
+     */
+    public static ErrorCode of(Throwable exception) {
+        if (exception instanceof AccountNotFoundException) {
+            return ACCOUNT_NOT_FOUND;
+        }
+        if (exception instanceof AccountNotActiveException) {
+            return ACCOUNT_NOT_ACTIVE;
+        }
+        if (exception instanceof InsufficientBalanceException) {
+            return INSUFFICIENT_BALANCE;
+        }
+        if (exception instanceof DailyLimitExceededException) {
+            return DAILY_LIMIT_EXCEEDED;
+        }
+        if (exception instanceof DuplicateAccountException) {
+            return DUPLICATE_ACCOUNT;
+        }
+        if (exception instanceof LockAcquisitionException) {
+            return LOCK_ACQUISITION_FAILED;
+        }
+        if (exception instanceof IllegalArgumentException) {
+            return INVALID_TRANSACTION;
+        }
+        return SYSTEM_ERROR;
+    }
 }
\ No newline at end of file
@@ -51,4 +51,23 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(ErrorCode.ACCOUNT_NOT_ACTIVE, e.getMessage()));
     }
 
-}
\ No newline at end of file
+    @ExceptionHandler(LockAcquisitionException.class)
+    public ResponseEntity<ErrorResponse> handleLockAcquisitionException(LockAcquisitionException e) {
+        log.warn("LockAcquisitionException: {}", e.getMessage());
+        return ResponseEntity.status(ErrorCode.LOCK_ACQUISITION_FAILED.getStatus())
+                .body(new ErrorResponse(ErrorCode.LOCK_ACQUISITION_FAILED, e.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e) {
+        log.warn("IllegalArgumentException: {}", e.getMessage());
+        return ResponseEntity.status(ErrorCode.INVALID_TRANSACTION.getStatus())
+                .body(new ErrorResponse(ErrorCode.INVALID_TRANSACTION, e.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException e) {
+        return ResponseEntity.status(ErrorCode.INVALID_CURSOR.getStatus())
+                .body(new ErrorResponse(ErrorCode.INVALID_CURSOR, e.getMessage()));
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.account.exception;
+
+public class LockAcquisitionException extends RuntimeException {
+    public LockAcquisitionException(String message) {
+        super(message);
+    }
+
+    public LockAcquisitionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
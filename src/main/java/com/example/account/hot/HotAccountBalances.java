@@ -0,0 +1,121 @@
+package com.example.account.hot;
+
+import com.example.account.cache.AccountCache;
+import com.example.account.entity.Account;
+import com.example.account.money.Money;
+import com.example.account.repository.BalanceSlotJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 입금이 몰리는 계좌의 잔액을 여러 슬롯에 나누어 관리합니다.
+ *
+ * {@code transfer.hot-accounts.account-numbers} 에 지정한 계좌로의 입금은 계좌 락과 계좌 행 락 없이
+ * 비어 있는 슬롯 하나에만 더하므로, 동시에 들어오는 입금이 한 행에서 줄을 서지 않습니다.
+ * 출금은 기존처럼 계좌 락과 계좌 행 락을 잡고, 계좌 행의 잔액이 모자랄 때만 슬롯 잔액을 계좌 행으로 옮겨 사용합니다.
+ * 계좌의 잔액은 계좌 행의 잔액과 슬롯 잔액의 합입니다.
+ *
+ * 지정이 해제된 계좌의 슬롯 잔액은 애플리케이션 시작 시 계좌 행으로 합칩니다.
+ * 여러 인스턴스를 운영할 때는 모든 인스턴스의 지정을 같이 바꿔야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotAccountBalances {
+    private final BalanceSlotJdbcRepository balanceSlotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountCache accountCache;
+
+    @Value("${transfer.hot-accounts.account-numbers:}")
+    private Set<String> accountNumbers;
+
+    @Value("${transfer.hot-accounts.slots:16}")
+    private int slots;
+
+    /**
+     * 잔액 분할 계좌가 하나라도 지정되어 있는지 확인합니다.
+     */
+    public boolean hasHotAccounts() {
+        return !accountNumbers.isEmpty();
+    }
+
+    /**
+     * 잔액 분할 계좌인지 확인합니다.
+     */
+    public boolean isHot(String accountNumber) {
+        return accountNumbers.contains(accountNumber);
+    }
+
+    /**
+     * 슬롯 하나에 입금합니다. 슬롯이 아직 없으면 만듭니다.
+     *
+     * 계좌 행에 공유 락을 잡은 뒤 호출해야 합니다. 출금의 슬롯 이동과 같이 계좌 행, 슬롯 순서로 잠그기 위함입니다.
+     *
+     * @param account 공유 락을 잡은 입금 계좌
+     * @param amount 입금액
+     * @return 입금 후 계좌 잔액 (동시 입금이 있으면 근삿값)
+     */
+    public Money credit(Account account, Money amount) {
+        int startSlot = ThreadLocalRandom.current().nextInt(slots);
+        if (!balanceSlotRepository.add(account.getId(), startSlot, amount)) {
+            balanceSlotRepository.createSlots(account.getId(), slots);
+            balanceSlotRepository.add(account.getId(), startSlot, amount);
+        }
+        return totalBalance(account);
+    }
+
+    /**
+     * 잔액 분할 계좌의 계좌 행 잔액과 슬롯 잔액을 합한 잔액을 조회합니다.
+     */
+    public Money totalBalance(Account account) {
+        return account.getBalance().plus(balanceSlotRepository.sum(account.getId()));
+    }
+
+    /**
+     * 계좌 행의 잔액이 amount 보다 적으면 슬롯 잔액을 모두 계좌 행으로 옮깁니다.
+     *
+     * @param account 락을 잡은 출금 계좌
+     * @param amount 출금에 필요한 금액
+     */
+    public void ensureAvailable(Account account, Money amount) {
+        if (account.getBalance().isLessThan(amount) && isHot(account.getAccountNumber())) {
+            account.deposit(balanceSlotRepository.drain(account.getId()));
+        }
+    }
+
+    /**
+     * 잔액 분할 계좌의 슬롯 잔액을 모두 비웁니다. 호출 전에 계좌 행을 잠가야 합니다.
+     *
+     * @return 비운 금액 (계좌 행 잔액에 더해야 합니다)
+     */
+    public Money drain(Account account) {
+        return balanceSlotRepository.drain(account.getId());
+    }
+
+    /**
+     * 지정이 해제된 계좌의 슬롯 잔액을 계좌 행으로 합치고 슬롯을 삭제합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void foldReleasedAccounts() {
+        Map<Long, String> accounts = balanceSlotRepository.findAccountsWithSlots();
+        accounts.forEach((accountId, accountNumber) -> {
+            if (isHot(accountNumber)) {
+                return;
+            }
+            Money folded = transactionTemplate.execute(status -> {
+                accountCache.evictAfterCommit(accountNumber);
+                return balanceSlotRepository.fold(accountId);
+            });
+            log.info("분할 해제 계좌 {} 의 슬롯 잔액 {} 을 합쳤습니다.", accountNumber, folded);
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.account.id;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA 를 거치지 않고 JDBC 로 INSERT 하는 행에 엔티티와 같은 ID 생성기의 값을 발급합니다.
+ *
+ * 엔티티의 시퀀스 생성기(MySQL 에서는 테이블 기반 시퀀스)와 pooled 최적화기를 그대로 사용하므로
+ * JPA 로 저장한 행과 ID 가 겹치지 않고, 블록이 남아 있는 동안에는 DB 를 조회하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityIdAllocator {
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 엔티티의 ID 를 count 개 발급합니다.
+     *
+     * @param entityType 시퀀스 ID 를 쓰는 엔티티
+     * @param count 발급할 개수
+     * @return 발급한 ID
+     */
+    public long[] nextIds(Class<?> entityType, int count) {
+        long[] ids = new long[count];
+        if (count == 0) {
+            return ids;
+        }
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(entityType)
+                .getGenerator();
+        // 새 블록이 필요할 때만 별도 커넥션에서 시퀀스를 올리므로 호출한 트랜잭션과 무관하게 발급됩니다.
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            SharedSessionContractImplementor sessionImplementor = (SharedSessionContractImplementor) session;
+            for (int i = 0; i < count; i++) {
+                ids[i] = ((Number) generator.generate(sessionImplementor, null, null, EventType.INSERT)).longValue();
+            }
+        }
+        return ids;
+    }
+}
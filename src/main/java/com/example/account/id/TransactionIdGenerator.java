@@ -0,0 +1,95 @@
+package com.example.account.id;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순으로 정렬되는 64비트 거래 ID를 생성합니다.
+ *
+ * <pre>
+ * | 0 | 41비트 기준 시각 이후 밀리초 | 10비트 노드 | 12비트 순번 |
+ * </pre>
+ * 노드마다 밀리초당 4096개까지 락 없이 발급하며, 순번이 다 차거나 시계가 뒤로 가면
+ * 마지막 시각을 이어서 사용하므로 같은 노드에서 ID가 줄어들거나 겹치지 않습니다.
+ * 외부 표현은 {@code TRX} 뒤에 고정 13자리 Crockford Base32 를 붙인 문자열로, 문자열 순서와 발급 순서가 같습니다.
+ * 노드 번호는 {@code transfer.id.node-id} 로 인스턴스마다 다르게 지정해야 합니다.
+ */
+@Component
+public class TransactionIdGenerator {
+    // 2024-01-01T00:00:00Z
+    static final long EPOCH_MILLIS = 1704067200000L;
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final String PREFIX = "TRX";
+    private static final int ENCODED_LENGTH = 13;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+    // 마지막으로 발급한 (시각 << 순번 비트 | 순번)
+    private final AtomicLong last = new AtomicLong();
+
+    public TransactionIdGenerator(@Value("${transfer.id.node-id:0}") int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    TransactionIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 번호는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다: " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    /**
+     * 새 거래 ID를 발급합니다.
+     *
+     * @return 64비트 거래 ID
+     */
+    public long nextId() {
+        long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long prev;
+        long next;
+        do {
+            prev = last.get();
+            // 같은 밀리초이거나 시계가 뒤로 갔으면 마지막 값 다음 순번을 사용합니다.
+            next = now > prev ? now : prev + 1;
+        } while (!last.compareAndSet(prev, next));
+        long millis = next >>> SEQUENCE_BITS;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    /**
+     * 새 거래 ID를 외부 문자열 형식으로 발급합니다.
+     *
+     * @return {@code TRX} 로 시작하는 16자리 거래 ID
+     */
+    public String nextTransactionId() {
+        return format(nextId());
+    }
+
+    /**
+     * 거래 ID를 외부 문자열 형식으로 변환합니다.
+     *
+     * @param id 64비트 거래 ID
+     * @return {@code TRX} 로 시작하는 16자리 문자열
+     */
+    public static String format(long id) {
+        byte[] chars = new byte[PREFIX.length() + ENCODED_LENGTH];
+        for (int i = 0; i < PREFIX.length(); i++) {
+            chars[i] = (byte) PREFIX.charAt(i);
+        }
+        for (int i = chars.length - 1; i >= PREFIX.length(); i--) {
+            chars[i] = (byte) ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.account.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 매핑 파일 기반의 append-only 저널
+ *
+ * 레코드는 [길이(int)][CRC32C(int)][payload] 형식으로 고정 크기 세그먼트 파일에 순서대로 기록됩니다.
+ * 위치(position)는 전체 저널 기준의 논리 오프셋이며, 세그먼트 파일명은 해당 세그먼트의 시작 위치입니다.
+ * 단일 쓰레드에서만 append 해야 합니다.
+ */
+@Slf4j
+public class MappedJournal implements Closeable {
+    private static final int HEADER_SIZE = 8;
+    private static final String SUFFIX = ".journal";
+
+    private final Path directory;
+    private final String name;
+    private final int segmentSize;
+
+    private long segmentBase;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    /**
+     * 저널을 열고 마지막 세그먼트의 쓰기 위치를 복구합니다.
+     *
+     * @param directory 세그먼트 파일 디렉터리
+     * @param name 저널 이름 (세그먼트 파일명 접두어)
+     * @param segmentSize 세그먼트 하나의 크기 (바이트)
+     */
+    public MappedJournal(Path directory, String name, int segmentSize) {
+        this.directory = directory;
+        this.name = name;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+            List<Long> segments = segmentBases();
+            open(segments.isEmpty() ? 0L : segments.get(segments.size() - 1));
+            recoverWriteOffset();
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널을 열 수 없습니다: " + name, e);
+        }
+    }
+
+    /**
+     * 레코드를 추가합니다.
+     *
+     * @param payload 기록할 데이터
+     * @return 추가된 레코드 다음의 위치 (재생 시작 위치로 사용)
+     */
+    public long append(byte[] payload) {
+        int recordSize = HEADER_SIZE + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("레코드가 세그먼트 크기보다 큽니다.");
+        }
+        if (buffer.remaining() < recordSize) {
+            roll();
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        buffer.putInt(payload.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(payload);
+        return position();
+    }
+
+    /**
+     * 기록된 레코드를 디스크에 동기화합니다.
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * 지금까지 기록된 레코드를 동기화하는 작업을 반환합니다.
+     *
+     * append 와 같은 쓰레드(또는 같은 락 안)에서 호출하고, 반환된 작업은 락 밖에서 실행할 수 있습니다.
+     * 그 사이 세그먼트가 바뀌어도 이전 세그먼트는 바뀔 때 이미 동기화되므로 호출 시점까지의 레코드가 모두 동기화됩니다.
+     */
+    public Runnable forceTask() {
+        MappedByteBuffer current = buffer;
+        return current::force;
+    }
+
+    /**
+     * 다음 레코드가 기록될 위치를 반환합니다.
+     */
+    public long position() {
+        return segmentBase + buffer.position();
+    }
+
+    /**
+     * 지정한 위치부터 저널 끝까지의 레코드를 순서대로 읽습니다.
+     *
+     * @param fromPosition 재생 시작 위치
+     * @param handler 레코드 처리기 (레코드 다음 위치, payload)
+     */
+    public void replay(long fromPosition, RecordHandler handler) {
+        try {
+            for (long base : segmentBases()) {
+                if (base + segmentSize <= fromPosition) {
+                    continue;
+                }
+                replaySegment(base, fromPosition, handler);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널을 읽을 수 없습니다: " + name, e);
+        }
+    }
+
+    /**
+     * 지정한 위치 이전에 완전히 포함되는 세그먼트를 삭제합니다.
+     *
+     * @param position 더 이상 재생할 필요가 없는 위치
+     */
+    public void deleteSegmentsBefore(long position) {
+        try {
+            for (long base : segmentBases()) {
+                if (base + segmentSize <= position && base != segmentBase) {
+                    Files.deleteIfExists(segmentPath(base));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("저널 세그먼트 삭제 실패: {}", name, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            log.warn("저널 종료 실패: {}", name, e);
+        }
+    }
+
+    private void replaySegment(long base, long fromPosition, RecordHandler handler) throws IOException {
+        try (FileChannel readChannel = FileChannel.open(segmentPath(base), StandardOpenOption.READ)) {
+            MappedByteBuffer readBuffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, segmentSize);
+            while (readBuffer.remaining() >= HEADER_SIZE) {
+                int start = readBuffer.position();
+                byte[] payload = readRecord(readBuffer);
+                if (payload == null) {
+                    return;
+                }
+                if (base + start >= fromPosition) {
+                    handler.handle(base + readBuffer.position(), payload);
+                }
+            }
+        }
+    }
+
+    private void recoverWriteOffset() {
+        while (buffer.remaining() >= HEADER_SIZE) {
+            int start = buffer.position();
+            if (readRecord(buffer) == null) {
+                buffer.position(start);
+                // 기록 도중 중단된 레코드가 있다면 이후 영역을 비웁니다.
+                while (buffer.hasRemaining()) {
+                    buffer.put((byte) 0);
+                }
+                buffer.position(start);
+                return;
+            }
+        }
+    }
+
+    private byte[] readRecord(MappedByteBuffer source) {
+        int start = source.position();
+        int length = source.getInt();
+        int checksum = source.getInt();
+        if (length <= 0 || length > source.remaining()) {
+            source.position(start);
+            return null;
+        }
+        byte[] payload = new byte[length];
+        source.get(payload);
+
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        if ((int) crc.getValue() != checksum) {
+            source.position(start);
+            return null;
+        }
+        return payload;
+    }
+
+    private void roll() {
+        // 남은 공간은 0으로 남겨두어 읽기 시 세그먼트 끝으로 인식되도록 합니다.
+        force();
+        try {
+            channel.close();
+            open(segmentBase + segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트를 생성할 수 없습니다: " + name, e);
+        }
+    }
+
+    private void open(long base) throws IOException {
+        this.segmentBase = base;
+        this.channel = FileChannel.open(segmentPath(base),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+
+    private List<Long> segmentBases() throws IOException {
+        List<Long> bases = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(file -> file.startsWith(name + "-") && file.endsWith(SUFFIX))
+                    .map(file -> Long.parseLong(file.substring(name.length() + 1, file.length() - SUFFIX.length())))
+                    .sorted()
+                    .forEach(bases::add);
+        }
+        return bases;
+    }
+
+    private Path segmentPath(long base) {
+        return directory.resolve(String.format("%s-%020d%s", name, base, SUFFIX));
+    }
+
+    /**
+     * 저널 재생 시 레코드를 처리하는 콜백
+     */
+    @FunctionalInterface
+    public interface RecordHandler {
+        void handle(long nextPosition, byte[] payload);
+    }
+}
@@ -0,0 +1,431 @@
+package com.example.account.journal;
+
+import com.example.account.entity.Posting;
+import com.example.account.entity.Transaction;
+import com.example.account.exception.LockAcquisitionException;
+import com.example.account.repository.TransactionJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 거래 내역과 분개를 로컬 저널에 먼저 기록하고 MySQL 에는 백그라운드에서 모아서 저장합니다.
+ *
+ * 거래를 처리하는 트랜잭션은 저널에 레코드를 추가하고 커밋 직전에 fsync 를 기다리며,
+ * 동시에 커밋하는 거래들은 한 번의 fsync 를 함께 사용합니다. 락을 잡은 구간에는 잔액 UPDATE 와
+ * 커밋 표시 한 행의 INSERT 만 남습니다.
+ * 커밋된 거래는 기록 스레드가 배치 INSERT 로 저장하고, 아직 저장되지 않은 거래가 capacity 건을 넘으면
+ * 새 거래는 자리가 날 때까지 기다리다가 실패합니다.
+ *
+ * 재시작 시 체크포인트 이후의 저널을 재생해 저장되지 않은 거래를 마저 저장합니다. 커밋 결과가 저널에 남지 않은 거래는
+ * 거래를 처리한 트랜잭션에서 함께 넣은 커밋 표시({@code write_behind_commits})로 커밋 여부를 판단하며,
+ * 커밋 표시는 거래 내역을 저장하는 트랜잭션에서 지웁니다.
+ * 커밋 표시를 계좌 행에 두면 같은 계좌의 다음 거래가 덮어써 결과를 모르는 거래를 확인할 수 없으므로 별도 테이블에 둡니다.
+ * {@code transfer.write-behind.enabled=true} 인 경우에만 활성화됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "transfer.write-behind", name = "enabled", havingValue = "true")
+public class TransactionWriteBehind {
+    private static final String JOURNAL_NAME = "transactions";
+    private static final String CHECKPOINT_FILE = "transactions.checkpoint";
+
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${transfer.write-behind.data-dir:./data/write-behind}")
+    private String dataDir;
+
+    @Value("${transfer.write-behind.segment-size:67108864}")
+    private int segmentSize;
+
+    @Value("${transfer.write-behind.capacity:100000}")
+    private int capacity;
+
+    @Value("${transfer.write-behind.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${transfer.write-behind.wait-millis:1000}")
+    private long waitMillis;
+
+    @Value("${transfer.write-behind.checkpoint-interval-seconds:10}")
+    private long checkpointIntervalSeconds;
+
+    // fsync 를 기다리는 동안 가상 스레드가 캐리어 스레드를 붙잡지 않도록 synchronized 대신 사용합니다.
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock forceLock = new ReentrantLock();
+    private final ConcurrentSkipListSet<Long> pendingPositions = new ConcurrentSkipListSet<>();
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    // 기록 스레드가 저장 중인 배치 (실패하면 비우지 않고 다음 거래보다 먼저 다시 시도합니다)
+    private final List<Pending> batch = new ArrayList<>();
+
+    private Path directory;
+    private MappedJournal journal;
+    private Semaphore permits;
+    private volatile long durablePosition;
+    private volatile boolean running;
+    private Thread writer;
+    private ScheduledExecutorService checkpointScheduler;
+
+    @PostConstruct
+    public void start() {
+        directory = Path.of(dataDir);
+        journal = new MappedJournal(directory, JOURNAL_NAME, segmentSize);
+        permits = new Semaphore(capacity);
+        replay(readCheckpoint());
+        durablePosition = journal.position();
+        writeCheckpoint(durablePosition);
+
+        running = true;
+        writer = new Thread(this::run, "transaction-write-behind");
+        writer.start();
+        checkpointScheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "transaction-write-behind-checkpoint"));
+        checkpointScheduler.scheduleWithFixedDelay(this::checkpoint,
+                checkpointIntervalSeconds, checkpointIntervalSeconds, TimeUnit.SECONDS);
+        log.info("거래 지연 기록 시작: 데이터 경로 {}", directory.toAbsolutePath());
+    }
+
+    @PreDestroy
+    public void stop() {
+        checkpointScheduler.shutdown();
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushRemaining();
+        checkpoint();
+        appendLock.lock();
+        try {
+            journal.close();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 거래 내역과 분개를 저널에 기록하고, 현재 트랜잭션이 커밋되면 MySQL 에 저장되도록 등록합니다.
+     *
+     * @param transaction 저장할 거래 내역
+     * @param postings 저장할 분개
+     * @throws LockAcquisitionException 저장 대기 중인 거래가 너무 많은 경우
+     * @throws IllegalStateException 활성화된 트랜잭션이 없는 경우
+     */
+    public void record(Transaction transaction, List<Posting> postings) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("트랜잭션 안에서만 거래를 기록할 수 있습니다.");
+        }
+        String transactionId = transaction.getTransactionId();
+        // 커밋 표시는 이 트랜잭션과 함께 커밋되거나 롤백됩니다. 결과를 모르는 커밋을 판정할 유일한 근거이므로
+        // 락 구간에 INSERT 한 번(기본 키 한 행)이 더해지는 것을 감수합니다.
+        transactionJdbcRepository.insertCommit(transactionId);
+        acquirePermit();
+
+        Position position = append(WriteBehindRecord.entry(transaction, postings), true);
+        Pending pending = new Pending(position.start(), transaction, postings);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                // 계좌 락보다 먼저 결과를 남겨야 같은 계좌의 다음 거래보다 결과 레코드가 앞에 기록됩니다.
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                awaitDurable(position.end());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    append(WriteBehindRecord.outcome(transactionId, false), false);
+                    pendingPositions.remove(position.start());
+                    permits.release();
+                    return;
+                }
+                if (status == STATUS_COMMITTED) {
+                    append(WriteBehindRecord.outcome(transactionId, true), false);
+                    queue.add(pending);
+                } else {
+                    // 커밋 결과를 알 수 없으면 저장 전에 커밋 표시로 확인합니다.
+                    queue.add(pending.unverified());
+                }
+            }
+        });
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS)) {
+                throw new LockAcquisitionException("저장 대기 중인 거래가 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LockAcquisitionException("거래 기록 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    private Position append(WriteBehindRecord record, boolean pending) {
+        byte[] payload = record.serialize();
+        appendLock.lock();
+        try {
+            long start = journal.position();
+            long end = journal.append(payload);
+            if (pending) {
+                pendingPositions.add(start);
+            }
+            return new Position(start, end);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 지정한 위치까지 디스크에 동기화될 때까지 기다립니다. 먼저 fsync 를 시작한 스레드가 그때까지 추가된 레코드를 모두 동기화합니다.
+     * fsync 는 appendLock 밖에서 실행하므로, 그동안 다른 거래의 레코드 추가(계좌 락을 잡은 채 남기는 결과 레코드 포함)는 기다리지 않습니다.
+     */
+    private void awaitDurable(long position) {
+        if (durablePosition >= position) {
+            return;
+        }
+        forceLock.lock();
+        try {
+            if (durablePosition >= position) {
+                return;
+            }
+            long target;
+            Runnable force;
+            appendLock.lock();
+            try {
+                target = journal.position();
+                force = journal.forceTask();
+            } finally {
+                appendLock.unlock();
+            }
+            force.run();
+            durablePosition = target;
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (batch.isEmpty()) {
+                    Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+                writeBatch();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 실패한 배치는 그대로 두고 잠시 후 새 거래보다 먼저 다시 시도합니다.
+                log.error("거래 지연 기록 실패, 재시도합니다. 거래 {}건", batch.size(), e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * 기록 스레드가 멈춘 뒤 남은 배치와 큐를 저장합니다.
+     * 저장하지 못한 거래는 대기 위치에 남아 체크포인트가 앞으로 가지 않으므로 재시작 시 저널에서 재생됩니다.
+     */
+    private void flushRemaining() {
+        try {
+            while (!batch.isEmpty() || queue.drainTo(batch, batchSize) > 0) {
+                writeBatch();
+            }
+        } catch (RuntimeException e) {
+            log.error("종료 전 거래 지연 기록 실패, 재시작 시 저널에서 재생합니다. 거래 {}건",
+                    batch.size() + queue.size(), e);
+        }
+    }
+
+    private void writeBatch() {
+        write(batch);
+        for (Pending pending : batch) {
+            pendingPositions.remove(pending.start());
+        }
+        permits.release(batch.size());
+        batch.clear();
+    }
+
+    private void write(List<Pending> pendings) {
+        List<Transaction> transactions = new ArrayList<>(pendings.size());
+        List<Posting> postings = new ArrayList<>(pendings.size() * 2);
+        for (Pending pending : pendings) {
+            if (!pending.verified() && !transactionJdbcRepository.existsCommit(pending.transaction().getTransactionId())) {
+                log.warn("커밋되지 않은 거래 기록을 버립니다: {}", pending.transaction().getTransactionId());
+                continue;
+            }
+            transactions.add(pending.transaction());
+            postings.addAll(pending.postings());
+        }
+        List<String> transactionIds = pendings.stream().map(pending -> pending.transaction().getTransactionId()).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            transactionJdbcRepository.insertAll(transactions);
+            transactionJdbcRepository.insertPostings(postings);
+            transactionJdbcRepository.deleteCommits(transactionIds);
+        });
+    }
+
+    /**
+     * 체크포인트 이후의 저널을 재생해 커밋됐지만 저장되지 않은 거래를 저장합니다.
+     */
+    private void replay(long fromPosition) {
+        Map<String, WriteBehindRecord> entries = new LinkedHashMap<>();
+        Set<String> committed = new HashSet<>();
+        Set<String> aborted = new HashSet<>();
+        journal.replay(fromPosition, (nextPosition, payload) -> {
+            WriteBehindRecord record = WriteBehindRecord.deserialize(payload);
+            switch (record.type()) {
+                case ENTRY -> entries.put(record.transactionId(), record);
+                case COMMITTED -> committed.add(record.transactionId());
+                case ABORTED -> aborted.add(record.transactionId());
+            }
+        });
+
+        List<Pending> recovered = new ArrayList<>();
+        for (WriteBehindRecord entry : entries.values()) {
+            if (aborted.contains(entry.transactionId())) {
+                continue;
+            }
+            recovered.add(new Pending(-1L, entry.transaction(), entry.postings(),
+                    committed.contains(entry.transactionId())));
+        }
+
+        int saved = 0;
+        for (int from = 0; from < recovered.size(); from += batchSize) {
+            List<Pending> chunk = recovered.subList(from, Math.min(from + batchSize, recovered.size()));
+            Set<String> existing = transactionJdbcRepository.findExistingTransactionIds(
+                    chunk.stream().map(pending -> pending.transaction().getTransactionId()).toList());
+            List<Pending> missing = chunk.stream()
+                    .filter(pending -> !existing.contains(pending.transaction().getTransactionId()))
+                    .toList();
+            write(missing);
+            saved += missing.size();
+        }
+        if (saved > 0) {
+            log.info("저널에서 저장되지 않은 거래 {}건을 재생했습니다.", saved);
+        }
+    }
+
+    /**
+     * 저장이 끝나지 않은 가장 앞선 레코드의 위치를 체크포인트로 남기고 그 이전 세그먼트를 삭제합니다.
+     */
+    private void checkpoint() {
+        try {
+            long watermark;
+            appendLock.lock();
+            try {
+                watermark = journal.position();
+            } finally {
+                appendLock.unlock();
+            }
+            Long oldestPending = pendingPositions.ceiling(Long.MIN_VALUE);
+            if (oldestPending != null) {
+                watermark = Math.min(watermark, oldestPending);
+            }
+            writeCheckpoint(watermark);
+            appendLock.lock();
+            try {
+                journal.deleteSegmentsBefore(watermark);
+            } finally {
+                appendLock.unlock();
+            }
+        } catch (RuntimeException e) {
+            log.error("거래 지연 기록 체크포인트 실패", e);
+        }
+    }
+
+    private long readCheckpoint() {
+        Path path = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(path)) {
+            return 0L;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            return in.readLong();
+        } catch (IOException e) {
+            throw new UncheckedIOException("체크포인트를 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    private void writeCheckpoint(long position) {
+        Path target = directory.resolve(CHECKPOINT_FILE);
+        Path temp = target.resolveSibling(CHECKPOINT_FILE + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+                out.writeLong(position);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("체크포인트를 저장할 수 없습니다: " + target, e);
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            TimeUnit.SECONDS.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Position(long start, long end) {
+    }
+
+    /**
+     * 저장을 기다리는 거래
+     *
+     * @param start 저널에 기록된 ENTRY 의 시작 위치
+     * @param verified 커밋이 확인됐는지 여부 (false 면 저장 전에 커밋 표시로 확인)
+     */
+    private record Pending(long start, Transaction transaction, List<Posting> postings, boolean verified) {
+        private Pending(long start, Transaction transaction, List<Posting> postings) {
+            this(start, transaction, postings, true);
+        }
+
+        private Pending unverified() {
+            return new Pending(start, transaction, postings, false);
+        }
+    }
+}
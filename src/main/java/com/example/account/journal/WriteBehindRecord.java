@@ -0,0 +1,150 @@
+package com.example.account.journal;
+
+import com.example.account.entity.Account;
+import com.example.account.entity.Posting;
+import com.example.account.entity.Transaction;
+import com.example.account.entity.type.TransactionStatus;
+import com.example.account.entity.type.TransactionType;
+import com.example.account.money.Money;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지연 기록 저널의 레코드
+ *
+ * ENTRY 는 저장할 거래 내역과 분개 전체를 담고, COMMITTED/ABORTED 는 같은 거래 ID 의 DB 트랜잭션 결과를 남깁니다.
+ * 결과 레코드가 없는 ENTRY 는 DB 의 커밋 표시({@code write_behind_commits})로 커밋 여부를 판단합니다.
+ *
+ * @param type 레코드 유형
+ * @param transactionId 거래 ID
+ * @param transaction 거래 내역 (ENTRY 만)
+ * @param postings 분개 (ENTRY 만)
+ */
+record WriteBehindRecord(
+        Type type,
+        String transactionId,
+        Transaction transaction,
+        List<Posting> postings
+) {
+    enum Type {
+        ENTRY,
+        COMMITTED,
+        ABORTED
+    }
+
+    static WriteBehindRecord entry(Transaction transaction, List<Posting> postings) {
+        return new WriteBehindRecord(Type.ENTRY, transaction.getTransactionId(), transaction, postings);
+    }
+
+    static WriteBehindRecord outcome(String transactionId, boolean committed) {
+        return new WriteBehindRecord(committed ? Type.COMMITTED : Type.ABORTED, transactionId, null, null);
+    }
+
+    byte[] serialize() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(type == Type.ENTRY ? 256 : 32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(type.ordinal());
+            out.writeUTF(transactionId);
+            if (type != Type.ENTRY) {
+                return bytes.toByteArray();
+            }
+            writeId(out, transaction.getFromAccount());
+            writeId(out, transaction.getToAccount());
+            writeMoney(out, transaction.getAmount());
+            writeMoney(out, transaction.getFee());
+            out.writeByte(transaction.getType().ordinal());
+            out.writeByte(transaction.getStatus().ordinal());
+            out.writeLong(transaction.getCreatedAt().getEpochSecond());
+            out.writeInt(transaction.getCreatedAt().getNano());
+            out.writeByte(postings.size());
+            for (Posting posting : postings) {
+                out.writeLong(posting.getAccountId());
+                writeMoney(out, posting.getAmount());
+                writeMoney(out, posting.getFee());
+                out.writeUTF(posting.getCounterpartyAccountNumber() != null ? posting.getCounterpartyAccountNumber() : "");
+                writeMoney(out, posting.getBalanceAfter());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static WriteBehindRecord deserialize(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            Type type = Type.values()[in.readByte()];
+            String transactionId = in.readUTF();
+            if (type != Type.ENTRY) {
+                return new WriteBehindRecord(type, transactionId, null, null);
+            }
+            Long fromAccountId = readId(in);
+            Long toAccountId = readId(in);
+            Money amount = readMoney(in);
+            Money fee = readMoney(in);
+            TransactionType transactionType = TransactionType.values()[in.readByte()];
+            TransactionStatus status = TransactionStatus.values()[in.readByte()];
+            Instant createdAt = Instant.ofEpochSecond(in.readLong(), in.readInt());
+            Transaction transaction = Transaction.builder()
+                    .transactionId(transactionId)
+                    .fromAccount(fromAccountId != null ? Account.builder().id(fromAccountId).build() : null)
+                    .toAccount(toAccountId != null ? Account.builder().id(toAccountId).build() : null)
+                    .amount(amount)
+                    .fee(fee)
+                    .type(transactionType)
+                    .status(status)
+                    .createdAt(createdAt)
+                    .build();
+
+            int postingCount = in.readByte();
+            List<Posting> postings = new ArrayList<>(postingCount);
+            for (int i = 0; i < postingCount; i++) {
+                long accountId = in.readLong();
+                Money postingAmount = readMoney(in);
+                Money postingFee = readMoney(in);
+                String counterparty = in.readUTF();
+                Money balanceAfter = readMoney(in);
+                postings.add(Posting.builder()
+                        .accountId(accountId)
+                        .transactionId(transactionId)
+                        .type(transactionType)
+                        .amount(postingAmount)
+                        .fee(postingFee)
+                        .counterpartyAccountNumber(counterparty.isEmpty() ? null : counterparty)
+                        .balanceAfter(balanceAfter)
+                        .createdAt(createdAt)
+                        .build());
+            }
+            return new WriteBehindRecord(type, transactionId, transaction, postings);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeId(DataOutputStream out, Account account) throws IOException {
+        out.writeLong(account != null ? account.getId() : -1L);
+    }
+
+    private static Long readId(DataInputStream in) throws IOException {
+        long id = in.readLong();
+        return id < 0 ? null : id;
+    }
+
+    private static void writeMoney(DataOutputStream out, Money value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.minorUnits());
+        }
+    }
+
+    private static Money readMoney(DataInputStream in) throws IOException {
+        return in.readBoolean() ? Money.ofMinor(in.readLong()) : null;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.account.ledger;
+
+import com.example.account.entity.Account;
+import com.example.account.entity.type.AccountStatus;
+import com.example.account.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 샤드 메모리에 보관되는 계좌 상태
+ *
+ * 소유 샤드의 쓰레드에서만 읽고 쓰므로 동기화하지 않습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class LedgerAccount {
+    private final Long id;
+    private final String accountNumber;
+    private Money balance;
+    private AccountStatus status;
+    private final Money dailyWithdrawLimit;
+    private final Money dailyTransferLimit;
+    private final String tier;
+    private final Instant createdAt;
+    private LocalDate counterDate;
+    private Money withdrawnToday;
+    private Money transferredToday;
+
+    /**
+     * DB 계좌로 초기 상태를 만듭니다.
+     *
+     * @param account DB 계좌
+     * @param today 사용량 기준 날짜
+     * @param withdrawnToday 그날 이미 누적된 출금액
+     * @param transferredToday 그날 이미 누적된 이체액
+     */
+    public static LedgerAccount from(Account account, LocalDate today, Money withdrawnToday, Money transferredToday) {
+        return new LedgerAccount(
+                account.getId(),
+                account.getAccountNumber(),
+                account.getBalance(),
+                account.getStatus(),
+                account.getDailyWithdrawLimit(),
+                account.getDailyTransferLimit(),
+                account.getTier(),
+                account.getCreatedAt(),
+                today,
+                withdrawnToday,
+                transferredToday);
+    }
+
+    public LedgerAccount copy() {
+        return new LedgerAccount(id, accountNumber, balance, status, dailyWithdrawLimit, dailyTransferLimit, tier,
+                createdAt, counterDate, withdrawnToday, transferredToday);
+    }
+
+    public void credit(Money amount) {
+        this.balance = this.balance.plus(amount);
+    }
+
+    public void debit(Money amount) {
+        this.balance = this.balance.minus(amount);
+    }
+
+    public void deactivate() {
+        this.status = AccountStatus.INACTIVE;
+    }
+
+    /**
+     * 해당 일자의 출금 누적액을 반환합니다. 날짜가 바뀌었다면 0입니다.
+     */
+    public Money withdrawnOn(LocalDate date) {
+        return date.equals(counterDate) ? withdrawnToday : Money.ZERO;
+    }
+
+    /**
+     * 해당 일자의 이체 누적액을 반환합니다. 날짜가 바뀌었다면 0입니다.
+     */
+    public Money transferredOn(LocalDate date) {
+        return date.equals(counterDate) ? transferredToday : Money.ZERO;
+    }
+
+    public void addWithdrawn(LocalDate date, Money amount) {
+        rollCounters(date);
+        this.withdrawnToday = this.withdrawnToday.plus(amount);
+    }
+
+    public void addTransferred(LocalDate date, Money amount) {
+        rollCounters(date);
+        this.transferredToday = this.transferredToday.plus(amount);
+    }
+
+    /**
+     * 취소된 이체 금액을 해당 일자의 누적액에서 차감합니다.
+     */
+    public void revertTransferred(LocalDate date, Money amount) {
+        if (date.equals(counterDate)) {
+            this.transferredToday = this.transferredToday.minus(amount);
+        }
+    }
+
+    private void rollCounters(LocalDate date) {
+        if (counterDate == null || date.isAfter(counterDate)) {
+            this.counterDate = date;
+            this.withdrawnToday = Money.ZERO;
+            this.transferredToday = Money.ZERO;
+        }
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeLong(id);
+        out.writeUTF(accountNumber);
+        out.writeLong(balance.minorUnits());
+        out.writeUTF(status.name());
+        out.writeLong(limitToLong(dailyWithdrawLimit));
+        out.writeLong(limitToLong(dailyTransferLimit));
+        out.writeUTF(tier != null ? tier : "");
+        out.writeLong(createdAt != null ? createdAt.toEpochMilli() : 0L);
+        out.writeLong(counterDate != null ? counterDate.toEpochDay() : Long.MIN_VALUE);
+        out.writeLong(withdrawnToday.minorUnits());
+        out.writeLong(transferredToday.minorUnits());
+    }
+
+    public static LedgerAccount readFrom(DataInput in) throws IOException {
+        long id = in.readLong();
+        String accountNumber = in.readUTF();
+        Money balance = Money.ofMinor(in.readLong());
+        AccountStatus status = AccountStatus.valueOf(in.readUTF());
+        Money dailyWithdrawLimit = limitFromLong(in.readLong());
+        Money dailyTransferLimit = limitFromLong(in.readLong());
+        String tier = in.readUTF();
+        long createdAt = in.readLong();
+        long counterDate = in.readLong();
+        Money withdrawnToday = Money.ofMinor(in.readLong());
+        Money transferredToday = Money.ofMinor(in.readLong());
+        return new LedgerAccount(id, accountNumber, balance, status, dailyWithdrawLimit, dailyTransferLimit,
+                tier.isEmpty() ? null : tier,
+                createdAt != 0L ? Instant.ofEpochMilli(createdAt) : null,
+                counterDate != Long.MIN_VALUE ? LocalDate.ofEpochDay(counterDate) : null,
+                withdrawnToday, transferredToday);
+    }
+
+    // 계좌별 한도가 없으면(등급 한도를 따르면) 음수로 기록합니다.
+    private static long limitToLong(Money limit) {
+        return limit != null ? limit.minorUnits() : -1L;
+    }
+
+    private static Money limitFromLong(long minorUnits) {
+        return minorUnits >= 0 ? Money.ofMinor(minorUnits) : null;
+    }
+}
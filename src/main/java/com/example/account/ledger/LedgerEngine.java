@@ -0,0 +1,316 @@
+package com.example.account.ledger;
+
+import com.example.account.dto.request.BatchTransactionRequest;
+import com.example.account.dto.request.TransactionRequest;
+import com.example.account.dto.request.TransferRequest;
+import com.example.account.dto.response.AccountResponse;
+import com.example.account.dto.response.BatchTransactionResponse;
+import com.example.account.dto.response.TransactionResponse;
+import com.example.account.entity.type.TransactionStatus;
+import com.example.account.entity.type.TransactionType;
+import com.example.account.hot.HotAccountBalances;
+import com.example.account.id.EntityIdAllocator;
+import com.example.account.id.TransactionIdGenerator;
+import com.example.account.journal.MappedJournal;
+import com.example.account.limit.DailyLimitChecker;
+import com.example.account.limit.LimitType;
+import com.example.account.money.Money;
+import com.example.account.policy.TransferPolicyEngine;
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.BalanceSlotJdbcRepository;
+import com.example.account.repository.LedgerProjectionOffsetRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인메모리 샤드 원장 엔진
+ *
+ * 계좌를 계좌번호 해시로 샤드에 나누어 메모리에서 처리하고, 모든 변경은 샤드별 저널에 기록합니다.
+ * 주기적으로 스냅샷을 남겨 재시작 시 스냅샷 이후 저널만 재생하며, MySQL 에는 비동기로 반영됩니다.
+ * {@code ledger.enabled=true} 인 경우에만 활성화됩니다.
+ *
+ * 샤드는 계좌 행의 잔액만 읽고 투영은 계좌 행의 잔액을 덮어쓰므로, 잔액 분할 계좌와 함께 쓸 수 없습니다.
+ * 분할 계좌가 지정되어 있거나 합치지 않은 슬롯 잔액이 남아 있으면 시작하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ledger", name = "enabled", havingValue = "true")
+public class LedgerEngine {
+    private final AccountRepository accountRepository;
+    private final LedgerProjectionOffsetRepository offsetRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final TransferPolicyEngine transferPolicyEngine;
+    private final EntityIdAllocator entityIdAllocator;
+    private final DailyLimitChecker dailyLimitChecker;
+    private final HotAccountBalances hotAccountBalances;
+    private final BalanceSlotJdbcRepository balanceSlotRepository;
+
+    @Value("${transfer.zone-id:Asia/Seoul}")
+    private ZoneId zoneId;
+
+    @Value("${ledger.shards:8}")
+    private int shardCount;
+
+    @Value("${ledger.data-dir:./data/ledger}")
+    private String dataDir;
+
+    @Value("${ledger.segment-size:67108864}")
+    private int segmentSize;
+
+    @Value("${ledger.max-batch-size:256}")
+    private int maxBatchSize;
+
+    @Value("${ledger.snapshot-interval-seconds:60}")
+    private long snapshotIntervalSeconds;
+
+    @Value("${ledger.projection.queue-capacity:100000}")
+    private int projectionQueueCapacity;
+
+    @Value("${ledger.projection.batch-size:500}")
+    private int projectionBatchSize;
+
+    private LedgerShard[] shards;
+    private LedgerProjector projector;
+    private LedgerSnapshotStore snapshotStore;
+    private ScheduledExecutorService snapshotScheduler;
+
+    @PostConstruct
+    public void start() {
+        verifyNoBalanceSlots();
+        Path directory = Path.of(dataDir);
+        snapshotStore = new LedgerSnapshotStore(directory.resolve("snapshots"));
+        projector = new LedgerProjector(jdbcTemplate, transactionTemplate, offsetRepository,
+                entityIdAllocator, shardCount, projectionQueueCapacity, projectionBatchSize);
+        long[] projectedPositions = projector.loadProjectedPositions();
+        projector.start();
+
+        shards = new LedgerShard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            MappedJournal journal = new MappedJournal(directory.resolve("journal"), "shard-" + i, segmentSize);
+            shards[i] = new LedgerShard(i, journal, this::loadAccount,
+                    projector, transferPolicyEngine::current, zoneId, maxBatchSize);
+            shards[i].recover(snapshotStore.read(i), projectedPositions[i]);
+        }
+        for (LedgerShard shard : shards) {
+            shard.start();
+        }
+        resolvePendingTransfers();
+
+        snapshotScheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "ledger-snapshot"));
+        snapshotScheduler.scheduleWithFixedDelay(this::snapshotAll,
+                snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+        log.info("원장 엔진 시작: 샤드 {}개, 데이터 경로 {}", shardCount, directory.toAbsolutePath());
+    }
+
+    @PreDestroy
+    public void stop() {
+        snapshotScheduler.shutdown();
+        snapshotAll();
+        for (LedgerShard shard : shards) {
+            shard.stop();
+        }
+        projector.stop();
+    }
+
+    /**
+     * 입금을 처리합니다.
+     *
+     * @param request 입금 요청 정보 (계좌번호, 금액)
+     * @return 처리된 거래 정보
+     */
+    public TransactionResponse deposit(TransactionRequest request) {
+        String transactionId = transactionIdGenerator.nextTransactionId();
+        Instant now = Instant.now();
+        Money amount = Money.of(request.getAmount());
+        LedgerEvent event = shardFor(request.getAccountNumber()).call(shard ->
+                shard.deposit(request.getAccountNumber(), amount, transactionId, now));
+        return toResponse(event, null, event.accountNumber(), TransactionType.DEPOSIT);
+    }
+
+    /**
+     * 출금을 처리합니다.
+     *
+     * @param request 출금 요청 정보 (계좌번호, 금액)
+     * @return 처리된 거래 정보
+     */
+    public TransactionResponse withdraw(TransactionRequest request) {
+        String transactionId = transactionIdGenerator.nextTransactionId();
+        Instant now = Instant.now();
+        Money amount = Money.of(request.getAmount());
+        LedgerEvent event = shardFor(request.getAccountNumber()).call(shard ->
+                shard.withdraw(request.getAccountNumber(), amount, transactionId, now));
+        return toResponse(event, event.accountNumber(), null, TransactionType.WITHDRAW);
+    }
+
+    /**
+     * 이체를 처리합니다.
+     *
+     * 출금 계좌 샤드에서 출금을 확정한 뒤 입금 계좌 샤드에 입금하며,
+     * 입금이 실패하면 출금을 되돌립니다.
+     *
+     * @param request 이체 요청 정보 (출금계좌, 입금계좌, 금액)
+     * @return 처리된 거래 정보
+     */
+    public TransactionResponse transfer(TransferRequest request) {
+        String transactionId = transactionIdGenerator.nextTransactionId();
+        Instant now = Instant.now();
+        Money amount = Money.of(request.getAmount());
+        LedgerShard fromShard = shardFor(request.getFromAccountNumber());
+        LedgerShard toShard = shardFor(request.getToAccountNumber());
+
+        Long toAccountId = toShard.call(shard -> shard.requireActive(request.getToAccountNumber()).getId());
+        LedgerEvent debit = fromShard.call(shard -> shard.debitForTransfer(request.getFromAccountNumber(),
+                request.getToAccountNumber(), toAccountId, amount, transactionId, now));
+        try {
+            toShard.call(shard -> shard.creditForTransfer(debit));
+        } catch (RuntimeException e) {
+            fromShard.call(shard -> shard.reverseTransfer(transactionId));
+            throw e;
+        }
+        fromShard.submit(shard -> shard.confirmTransfer(transactionId));
+        return toResponse(debit, debit.accountNumber(), debit.counterpartyNumber(), TransactionType.TRANSFER);
+    }
+
+    /**
+     * 여러 건의 거래를 순서대로 처리합니다. 각 항목은 독립적으로 성공하거나 실패합니다.
+     *
+     * @param request 일괄 거래 요청 정보
+     * @return 항목별 처리 결과
+     */
+    public BatchTransactionResponse executeBatch(BatchTransactionRequest request) {
+        List<BatchTransactionResponse.ItemResult> results = new ArrayList<>(request.getItems().size());
+        for (int index = 0; index < request.getItems().size(); index++) {
+            BatchTransactionRequest.Item item = request.getItems().get(index);
+            try {
+                TransactionResponse response = switch (item.getType()) {
+                    case DEPOSIT -> deposit(new TransactionRequest(item.getAccountNumber(), item.getAmount()));
+                    case WITHDRAW -> withdraw(new TransactionRequest(item.getAccountNumber(), item.getAmount()));
+                    case TRANSFER -> transfer(new TransferRequest(item.getAccountNumber(),
+                            item.getToAccountNumber(), item.getAmount()));
+                };
+                results.add(BatchTransactionResponse.ItemResult.success(index, response));
+            } catch (RuntimeException e) {
+                results.add(BatchTransactionResponse.ItemResult.failure(index, e));
+            }
+        }
+        return BatchTransactionResponse.from(results);
+    }
+
+    /**
+     * 메모리에 보관된 최신 계좌 정보를 조회합니다.
+     *
+     * @param accountNumber 조회할 계좌번호
+     * @return 계좌 정보
+     */
+    public AccountResponse getAccount(String accountNumber) {
+        LedgerAccount account = shardFor(accountNumber).call(shard -> shard.copyOf(accountNumber));
+        return AccountResponse.builder()
+                .accountNumber(account.getAccountNumber())
+                .balance(account.getBalance())
+                .status(account.getStatus().name())
+                .createdAt(account.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 계좌를 비활성화합니다.
+     *
+     * @param accountNumber 비활성화할 계좌번호
+     */
+    public void deactivate(String accountNumber) {
+        Instant now = Instant.now();
+        shardFor(accountNumber).call(shard -> shard.deactivate(accountNumber, now));
+    }
+
+    private void verifyNoBalanceSlots() {
+        if (hotAccountBalances.hasHotAccounts()) {
+            throw new IllegalStateException(
+                    "원장 모드에서는 잔액 분할 계좌(transfer.hot-accounts.account-numbers)를 지정할 수 없습니다.");
+        }
+        if (!balanceSlotRepository.findAccountsWithSlots().isEmpty()) {
+            throw new IllegalStateException("슬롯 잔액이 남아 있는 계좌가 있습니다. "
+                    + "원장 모드를 끄고 분할 지정을 해제한 채 한 번 시작해 슬롯 잔액을 합친 뒤 다시 시작하세요.");
+        }
+    }
+
+    /**
+     * 재시작 전에 입금 여부가 확정되지 않은 이체를 마무리합니다.
+     */
+    private void resolvePendingTransfers() {
+        for (LedgerShard fromShard : shards) {
+            for (LedgerEvent debit : fromShard.call(LedgerShard::pendingTransfers)) {
+                try {
+                    shardFor(debit.counterpartyNumber()).call(shard -> shard.creditForTransfer(debit));
+                    fromShard.call(shard -> shard.confirmTransfer(debit.transactionId()));
+                } catch (RuntimeException e) {
+                    log.warn("미확정 이체 {} 입금 실패로 출금을 취소합니다: {}", debit.transactionId(), e.getMessage());
+                    fromShard.call(shard -> shard.reverseTransfer(debit.transactionId()));
+                }
+            }
+        }
+    }
+
+    private void snapshotAll() {
+        for (LedgerShard shard : shards) {
+            try {
+                LedgerSnapshotStore.Snapshot snapshot = shard.call(LedgerShard::snapshot);
+                snapshotStore.write(shard.getIndex(), snapshot);
+                long compactable = Math.min(snapshot.journalPosition(), projector.projectedPosition(shard.getIndex()));
+                shard.call(s -> s.compactJournal(compactable));
+            } catch (RuntimeException e) {
+                log.error("원장 샤드 {} 스냅샷 실패", shard.getIndex(), e);
+            }
+        }
+    }
+
+    /**
+     * 샤드가 처음 접근하는 계좌를 DB에서 읽습니다. 원장 모드 밖에서 오늘 이미 사용한 한도도 함께 가져옵니다.
+     */
+    private Optional<LedgerAccount> loadAccount(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber).map(account -> {
+            LocalDate today = LocalDate.now(zoneId);
+            return LedgerAccount.from(account, today,
+                    dailyLimitChecker.usage(account.getId(), LimitType.WITHDRAW, today),
+                    dailyLimitChecker.usage(account.getId(), LimitType.TRANSFER, today));
+        });
+    }
+
+    private LedgerShard shardFor(String accountNumber) {
+        return shards[Math.floorMod(accountNumber.hashCode(), shards.length)];
+    }
+
+    private TransactionResponse toResponse(LedgerEvent event, String fromAccount, String toAccount,
+                                           TransactionType type) {
+        return TransactionResponse.builder()
+                .transactionId(event.transactionId())
+                .fromAccount(fromAccount)
+                .toAccount(toAccount)
+                .amount(event.amount())
+                .fee(event.fee())
+                .type(type.name())
+                .status(TransactionStatus.COMPLETED.name())
+                .createdAt(event.occurredAt())
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.account.ledger;
+
+import com.example.account.money.Money;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+/**
+ * 샤드에서 검증을 마치고 적용된 원장 이벤트
+ *
+ * 저널에 기록되는 단위이며, 재시작 시 검증 없이 그대로 재적용됩니다.
+ *
+ * @param type 이벤트 유형
+ * @param transactionId 거래 ID
+ * @param accountNumber 대상 계좌번호
+ * @param accountId 대상 계좌 ID
+ * @param counterpartyNumber 상대 계좌번호 (이체가 아닌 경우 null)
+ * @param counterpartyId 상대 계좌 ID (이체가 아닌 경우 null)
+ * @param amount 거래 금액
+ * @param fee 수수료 (없으면 null)
+ * @param balanceAfter 적용 후 대상 계좌 잔액
+ * @param occurredAt 발생 시각
+ */
+public record LedgerEvent(
+        Type type,
+        String transactionId,
+        String accountNumber,
+        Long accountId,
+        String counterpartyNumber,
+        Long counterpartyId,
+        Money amount,
+        Money fee,
+        Money balanceAfter,
+        Instant occurredAt
+) {
+    public enum Type {
+        DEPOSIT,
+        WITHDRAW,
+        TRANSFER_DEBIT,
+        TRANSFER_CREDIT,
+        TRANSFER_REVERSAL,
+        TRANSFER_CONFIRM,
+        DEACTIVATE
+    }
+
+    public byte[] serialize() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(type.ordinal());
+            out.writeUTF(transactionId != null ? transactionId : "");
+            out.writeUTF(accountNumber);
+            out.writeLong(accountId);
+            out.writeUTF(counterpartyNumber != null ? counterpartyNumber : "");
+            out.writeLong(counterpartyId != null ? counterpartyId : -1L);
+            writeMoney(out, amount);
+            writeMoney(out, fee);
+            writeMoney(out, balanceAfter);
+            out.writeLong(occurredAt.getEpochSecond());
+            out.writeInt(occurredAt.getNano());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static LedgerEvent deserialize(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            Type type = Type.values()[in.readByte()];
+            String transactionId = emptyToNull(in.readUTF());
+            String accountNumber = in.readUTF();
+            long accountId = in.readLong();
+            String counterpartyNumber = emptyToNull(in.readUTF());
+            long counterpartyId = in.readLong();
+            Money amount = readMoney(in);
+            Money fee = readMoney(in);
+            Money balanceAfter = readMoney(in);
+            Instant occurredAt = Instant.ofEpochSecond(in.readLong(), in.readInt());
+            return new LedgerEvent(type, transactionId, accountNumber, accountId, counterpartyNumber,
+                    counterpartyId < 0 ? null : counterpartyId, amount, fee, balanceAfter, occurredAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeMoney(DataOutputStream out, Money value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.minorUnits());
+        }
+    }
+
+    private static Money readMoney(DataInputStream in) throws IOException {
+        return in.readBoolean() ? Money.ofMinor(in.readLong()) : null;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.account.ledger;
+
+import com.example.account.entity.LedgerProjectionOffset;
+import com.example.account.entity.Posting;
+import com.example.account.entity.Transaction;
+import com.example.account.entity.type.AccountStatus;
+import com.example.account.entity.type.TransactionStatus;
+import com.example.account.entity.type.TransactionType;
+import com.example.account.id.EntityIdAllocator;
+import com.example.account.money.Money;
+import com.example.account.repository.JdbcTimestamps;
+import com.example.account.repository.LedgerProjectionOffsetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 원장 이벤트를 MySQL 에 비동기로 반영하는 프로젝터
+ *
+ * 이벤트를 모아 하나의 DB 트랜잭션에서 거래 내역과 분개 INSERT, 계좌별 최종 잔액 UPDATE,
+ * 샤드별 투영 위치 갱신을 함께 처리하므로 재시작 시 같은 이벤트가 두 번 반영되지 않습니다.
+ */
+@Slf4j
+public class LedgerProjector {
+    private static final String INSERT_TRANSACTION = """
+            INSERT INTO transactions (id, transaction_id, from_account_id, to_account_id, amount, fee, type, status, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_POSTING = """
+            INSERT INTO postings (id, account_id, transaction_id, type, amount, fee, counterparty_account_number, balance_after, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String UPDATE_BALANCE = "UPDATE accounts SET balance = ?, updated_at = ? WHERE id = ?";
+    private static final String UPDATE_STATUS = "UPDATE accounts SET status = ?, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LedgerProjectionOffsetRepository offsetRepository;
+    private final EntityIdAllocator entityIdAllocator;
+    private final BlockingQueue<Projection> queue;
+    private final int batchSize;
+    private final AtomicLongArray projectedPositions;
+    private final Thread worker;
+    private volatile boolean running;
+
+    public LedgerProjector(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                           LedgerProjectionOffsetRepository offsetRepository, EntityIdAllocator entityIdAllocator,
+                           int shardCount, int queueCapacity, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.offsetRepository = offsetRepository;
+        this.entityIdAllocator = entityIdAllocator;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.projectedPositions = new AtomicLongArray(shardCount);
+        this.worker = new Thread(this::run, "ledger-projector");
+    }
+
+    /**
+     * DB에 저장된 샤드별 투영 위치를 읽어옵니다.
+     */
+    long[] loadProjectedPositions() {
+        offsetRepository.findAll().forEach(offset ->
+                projectedPositions.set(offset.getShardIndex(), offset.getJournalPosition()));
+        long[] positions = new long[projectedPositions.length()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = projectedPositions.get(i);
+        }
+        return positions;
+    }
+
+    long projectedPosition(int shardIndex) {
+        return projectedPositions.get(shardIndex);
+    }
+
+    /**
+     * 투영할 이벤트를 큐에 넣습니다. 큐가 가득 차면 DB 반영이 따라잡을 때까지 대기합니다.
+     */
+    void enqueue(Projection projection) {
+        try {
+            queue.put(projection);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("원장 투영 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    void start() {
+        running = true;
+        worker.start();
+    }
+
+    void stop() {
+        running = false;
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<Projection> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Projection first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                project(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 실패한 배치는 그대로 두고 잠시 후 다시 시도합니다.
+                log.error("원장 투영 실패, 재시도합니다. 이벤트 {}건", batch.size(), e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    private void project(List<Projection> batch) {
+        List<Object[]> transactions = new ArrayList<>();
+        List<Object[]> postings = new ArrayList<>();
+        Map<Long, Object[]> balances = new LinkedHashMap<>();
+        List<Object[]> statuses = new ArrayList<>();
+        Map<Integer, Long> positions = new HashMap<>();
+
+        for (Projection projection : batch) {
+            LedgerEvent event = projection.event();
+            SqlTypeValue occurredAt = JdbcTimestamps.utc(event.occurredAt());
+            switch (event.type()) {
+                case DEPOSIT -> transactions.add(transactionRow(event, null, event.accountId(), TransactionType.DEPOSIT));
+                case WITHDRAW -> transactions.add(transactionRow(event, event.accountId(), null, TransactionType.WITHDRAW));
+                case TRANSFER_CREDIT -> transactions.add(
+                        transactionRow(event, event.counterpartyId(), event.accountId(), TransactionType.TRANSFER));
+                case DEACTIVATE -> statuses.add(new Object[]{AccountStatus.INACTIVE.name(), occurredAt, event.accountId()});
+                default -> {
+                }
+            }
+            switch (event.type()) {
+                case DEPOSIT -> postings.add(postingRow(event, TransactionType.DEPOSIT, event.amount(), null));
+                case WITHDRAW -> postings.add(postingRow(event, TransactionType.WITHDRAW, event.amount().negate(), null));
+                case TRANSFER_DEBIT -> postings.add(
+                        postingRow(event, TransactionType.TRANSFER, event.amount().negate(), event.fee()));
+                case TRANSFER_CREDIT -> postings.add(postingRow(event, TransactionType.TRANSFER, event.amount(), null));
+                // 입금에 실패한 이체의 출금 취소는 원금과 수수료를 돌려주는 분개로 남깁니다 (수수료 음수).
+                case TRANSFER_REVERSAL -> postings.add(
+                        postingRow(event, TransactionType.TRANSFER, event.amount(), event.fee().negate()));
+                default -> {
+                }
+            }
+            if (event.type() != LedgerEvent.Type.TRANSFER_CONFIRM && event.type() != LedgerEvent.Type.DEACTIVATE) {
+                // 같은 배치 안에서는 계좌별 마지막 잔액만 반영합니다.
+                balances.put(event.accountId(), new Object[]{decimalOf(event.balanceAfter()), occurredAt, event.accountId()});
+            }
+            positions.merge(projection.shardIndex(), projection.nextPosition(), Math::max);
+        }
+
+        assignIds(Transaction.class, transactions);
+        assignIds(Posting.class, postings);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!transactions.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_TRANSACTION, transactions);
+            }
+            if (!postings.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_POSTING, postings);
+            }
+            if (!balances.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_BALANCE, new ArrayList<>(balances.values()));
+            }
+            if (!statuses.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_STATUS, statuses);
+            }
+            positions.forEach((shardIndex, position) ->
+                    offsetRepository.save(new LedgerProjectionOffset(shardIndex, position)));
+        });
+        positions.forEach(projectedPositions::set);
+    }
+
+    /**
+     * 행의 첫 번째 자리에 엔티티 시퀀스에서 발급한 ID 를 채웁니다.
+     */
+    private void assignIds(Class<?> entityType, List<Object[]> rows) {
+        long[] ids = entityIdAllocator.nextIds(entityType, rows.size());
+        for (int i = 0; i < ids.length; i++) {
+            rows.get(i)[0] = ids[i];
+        }
+    }
+
+    private Object[] transactionRow(LedgerEvent event, Long fromAccountId, Long toAccountId, TransactionType type) {
+        return new Object[]{
+                null,
+                event.transactionId(),
+                fromAccountId,
+                toAccountId,
+                decimalOf(event.amount()),
+                decimalOf(event.fee()),
+                type.name(),
+                TransactionStatus.COMPLETED.name(),
+                JdbcTimestamps.utc(event.occurredAt())
+        };
+    }
+
+    private Object[] postingRow(LedgerEvent event, TransactionType type, Money amount, Money fee) {
+        return new Object[]{
+                null,
+                event.accountId(),
+                event.transactionId(),
+                type.name(),
+                decimalOf(amount),
+                decimalOf(fee),
+                event.counterpartyNumber(),
+                decimalOf(event.balanceAfter()),
+                JdbcTimestamps.utc(event.occurredAt())
+        };
+    }
+
+    private BigDecimal decimalOf(Money money) {
+        return money != null ? money.toBigDecimal() : null;
+    }
+
+    private void sleepQuietly() {
+        try {
+            TimeUnit.SECONDS.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 투영 대기 중인 이벤트
+     *
+     * @param shardIndex 이벤트를 기록한 샤드
+     * @param nextPosition 이벤트 다음 저널 위치
+     * @param event 원장 이벤트
+     */
+    record Projection(int shardIndex, long nextPosition, LedgerEvent event) {
+    }
+}
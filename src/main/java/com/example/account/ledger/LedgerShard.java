@@ -0,0 +1,442 @@
+package com.example.account.ledger;
+
+import com.example.account.entity.type.AccountStatus;
+import com.example.account.exception.AccountNotActiveException;
+import com.example.account.exception.AccountNotFoundException;
+import com.example.account.exception.DailyLimitExceededException;
+import com.example.account.exception.InsufficientBalanceException;
+import com.example.account.journal.MappedJournal;
+import com.example.account.limit.LimitType;
+import com.example.account.money.Money;
+import com.example.account.policy.TierPolicy;
+import com.example.account.policy.TransferPolicy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 계좌 일부를 소유하는 단일 쓰레드 원장 샤드
+ *
+ * 명령은 큐를 통해 전용 쓰레드에서 순서대로 실행되며, 한 번에 꺼낸 명령들의 이벤트를 저널에 기록한 뒤
+ * 한 번만 fsync 하고 나서 호출자에게 결과를 돌려줍니다 (group commit).
+ */
+@Slf4j
+public class LedgerShard {
+    private static final byte RECORD_EVENT = 0;
+    private static final byte RECORD_ACCOUNT = 1;
+    private static final int MAX_CREDITED_TRANSFERS = 100_000;
+
+    private final int index;
+    private final MappedJournal journal;
+    private final Function<String, Optional<LedgerAccount>> accountLoader;
+    private final LedgerProjector projector;
+    private final Supplier<TransferPolicy> policySupplier;
+    private final ZoneId zoneId;
+    private final int maxBatchSize;
+
+    private final Map<String, LedgerAccount> accounts = new HashMap<>();
+    private final Map<String, LedgerEvent> pendingTransfers = new LinkedHashMap<>();
+    private final Set<String> creditedTransfers = new LinkedHashSet<>();
+    private final List<LedgerProjector.Projection> unflushedProjections = new ArrayList<>();
+
+    private final BlockingQueue<Command<?>> commands = new LinkedBlockingQueue<>();
+    private Thread worker;
+    private volatile boolean running;
+    private volatile RuntimeException failure;
+
+    public LedgerShard(int index, MappedJournal journal, Function<String, Optional<LedgerAccount>> accountLoader,
+                       LedgerProjector projector, Supplier<TransferPolicy> policySupplier,
+                       ZoneId zoneId, int maxBatchSize) {
+        this.index = index;
+        this.journal = journal;
+        this.accountLoader = accountLoader;
+        this.projector = projector;
+        this.policySupplier = policySupplier;
+        this.zoneId = zoneId;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * 스냅샷과 저널로부터 상태를 복구합니다. 쓰레드 시작 전에만 호출해야 합니다.
+     *
+     * @param snapshot 마지막 스냅샷
+     * @param projectedPosition DB에 반영이 끝난 저널 위치
+     */
+    void recover(Optional<LedgerSnapshotStore.Snapshot> snapshot, long projectedPosition) {
+        long snapshotPosition = snapshot.map(LedgerSnapshotStore.Snapshot::journalPosition).orElse(0L);
+        snapshot.ifPresent(s -> {
+            s.accounts().forEach(account -> accounts.put(account.getAccountNumber(), account));
+            s.pendingTransfers().forEach(debit -> pendingTransfers.put(debit.transactionId(), debit));
+            creditedTransfers.addAll(s.creditedTransfers());
+        });
+
+        long[] replayed = new long[2];
+        journal.replay(Math.min(snapshotPosition, projectedPosition), (nextPosition, payload) -> {
+            Record record = decode(payload);
+            if (nextPosition > snapshotPosition) {
+                record.apply(this);
+                replayed[0]++;
+            }
+            if (record.event() != null && nextPosition > projectedPosition) {
+                projector.enqueue(new LedgerProjector.Projection(index, nextPosition, record.event()));
+                replayed[1]++;
+            }
+        });
+        log.info("원장 샤드 {} 복구 완료: 계좌 {}건, 재적용 {}건, 재투영 {}건, 미확정 이체 {}건",
+                index, accounts.size(), replayed[0], replayed[1], pendingTransfers.size());
+    }
+
+    /**
+     * 생성이 끝난 뒤에 쓰레드를 만들어 시작하므로 쓰레드가 초기화되지 않은 필드를 보는 일이 없습니다.
+     */
+    void start() {
+        running = true;
+        worker = new Thread(this::run, "ledger-shard-" + index);
+        worker.start();
+    }
+
+    void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        journal.close();
+    }
+
+    /**
+     * 샤드 쓰레드에서 작업을 실행하고 결과를 기다립니다.
+     */
+    public <T> T call(Function<LedgerShard, T> work) {
+        try {
+            return submit(work).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 샤드 쓰레드에 작업을 전달합니다. 저널 기록에 실패해 중단된 샤드는 작업을 바로 거절합니다.
+     */
+    public <T> CompletableFuture<T> submit(Function<LedgerShard, T> work) {
+        Command<T> command = new Command<>(work);
+        commands.add(command);
+        if (failure != null) {
+            rejectQueued();
+        }
+        return command.future;
+    }
+
+    // ---- 이하 메서드는 샤드 쓰레드에서만 호출됩니다. ----
+
+    LedgerAccount requireActive(String accountNumber) {
+        LedgerAccount account = load(accountNumber);
+        if (account.getStatus() != AccountStatus.ACTIVE) {
+            throw new AccountNotActiveException("활성화 된 계좌가 아닙니다.");
+        }
+        return account;
+    }
+
+    LedgerAccount copyOf(String accountNumber) {
+        return load(accountNumber).copy();
+    }
+
+    LedgerEvent deposit(String accountNumber, Money amount, String transactionId, Instant now) {
+        LedgerAccount account = requireActive(accountNumber);
+        return emit(new LedgerEvent(LedgerEvent.Type.DEPOSIT, transactionId, accountNumber, account.getId(),
+                null, null, amount, null, account.getBalance().plus(amount), now));
+    }
+
+    LedgerEvent withdraw(String accountNumber, Money amount, String transactionId, Instant now) {
+        LedgerAccount account = requireActive(accountNumber);
+        if (account.getBalance().isLessThan(amount)) {
+            throw new InsufficientBalanceException("잔액이 부족합니다.");
+        }
+        LocalDate today = LocalDate.ofInstant(now, zoneId);
+        Money limit = policySupplier.get().tier(account.getTier())
+                .dailyLimit(LimitType.WITHDRAW, account.getDailyWithdrawLimit());
+        if (account.withdrawnOn(today).plus(amount).isGreaterThan(limit)) {
+            throw new DailyLimitExceededException("일일 출금 한도를 초과했습니다.");
+        }
+        return emit(new LedgerEvent(LedgerEvent.Type.WITHDRAW, transactionId, accountNumber, account.getId(),
+                null, null, amount, null, account.getBalance().minus(amount), now));
+    }
+
+    LedgerEvent debitForTransfer(String fromAccountNumber, String toAccountNumber, Long toAccountId,
+                                 Money amount, String transactionId, Instant now) {
+        LedgerAccount account = requireActive(fromAccountNumber);
+        TierPolicy tier = policySupplier.get().tier(account.getTier());
+        Money fee = tier.fee(amount);
+        Money totalAmount = amount.plus(fee);
+        if (account.getBalance().isLessThan(totalAmount)) {
+            throw new InsufficientBalanceException("잔액이 부족합니다.");
+        }
+        LocalDate today = LocalDate.ofInstant(now, zoneId);
+        Money limit = tier.dailyLimit(LimitType.TRANSFER, account.getDailyTransferLimit());
+        if (account.transferredOn(today).plus(amount).isGreaterThan(limit)) {
+            throw new DailyLimitExceededException("일일 이체 한도를 초과했습니다.");
+        }
+        return emit(new LedgerEvent(LedgerEvent.Type.TRANSFER_DEBIT, transactionId, fromAccountNumber,
+                account.getId(), toAccountNumber, toAccountId, amount, fee,
+                account.getBalance().minus(totalAmount), now));
+    }
+
+    /**
+     * 이체 입금을 적용합니다. 이미 입금된 거래라면 다시 적용하지 않습니다.
+     */
+    LedgerEvent creditForTransfer(LedgerEvent debit) {
+        if (creditedTransfers.contains(debit.transactionId())) {
+            return null;
+        }
+        LedgerAccount account = requireActive(debit.counterpartyNumber());
+        return emit(new LedgerEvent(LedgerEvent.Type.TRANSFER_CREDIT, debit.transactionId(),
+                account.getAccountNumber(), account.getId(), debit.accountNumber(), debit.accountId(),
+                debit.amount(), debit.fee(), account.getBalance().plus(debit.amount()), debit.occurredAt()));
+    }
+
+    LedgerEvent reverseTransfer(String transactionId) {
+        LedgerEvent debit = pendingTransfers.get(transactionId);
+        if (debit == null) {
+            return null;
+        }
+        LedgerAccount account = load(debit.accountNumber());
+        return emit(new LedgerEvent(LedgerEvent.Type.TRANSFER_REVERSAL, transactionId, debit.accountNumber(),
+                debit.accountId(), debit.counterpartyNumber(), debit.counterpartyId(), debit.amount(), debit.fee(),
+                account.getBalance().plus(debit.amount()).plus(debit.fee()), debit.occurredAt()));
+    }
+
+    LedgerEvent confirmTransfer(String transactionId) {
+        LedgerEvent debit = pendingTransfers.get(transactionId);
+        if (debit == null) {
+            return null;
+        }
+        return emit(new LedgerEvent(LedgerEvent.Type.TRANSFER_CONFIRM, transactionId, debit.accountNumber(),
+                debit.accountId(), debit.counterpartyNumber(), debit.counterpartyId(), debit.amount(), debit.fee(),
+                load(debit.accountNumber()).getBalance(), debit.occurredAt()));
+    }
+
+    LedgerEvent deactivate(String accountNumber, Instant now) {
+        LedgerAccount account = load(accountNumber);
+        if (account.getBalance().isPositive()) {
+            throw new IllegalStateException("잔액이 있는 계좌는 삭제할 수 없습니다.");
+        }
+        return emit(new LedgerEvent(LedgerEvent.Type.DEACTIVATE, null, accountNumber, account.getId(),
+                null, null, null, null, account.getBalance(), now));
+    }
+
+    List<LedgerEvent> pendingTransfers() {
+        return new ArrayList<>(pendingTransfers.values());
+    }
+
+    LedgerSnapshotStore.Snapshot snapshot() {
+        List<LedgerAccount> copies = new ArrayList<>(accounts.size());
+        accounts.values().forEach(account -> copies.add(account.copy()));
+        return new LedgerSnapshotStore.Snapshot(journal.position(), copies,
+                new ArrayList<>(pendingTransfers.values()), new ArrayList<>(creditedTransfers));
+    }
+
+    boolean compactJournal(long position) {
+        journal.deleteSegmentsBefore(position);
+        return true;
+    }
+
+    private LedgerAccount load(String accountNumber) {
+        LedgerAccount account = accounts.get(accountNumber);
+        if (account != null) {
+            return account;
+        }
+        // 처음 접근하는 계좌는 DB에서 읽어 초기 상태를 저널에 남깁니다.
+        LedgerAccount loaded = accountLoader.apply(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다."));
+        journal.append(encode(RECORD_ACCOUNT, loaded::writeTo));
+        accounts.put(accountNumber, loaded);
+        return loaded;
+    }
+
+    private LedgerEvent emit(LedgerEvent event) {
+        long nextPosition = journal.append(encode(RECORD_EVENT, out -> out.write(event.serialize())));
+        apply(event);
+        unflushedProjections.add(new LedgerProjector.Projection(index, nextPosition, event));
+        return event;
+    }
+
+    /**
+     * 검증이 끝난 이벤트를 상태에 반영합니다. 실시간 처리와 저널 재생 모두 이 경로를 사용합니다.
+     */
+    private void apply(LedgerEvent event) {
+        LedgerAccount account = accounts.get(event.accountNumber());
+        LocalDate date = LocalDate.ofInstant(event.occurredAt(), zoneId);
+        switch (event.type()) {
+            case DEPOSIT -> account.credit(event.amount());
+            case WITHDRAW -> {
+                account.debit(event.amount());
+                account.addWithdrawn(date, event.amount());
+            }
+            case TRANSFER_DEBIT -> {
+                account.debit(event.amount().plus(event.fee()));
+                account.addTransferred(date, event.amount());
+                pendingTransfers.put(event.transactionId(), event);
+            }
+            case TRANSFER_CREDIT -> {
+                account.credit(event.amount());
+                creditedTransfers.add(event.transactionId());
+                if (creditedTransfers.size() > MAX_CREDITED_TRANSFERS) {
+                    creditedTransfers.remove(creditedTransfers.iterator().next());
+                }
+            }
+            case TRANSFER_REVERSAL -> {
+                account.credit(event.amount().plus(event.fee()));
+                account.revertTransferred(date, event.amount());
+                pendingTransfers.remove(event.transactionId());
+            }
+            case TRANSFER_CONFIRM -> pendingTransfers.remove(event.transactionId());
+            case DEACTIVATE -> account.deactivate();
+        }
+    }
+
+    private void run() {
+        List<Command<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !commands.isEmpty()) {
+            try {
+                Command<?> first = commands.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                commands.drainTo(batch, maxBatchSize - 1);
+
+                batch.forEach(command -> command.execute(this));
+                if (!unflushedProjections.isEmpty()) {
+                    journal.force();
+                    unflushedProjections.forEach(projector::enqueue);
+                    unflushedProjections.clear();
+                }
+                batch.forEach(Command::complete);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // fsync 에 실패하면 메모리 상태가 저널보다 앞서 있을 수 있으므로 결과를 돌려주지 않고 샤드를 멈춥니다.
+                // 재시작하면 스냅샷과 저널에 남은 상태만으로 다시 복구합니다.
+                log.error("원장 샤드 {} 저널 기록 실패로 샤드를 중단합니다.", index, e);
+                unflushedProjections.clear();
+                failure = e;
+                batch.forEach(command -> command.fail(e));
+                rejectQueued();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void rejectQueued() {
+        IllegalStateException rejected = new IllegalStateException("원장 샤드 " + index + " 가 중단되었습니다.", failure);
+        Command<?> command;
+        while ((command = commands.poll()) != null) {
+            command.fail(rejected);
+        }
+    }
+
+    private Record decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte type = in.readByte();
+            if (type == RECORD_ACCOUNT) {
+                return new Record(LedgerAccount.readFrom(in), null);
+            }
+            return new Record(null, LedgerEvent.deserialize(in.readAllBytes()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] encode(byte type, RecordWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(160);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(type);
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private record Record(LedgerAccount account, LedgerEvent event) {
+        void apply(LedgerShard shard) {
+            if (account != null) {
+                shard.accounts.put(account.getAccountNumber(), account);
+            } else {
+                shard.apply(event);
+            }
+        }
+    }
+
+    private static final class Command<T> {
+        private final Function<LedgerShard, T> work;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private T result;
+        private RuntimeException error;
+
+        private Command(Function<LedgerShard, T> work) {
+            this.work = work;
+        }
+
+        private void execute(LedgerShard shard) {
+            try {
+                result = work.apply(shard);
+            } catch (RuntimeException e) {
+                error = e;
+            }
+        }
+
+        private void complete() {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(result);
+            }
+        }
+
+        private void fail(RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+}
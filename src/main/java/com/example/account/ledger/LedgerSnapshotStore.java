@@ -0,0 +1,115 @@
+package com.example.account.ledger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 샤드 상태 스냅샷 파일을 읽고 씁니다.
+ *
+ * 임시 파일에 기록한 뒤 원자적으로 교체하므로 쓰기 도중 중단되어도 이전 스냅샷이 유지됩니다.
+ */
+public class LedgerSnapshotStore {
+    private static final int FORMAT_VERSION = 2;
+
+    private final Path directory;
+
+    public LedgerSnapshotStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public void write(int shardIndex, Snapshot snapshot) {
+        Path target = snapshotPath(shardIndex);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(snapshot.journalPosition());
+                out.writeInt(snapshot.accounts().size());
+                for (LedgerAccount account : snapshot.accounts()) {
+                    account.writeTo(out);
+                }
+                out.writeInt(snapshot.pendingTransfers().size());
+                for (LedgerEvent debit : snapshot.pendingTransfers()) {
+                    byte[] payload = debit.serialize();
+                    out.writeInt(payload.length);
+                    out.write(payload);
+                }
+                out.writeInt(snapshot.creditedTransfers().size());
+                for (String transactionId : snapshot.creditedTransfers()) {
+                    out.writeUTF(transactionId);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷을 저장할 수 없습니다: shard-" + shardIndex, e);
+        }
+    }
+
+    public Optional<Snapshot> read(int shardIndex) {
+        Path source = snapshotPath(shardIndex);
+        if (!Files.exists(source)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(source)))) {
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 스냅샷 형식입니다: " + version);
+            }
+            long journalPosition = in.readLong();
+
+            int accountCount = in.readInt();
+            List<LedgerAccount> accounts = new ArrayList<>(accountCount);
+            for (int i = 0; i < accountCount; i++) {
+                accounts.add(LedgerAccount.readFrom(in));
+            }
+
+            int pendingCount = in.readInt();
+            List<LedgerEvent> pendingTransfers = new ArrayList<>(pendingCount);
+            for (int i = 0; i < pendingCount; i++) {
+                byte[] payload = new byte[in.readInt()];
+                in.readFully(payload);
+                pendingTransfers.add(LedgerEvent.deserialize(payload));
+            }
+
+            int creditedCount = in.readInt();
+            List<String> creditedTransfers = new ArrayList<>(creditedCount);
+            for (int i = 0; i < creditedCount; i++) {
+                creditedTransfers.add(in.readUTF());
+            }
+            return Optional.of(new Snapshot(journalPosition, accounts, pendingTransfers, creditedTransfers));
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷을 읽을 수 없습니다: shard-" + shardIndex, e);
+        }
+    }
+
+    private Path snapshotPath(int shardIndex) {
+        return directory.resolve("shard-" + shardIndex + ".snapshot");
+    }
+
+    /**
+     * 특정 저널 위치까지 적용된 샤드 상태
+     *
+     * @param journalPosition 스냅샷에 반영된 마지막 저널 위치
+     * @param accounts 계좌 상태
+     * @param pendingTransfers 입금 확인을 기다리는 이체 출금 이벤트
+     * @param creditedTransfers 최근 입금 처리된 이체 거래 ID
+     */
+    public record Snapshot(
+            long journalPosition,
+            List<LedgerAccount> accounts,
+            List<LedgerEvent> pendingTransfers,
+            List<String> creditedTransfers
+    ) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.account.limit;
+
+import com.example.account.entity.Account;
+import com.example.account.exception.DailyLimitExceededException;
+import com.example.account.money.Money;
+
+import java.time.LocalDate;
+
+/**
+ * 계좌별 일일 출금/이체 한도를 확인하고 사용량을 누적합니다.
+ *
+ * {@code transfer.limit.mode} 설정으로 구현을 선택합니다.
+ * <ul>
+ *     <li>{@code database} (기본값) - 일일 거래 요약 행을 조건부 UPDATE 한 문장으로 확인, 누적</li>
+ *     <li>{@code redis} - Redis 스크립트로 확인과 누적을 한 번에 처리하고 DB 요약은 비동기로 반영</li>
+ * </ul>
+ * 누적은 현재 트랜잭션에 속하며, 트랜잭션이 롤백되면 반영되지 않습니다.
+ */
+public interface DailyLimitChecker {
+
+    /**
+     * 한도 안이면 사용량을 누적하고, 초과하면 예외를 던집니다.
+     *
+     * @param account 거래 계좌
+     * @param type 한도 종류
+     * @param amount 거래 금액
+     * @throws DailyLimitExceededException 일일 한도를 초과한 경우
+     */
+    void reserve(Account account, LimitType type, Money amount);
+
+    /**
+     * 해당 일자에 누적된 사용량을 조회합니다.
+     *
+     * @param accountId 계좌 ID
+     * @param type 한도 종류
+     * @param date {@code transfer.zone-id} 기준 날짜
+     * @return 누적 사용량 (거래가 없으면 0)
+     */
+    Money usage(Long accountId, LimitType type, LocalDate date);
+}
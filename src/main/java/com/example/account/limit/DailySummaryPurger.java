@@ -0,0 +1,73 @@
+package com.example.account.limit;
+
+import com.example.account.repository.DailyTransactionSummaryJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보관 기간이 지난 일일 거래 요약을 주기적으로 삭제합니다.
+ *
+ * 한도 확인에는 당일 행만 필요하므로 지난 날짜의 행은 보관 기간 동안만 남깁니다.
+ * 긴 락을 피하기 위해 한 번에 일정 건수씩 나누어 삭제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailySummaryPurger {
+    private final DailyTransactionSummaryJdbcRepository dailySummaryRepository;
+
+    @Value("${transfer.zone-id:Asia/Seoul}")
+    private ZoneId zoneId;
+
+    @Value("${transfer.limit.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${transfer.limit.purge-interval-minutes:60}")
+    private long purgeIntervalMinutes;
+
+    @Value("${transfer.limit.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "daily-summary-purger"));
+        scheduler.scheduleWithFixedDelay(this::purge, purgeIntervalMinutes, purgeIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 보관 기간 이전 날짜의 요약을 모두 삭제합니다.
+     */
+    void purge() {
+        LocalDate cutoff = LocalDate.now(zoneId).minusDays(retentionDays);
+        try {
+            int total = 0;
+            int deleted;
+            do {
+                deleted = dailySummaryRepository.deleteBefore(cutoff, purgeBatchSize);
+                total += deleted;
+            } while (deleted == purgeBatchSize && !Thread.currentThread().isInterrupted());
+            if (total > 0) {
+                log.info("일일 거래 요약 {}건 삭제 ({} 이전)", total, cutoff);
+            }
+        } catch (RuntimeException e) {
+            log.error("일일 거래 요약 삭제 실패", e);
+        }
+    }
+}
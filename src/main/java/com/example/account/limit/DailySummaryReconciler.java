@@ -0,0 +1,116 @@
+package com.example.account.limit;
+
+import com.example.account.money.Money;
+import com.example.account.repository.DailyTransactionSummaryJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 에서 확정된 한도 사용량을 DB 일일 거래 요약에 비동기로 반영합니다.
+ *
+ * 모인 사용량을 계좌, 일자별로 합쳐 한 번의 배치 upsert 로 반영하므로 거래 경로에서는 요약 행 락이 발생하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "transfer.limit", name = "mode", havingValue = "redis")
+public class DailySummaryReconciler {
+    private final DailyTransactionSummaryJdbcRepository dailySummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${transfer.limit.reconcile-batch-size:500}")
+    private int batchSize;
+
+    private final BlockingQueue<Usage> queue = new LinkedBlockingQueue<>();
+    private Thread worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "daily-summary-reconciler");
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.join();
+    }
+
+    /**
+     * 커밋된 한도 사용량을 반영 대기열에 넣습니다.
+     */
+    void record(Long accountId, LocalDate date, LimitType type, Money amount) {
+        queue.add(new Usage(accountId, date, type, amount));
+    }
+
+    private void run() {
+        List<Usage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Usage first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                apply(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 실패한 배치는 그대로 두고 잠시 후 다시 시도합니다.
+                log.error("일일 거래 요약 반영 실패, 재시도합니다. {}건", batch.size(), e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    private void apply(List<Usage> batch) {
+        Map<Usage.Key, long[]> totals = new LinkedHashMap<>();
+        for (Usage usage : batch) {
+            long[] total = totals.computeIfAbsent(usage.key(), key -> new long[LimitType.values().length]);
+            total[usage.type().ordinal()] = Math.addExact(total[usage.type().ordinal()], usage.amount().minorUnits());
+        }
+
+        List<DailyTransactionSummaryJdbcRepository.Totals> rows = new ArrayList<>(totals.size());
+        totals.forEach((key, total) -> rows.add(new DailyTransactionSummaryJdbcRepository.Totals(
+                key.accountId(), key.date(),
+                Money.ofMinor(total[LimitType.WITHDRAW.ordinal()]), Money.ofMinor(total[LimitType.TRANSFER.ordinal()]))));
+        transactionTemplate.executeWithoutResult(status -> dailySummaryRepository.addAll(rows));
+    }
+
+    private void sleepQuietly() {
+        try {
+            TimeUnit.SECONDS.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Usage(Long accountId, LocalDate date, LimitType type, Money amount) {
+        Key key() {
+            return new Key(accountId, date);
+        }
+
+        private record Key(Long accountId, LocalDate date) {
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.account.limit;
+
+import com.example.account.entity.Account;
+import com.example.account.exception.DailyLimitExceededException;
+import com.example.account.money.Money;
+import com.example.account.policy.TransferPolicyEngine;
+import com.example.account.repository.DailyTransactionSummaryJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 일일 거래 요약 행을 조건부로 갱신해 한도를 확인합니다.
+ *
+ * 확인과 누적이 한 문장이므로 요약 행을 미리 조회하거나 락을 걸지 않으며,
+ * 갱신된 행은 트랜잭션이 끝날 때까지 잠겨 같은 계좌의 동시 거래가 한도를 함께 넘지 못합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "transfer.limit", name = "mode", havingValue = "database", matchIfMissing = true)
+public class DatabaseDailyLimitChecker implements DailyLimitChecker {
+    private final DailyTransactionSummaryJdbcRepository dailySummaryRepository;
+    private final TransferPolicyEngine transferPolicyEngine;
+
+    @Value("${transfer.zone-id:Asia/Seoul}")
+    private ZoneId zoneId;
+
+    @Override
+    public void reserve(Account account, LimitType type, Money amount) {
+        LocalDate today = LocalDate.now(zoneId);
+        Money limit = transferPolicyEngine.current().dailyLimit(account, type);
+        switch (type) {
+            case WITHDRAW -> {
+                if (!dailySummaryRepository.addWithdrawWithinLimit(account.getId(), today, amount, limit)) {
+                    throw new DailyLimitExceededException("일일 출금 한도를 초과했습니다.");
+                }
+            }
+            case TRANSFER -> {
+                if (!dailySummaryRepository.addTransferWithinLimit(account.getId(), today, amount, limit)) {
+                    throw new DailyLimitExceededException("일일 이체 한도를 초과했습니다.");
+                }
+            }
+        }
+    }
+
+    @Override
+    public Money usage(Long accountId, LimitType type, LocalDate date) {
+        return dailySummaryRepository.findTotals(accountId, date)
+                .map(totals -> type == LimitType.WITHDRAW ? totals.withdraw() : totals.transfer())
+                .orElse(Money.ZERO);
+    }
+}
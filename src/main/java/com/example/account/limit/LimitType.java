@@ -0,0 +1,9 @@
+package com.example.account.limit;
+
+/**
+ * 일일 한도 종류
+ */
+public enum LimitType {
+    WITHDRAW,
+    TRANSFER
+}
@@ -0,0 +1,111 @@
+package com.example.account.limit;
+
+import com.example.account.entity.Account;
+import com.example.account.exception.DailyLimitExceededException;
+import com.example.account.money.Money;
+import com.example.account.policy.TransferPolicyEngine;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Redis 에 계좌별, 일자별 사용량을 두고 한도를 확인합니다.
+ *
+ * 확인과 누적은 Lua 스크립트 한 번으로 원자적으로 처리되어 DB 행 락 없이 한 번의 왕복으로 끝나며,
+ * 키는 다음 날 이후 자동으로 만료됩니다. 금액은 소수점 둘째 자리까지의 정수(최소 단위)로 저장합니다.
+ * 트랜잭션이 롤백되면 누적분을 되돌리고, 커밋되면 DB 일일 거래 요약에 비동기로 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "transfer.limit", name = "mode", havingValue = "redis")
+public class RedisDailyLimitChecker implements DailyLimitChecker {
+    private static final String KEY_PREFIX = "daily-limit:";
+
+    /**
+     * KEYS[1] 사용량 해시, ARGV[1] 필드, ARGV[2] 금액, ARGV[3] 한도, ARGV[4] 만료 시각(epoch 초)
+     * 한도를 넘으면 -1, 아니면 누적 후 사용량을 반환합니다.
+     */
+    private static final String RESERVE_SCRIPT = """
+            local used = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            if used + tonumber(ARGV[2]) > tonumber(ARGV[3]) then
+                return -1
+            end
+            local total = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('EXPIREAT', KEYS[1], ARGV[4])
+            return total
+            """;
+
+    /**
+     * KEYS[1] 사용량 해시, ARGV[1] 필드, ARGV[2] 금액
+     * 키가 이미 만료되었으면 되돌리지 않습니다.
+     */
+    private static final String RELEASE_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('HINCRBY', KEYS[1], ARGV[1], -tonumber(ARGV[2]))
+            end
+            return 0
+            """;
+
+    private final RedissonClient redissonClient;
+    private final DailySummaryReconciler reconciler;
+    private final TransferPolicyEngine transferPolicyEngine;
+
+    @Value("${transfer.zone-id:Asia/Seoul}")
+    private ZoneId zoneId;
+
+    @Override
+    public void reserve(Account account, LimitType type, Money amount) {
+        LocalDate today = LocalDate.now(zoneId);
+        String key = key(account.getId(), today);
+        String field = type.name().toLowerCase();
+        long minorAmount = amount.minorUnits();
+        long limit = transferPolicyEngine.current().dailyLimit(account, type).minorUnits();
+        // 자정 직전 거래의 롤백 보정이 가능하도록 하루 여유를 둡니다.
+        long expireAt = today.plusDays(2).atStartOfDay(zoneId).toEpochSecond();
+
+        Long used = script().eval(RScript.Mode.READ_WRITE, RESERVE_SCRIPT, RScript.ReturnType.INTEGER,
+                List.<Object>of(key), field, String.valueOf(minorAmount), String.valueOf(limit), String.valueOf(expireAt));
+        if (used < 0) {
+            throw new DailyLimitExceededException(type == LimitType.WITHDRAW
+                    ? "일일 출금 한도를 초과했습니다."
+                    : "일일 이체 한도를 초과했습니다.");
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    reconciler.record(account.getId(), today, type, amount);
+                } else {
+                    script().eval(RScript.Mode.READ_WRITE, RELEASE_SCRIPT, RScript.ReturnType.INTEGER,
+                            List.<Object>of(key), field, String.valueOf(minorAmount));
+                }
+            }
+        });
+    }
+
+    @Override
+    public Money usage(Long accountId, LimitType type, LocalDate date) {
+        String used = redissonClient.<String, String>getMap(key(accountId, date), StringCodec.INSTANCE)
+                .get(type.name().toLowerCase());
+        return used != null ? Money.ofMinor(Long.parseLong(used)) : Money.ZERO;
+    }
+
+    private String key(Long accountId, LocalDate date) {
+        return KEY_PREFIX + accountId + ":" + date;
+    }
+
+    private RScript script() {
+        return redissonClient.getScript(StringCodec.INSTANCE);
+    }
+}
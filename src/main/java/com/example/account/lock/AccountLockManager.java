@@ -0,0 +1,79 @@
+package com.example.account.lock;
+
+import com.example.account.exception.LockAcquisitionException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * 트랜잭션 범위의 계좌 락을 관리합니다.
+ *
+ * 한 작업에 필요한 계좌 락을 계좌번호 순서로 한 번에 획득하므로 A→B, B→A 이체가 서로를 기다리지 않으며,
+ * 락은 커밋 또는 롤백이 끝난 뒤에 해제되어 DB 행 락보다 먼저 풀리지 않습니다.
+ * 실제 락 구현은 {@link LockStrategy} 에 위임합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountLockManager {
+    /**
+     * 락을 해제하는 afterCompletion 의 순서. 락을 잡은 채로 하지 않아도 되는 후처리는 이보다 뒤에 둡니다.
+     */
+    public static final int RELEASE_ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    private final LockStrategy lockStrategy;
+
+    @Value("${transfer.lock.wait-millis:5000}")
+    private long waitMillis;
+
+    /**
+     * 계좌 락을 획득하고 현재 트랜잭션이 끝날 때 해제되도록 등록합니다.
+     *
+     * @param accountNumbers 락을 걸 계좌번호 (중복 허용, 순서 무관)
+     * @throws LockAcquisitionException 대기 시간 안에 락을 획득하지 못한 경우
+     * @throws IllegalStateException 활성화된 트랜잭션이 없는 경우
+     */
+    public void lockForTransaction(String... accountNumbers) {
+        lockForTransaction(Arrays.asList(accountNumbers));
+    }
+
+    /**
+     * 계좌 락을 획득하고 현재 트랜잭션이 끝날 때 해제되도록 등록합니다.
+     *
+     * @param accountNumbers 락을 걸 계좌번호 (중복 허용, 순서 무관)
+     * @throws LockAcquisitionException 대기 시간 안에 락을 획득하지 못한 경우
+     * @throws IllegalStateException 활성화된 트랜잭션이 없는 경우
+     */
+    public void lockForTransaction(Collection<String> accountNumbers) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("트랜잭션 안에서만 계좌 락을 획득할 수 있습니다.");
+        }
+
+        LockStrategy.Handle handle;
+        try {
+            handle = lockStrategy.acquire(new ArrayList<>(new TreeSet<>(accountNumbers)), waitMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LockAcquisitionException("락 획득 중 인터럽트 발생", e);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return RELEASE_ORDER;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                handle.release();
+            }
+        });
+    }
+}
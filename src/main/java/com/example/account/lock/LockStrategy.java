@@ -0,0 +1,38 @@
+package com.example.account.lock;
+
+import com.example.account.exception.LockAcquisitionException;
+
+import java.util.List;
+
+/**
+ * 계좌 락 구현 방식
+ *
+ * {@code transfer.lock.strategy} 설정으로 하나를 선택합니다.
+ * <ul>
+ *     <li>{@code redisson} (기본값) - Redis 분산 락, 여러 노드가 같은 계좌를 처리하는 경우</li>
+ *     <li>{@code mysql} - MySQL {@code GET_LOCK} 네임드 락, Redis 없이 여러 노드를 운영하는 경우</li>
+ *     <li>{@code local} - JVM 내부 스트라이프 락, 단일 노드 또는 계좌별로 노드가 고정된 경우</li>
+ *     <li>{@code row} - 별도 락 없이 DB 행 락({@code SELECT ... FOR UPDATE})만 사용</li>
+ * </ul>
+ */
+public interface LockStrategy {
+
+    /**
+     * 주어진 순서대로 계좌 락을 획득합니다.
+     *
+     * @param accountNumbers 중복 없이 정렬된 계좌번호
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 획득한 락을 해제하는 핸들
+     * @throws LockAcquisitionException 대기 시간 안에 락을 획득하지 못한 경우
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    Handle acquire(List<String> accountNumbers, long waitMillis) throws InterruptedException;
+
+    /**
+     * 획득한 락의 해제 핸들
+     */
+    @FunctionalInterface
+    interface Handle {
+        void release();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.account.lock;
+
+import com.example.account.exception.LockAcquisitionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MySQL {@code GET_LOCK} 네임드 락으로 계좌를 잠급니다.
+ *
+ * 네임드 락은 세션(커넥션)에 묶이므로 트랜잭션에 바인딩된 커넥션으로 획득하고,
+ * 해제도 같은 커넥션에서 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "transfer.lock", name = "strategy", havingValue = "mysql")
+public class MysqlNamedLockStrategy implements LockStrategy {
+    private static final String LOCK_PREFIX = "account-";
+
+    private final DataSource dataSource;
+
+    @Override
+    public Handle acquire(List<String> accountNumbers, long waitMillis) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        List<String> acquired = new ArrayList<>(accountNumbers.size());
+        long deadline = System.currentTimeMillis() + waitMillis;
+        try {
+            for (String accountNumber : accountNumbers) {
+                long remainingSeconds = Math.max(0, (deadline - System.currentTimeMillis() + 999) / 1000);
+                if (!getLock(connection, LOCK_PREFIX + accountNumber, remainingSeconds)) {
+                    throw new LockAcquisitionException("락 획득 실패");
+                }
+                acquired.add(LOCK_PREFIX + accountNumber);
+            }
+        } catch (SQLException e) {
+            release(connection, acquired);
+            throw new LockAcquisitionException("락 획득 실패", e);
+        } catch (RuntimeException e) {
+            release(connection, acquired);
+            throw e;
+        }
+        return () -> release(connection, acquired);
+    }
+
+    private boolean getLock(Connection connection, String lockName, long timeoutSeconds) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            statement.setString(1, lockName);
+            statement.setLong(2, timeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void release(Connection connection, List<String> lockNames) {
+        try {
+            for (String lockName : lockNames) {
+                try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                    statement.setString(1, lockName);
+                    statement.executeQuery().close();
+                } catch (SQLException e) {
+                    log.error("네임드 락 해제 실패: {}", lockName, e);
+                }
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.account.lock;
+
+import com.example.account.exception.LockAcquisitionException;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redisson 분산 락으로 계좌를 잠급니다. 여러 계좌는 하나의 멀티 락으로 획득합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "transfer.lock", name = "strategy", havingValue = "redisson", matchIfMissing = true)
+public class RedissonLockStrategy implements LockStrategy {
+    private static final String LOCK_PREFIX = "account:";
+
+    private final RedissonClient redissonClient;
+
+    @Override
+    public Handle acquire(List<String> accountNumbers, long waitMillis) throws InterruptedException {
+        RLock[] locks = accountNumbers.stream()
+                .map(accountNumber -> redissonClient.getLock(LOCK_PREFIX + accountNumber))
+                .toArray(RLock[]::new);
+        RLock lock = locks.length == 1 ? locks[0] : redissonClient.getMultiLock(locks);
+
+        // 임대 시간을 지정하지 않아 트랜잭션이 길어져도 watchdog 이 락을 연장합니다.
+        if (!lock.tryLock(waitMillis, TimeUnit.MILLISECONDS)) {
+            throw new LockAcquisitionException("락 획득 실패");
+        }
+        return lock::unlock;
+    }
+}
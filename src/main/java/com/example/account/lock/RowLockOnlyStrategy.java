@@ -0,0 +1,21 @@
+package com.example.account.lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 별도의 락을 걸지 않습니다. 동시성 제어는 서비스가 계좌번호 순서로 거는
+ * {@code SELECT ... FOR UPDATE} 행 락에만 맡깁니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "transfer.lock", name = "strategy", havingValue = "row")
+public class RowLockOnlyStrategy implements LockStrategy {
+
+    @Override
+    public Handle acquire(List<String> accountNumbers, long waitMillis) {
+        return () -> {
+        };
+    }
+}
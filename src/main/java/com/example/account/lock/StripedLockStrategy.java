@@ -0,0 +1,61 @@
+package com.example.account.lock;
+
+import com.example.account.exception.LockAcquisitionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JVM 내부의 스트라이프 락으로 계좌를 잠급니다.
+ *
+ * 계좌번호 해시로 고정 개수의 {@link ReentrantLock} 중 하나를 고르므로 계좌 수와 무관하게 메모리가 일정하고,
+ * 네트워크 왕복이 없습니다. 서로 다른 계좌가 같은 스트라이프를 공유할 수 있어 스트라이프 번호 순서로
+ * 획득하며, 같은 노드 안에서만 배타성이 보장됩니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "transfer.lock", name = "strategy", havingValue = "local")
+public class StripedLockStrategy implements LockStrategy {
+    private final ReentrantLock[] stripes;
+
+    public StripedLockStrategy(@Value("${transfer.lock.stripes:1024}") int stripeCount) {
+        stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public Handle acquire(List<String> accountNumbers, long waitMillis) throws InterruptedException {
+        int[] indexes = accountNumbers.stream()
+                .mapToInt(accountNumber -> Math.floorMod(accountNumber.hashCode(), stripes.length))
+                .distinct()
+                .sorted()
+                .toArray();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+
+        int locked = 0;
+        try {
+            for (int index : indexes) {
+                if (!stripes[index].tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    throw new LockAcquisitionException("락 획득 실패");
+                }
+                locked++;
+            }
+        } finally {
+            if (locked < indexes.length) {
+                unlock(indexes, locked);
+            }
+        }
+        return () -> unlock(indexes, indexes.length);
+    }
+
+    private void unlock(int[] indexes, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            stripes[indexes[i]].unlock();
+        }
+    }
+}
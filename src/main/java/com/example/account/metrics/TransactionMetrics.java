@@ -0,0 +1,227 @@
+package com.example.account.metrics;
+
+import com.example.account.exception.ErrorCode;
+import com.example.account.exception.LockAcquisitionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 입금, 출금, 이체의 단계별 소요 시간과 실패를 기록합니다.
+ *
+ * <ul>
+ *     <li>{@code transaction.phase} (operation, phase) - 계좌 락, 행 락 조회, 한도 확인, 저장, 커밋 단계별 소요 시간</li>
+ *     <li>{@code transaction.duration} (operation, outcome) - 커밋 또는 롤백까지의 전체 소요 시간</li>
+ *     <li>{@code transaction.rejections} (operation, reason) - 실패 사유({@link ErrorCode})별 건수</li>
+ *     <li>{@code transaction.lock.failures} (operation) - 계좌 락 획득 실패 건수</li>
+ *     <li>{@code transaction.in.flight} (operation) - 처리 중인 건수</li>
+ *     <li>{@code transaction.coalescing.round} (outcome) - 요청 합치기 라운드 하나의 소요 시간</li>
+ *     <li>{@code transaction.coalescing.round.size} - 라운드 하나에 합쳐진 요청 수</li>
+ * </ul>
+ * 요청 합치기로 처리한 거래는 단계별 시간 대신 요청부터 결과까지의 전체 소요 시간과 실패 사유를 기록합니다.
+ * 타이머는 백분위 히스토그램을 함께 내보내므로 Prometheus 에서 p99 를 계산할 수 있습니다.
+ */
+@Component
+public class TransactionMetrics {
+    private final MeterRegistry meterRegistry;
+    private final Map<Operation, Map<Phase, Timer>> phaseTimers = new EnumMap<>(Operation.class);
+    private final Map<Operation, Timer> successTimers = new EnumMap<>(Operation.class);
+    private final Map<Operation, Timer> failureTimers = new EnumMap<>(Operation.class);
+    private final Map<Operation, Counter> lockFailures = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicInteger> inFlight = new EnumMap<>(Operation.class);
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private final Timer roundSuccessTimer;
+    private final Timer roundFailureTimer;
+    private final DistributionSummary roundSize;
+
+    public TransactionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (Operation operation : Operation.values()) {
+            Map<Phase, Timer> timers = new EnumMap<>(Phase.class);
+            for (Phase phase : Phase.values()) {
+                timers.put(phase, timer("transaction.phase", operation, Tags.of("phase", phase.tag())));
+            }
+            phaseTimers.put(operation, timers);
+            successTimers.put(operation, timer("transaction.duration", operation, Tags.of("outcome", "success")));
+            failureTimers.put(operation, timer("transaction.duration", operation, Tags.of("outcome", "failure")));
+            lockFailures.put(operation, meterRegistry.counter("transaction.lock.failures", "operation", operation.tag()));
+            inFlight.put(operation, meterRegistry.gauge("transaction.in.flight",
+                    Tags.of("operation", operation.tag()), new AtomicInteger()));
+        }
+        roundSuccessTimer = roundTimer("success");
+        roundFailureTimer = roundTimer("failure");
+        roundSize = DistributionSummary.builder("transaction.coalescing.round.size")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업을 실행하며 소요 시간과 실패를 기록합니다.
+     *
+     * 트랜잭션 안에서 호출되면 커밋 시간과 전체 소요 시간은 트랜잭션이 끝날 때 기록합니다.
+     *
+     * @param operation 작업 종류
+     * @param work 단계 경계마다 {@link Recorder#lap(Phase)} 를 호출하는 작업
+     * @return 작업 결과
+     */
+    public <T> T record(Operation operation, Function<Recorder, T> work) {
+        Recorder recorder = new Recorder(operation);
+        inFlight.get(operation).incrementAndGet();
+        boolean synchronizing = TransactionSynchronizationManager.isSynchronizationActive();
+        if (synchronizing) {
+            TransactionSynchronizationManager.registerSynchronization(recorder);
+        }
+        try {
+            T result = work.apply(recorder);
+            if (!synchronizing) {
+                recorder.complete(true);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            reject(operation, e);
+            if (!synchronizing) {
+                recorder.complete(false);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 트랜잭션 밖에서 결과가 정해지는 작업의 측정을 시작합니다.
+     * 작업이 끝나면 {@link Recorder#finish(RuntimeException)} 를 호출해야 합니다.
+     *
+     * @param operation 작업 종류
+     * @return 결과를 기록할 Recorder
+     */
+    public Recorder start(Operation operation) {
+        inFlight.get(operation).incrementAndGet();
+        return new Recorder(operation);
+    }
+
+    /**
+     * 요청 합치기 라운드 하나를 기록합니다.
+     *
+     * @param size 라운드에 합쳐진 요청 수
+     * @param nanos 라운드 소요 시간
+     * @param success 라운드 트랜잭션이 커밋됐는지 여부
+     */
+    public void recordRound(int size, long nanos, boolean success) {
+        roundSize.record(size);
+        (success ? roundSuccessTimer : roundFailureTimer).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void reject(Operation operation, RuntimeException e) {
+        if (e instanceof LockAcquisitionException) {
+            lockFailures.get(operation).increment();
+        }
+        String reason = ErrorCode.of(e).name();
+        rejections.computeIfAbsent(operation.tag() + ":" + reason, key -> meterRegistry.counter(
+                "transaction.rejections", "operation", operation.tag(), "reason", reason)).increment();
+    }
+
+    private Timer roundTimer(String outcome) {
+        return Timer.builder("transaction.coalescing.round")
+                .tags("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Timer timer(String name, Operation operation, Tags tags) {
+        return Timer.builder(name)
+                .tags(tags.and("operation", operation.tag()))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한 작업의 단계별 시간을 잽니다.
+     */
+    public final class Recorder implements TransactionSynchronization {
+        private final Operation operation;
+        private final long startedAt;
+        private long lapStartedAt;
+
+        private Recorder(Operation operation) {
+            this.operation = operation;
+            this.startedAt = System.nanoTime();
+            this.lapStartedAt = startedAt;
+        }
+
+        /**
+         * 직전 경계부터 지금까지를 해당 단계 시간으로 기록합니다.
+         */
+        public void lap(Phase phase) {
+            long now = System.nanoTime();
+            phaseTimers.get(operation).get(phase).record(now - lapStartedAt, TimeUnit.NANOSECONDS);
+            lapStartedAt = now;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            lapStartedAt = System.nanoTime();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+                lap(Phase.COMMIT);
+            }
+            complete(status == STATUS_COMMITTED);
+        }
+
+        /**
+         * {@link #start(Operation)} 로 시작한 작업의 결과를 기록합니다.
+         *
+         * @param error 실패한 경우 사유 (성공이면 null)
+         */
+        public void finish(RuntimeException error) {
+            if (error != null) {
+                reject(operation, error);
+            }
+            complete(error == null);
+        }
+
+        private void complete(boolean success) {
+            (success ? successTimers : failureTimers).get(operation)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            inFlight.get(operation).decrementAndGet();
+        }
+    }
+
+    public enum Operation {
+        DEPOSIT, WITHDRAW, TRANSFER;
+
+        String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    public enum Phase {
+        /** 계좌 락 획득 ({@link com.example.account.lock.LockStrategy}) */
+        LOCK,
+        /** 계좌 행 FOR UPDATE 조회 */
+        ROW_LOCK,
+        /** 일일 한도 확인과 누적 */
+        LIMIT,
+        /** 거래 내역, 분개 저장 */
+        PERSIST,
+        /** 커밋 */
+        COMMIT;
+
+        String tag() {
+            return name().toLowerCase();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.account.money;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 보조 단위(1/100) 정수로 표현한 금액
+ *
+ * 금액 컬럼과 같은 소수점 {@value #SCALE} 자리까지만 표현하며, 덧셈, 뺄셈, 비교는 long 연산 하나로 끝나므로
+ * BigDecimal 처럼 연산마다 정밀도 계산이나 BigInteger 할당이 생기지 않습니다.
+ * 비율 계산은 {@link #multiply(long, long, RoundingMode)} 로 반올림 방식을 명시해야 합니다.
+ * 범위를 넘는 연산은 {@link ArithmeticException} 을 던집니다.
+ *
+ * DB 에는 {@link MoneyConverter} 로, JSON 에는 숫자로 기록됩니다.
+ */
+@JsonSerialize(using = MoneyJsonSerializer.class)
+@JsonDeserialize(using = MoneyJsonDeserializer.class)
+@Schema(type = "number", example = "10000")
+public final class Money implements Comparable<Money> {
+    /**
+     * 소수점 이하 자리수 (금액 컬럼의 scale 과 같습니다)
+     */
+    public static final int SCALE = 2;
+
+    private static final long MINOR_PER_MAJOR = 100L;
+
+    public static final Money ZERO = new Money(0L);
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    /**
+     * 보조 단위 금액으로 만듭니다.
+     */
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0L ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * 정수 금액으로 만듭니다.
+     */
+    public static Money of(long amount) {
+        return ofMinor(Math.multiplyExact(amount, MINOR_PER_MAJOR));
+    }
+
+    /**
+     * BigDecimal 금액을 변환합니다.
+     *
+     * @throws IllegalArgumentException 소수점 {@value #SCALE} 자리를 넘거나 범위를 벗어난 경우
+     */
+    public static Money of(BigDecimal amount) {
+        try {
+            return ofMinor(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("금액은 소수점 " + SCALE + "자리까지 표현할 수 있습니다: " + amount, e);
+        }
+    }
+
+    /**
+     * null 을 허용해 변환합니다.
+     */
+    public static Money ofNullable(BigDecimal amount) {
+        return amount != null ? of(amount) : null;
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money negate() {
+        return ofMinor(Math.negateExact(minorUnits));
+    }
+
+    public Money abs() {
+        return minorUnits < 0L ? negate() : this;
+    }
+
+    /**
+     * 금액에 numerator / denominator 를 곱하고 보조 단위로 반올림합니다.
+     *
+     * @param numerator 분자
+     * @param denominator 분모 (양수)
+     * @param roundingMode 반올림 방식 ({@link RoundingMode#UNNECESSARY} 는 나누어떨어지지 않으면 예외)
+     */
+    public Money multiply(long numerator, long denominator, RoundingMode roundingMode) {
+        return ofMinor(multiplyMinor(minorUnits, numerator, denominator, roundingMode));
+    }
+
+    /**
+     * {@link #multiply(long, long, RoundingMode)} 의 보조 단위 버전. 객체를 만들지 않으므로
+     * 여러 단계를 거치는 계산(수수료 구간, 하한/상한 적용)의 중간값에 사용합니다.
+     */
+    public static long multiplyMinor(long minorUnits, long numerator, long denominator, RoundingMode roundingMode) {
+        if (denominator <= 0L) {
+            throw new IllegalArgumentException("분모는 양수여야 합니다.");
+        }
+        long product = Math.multiplyExact(minorUnits, numerator);
+        long quotient = product / denominator;
+        long remainder = product % denominator;
+        if (remainder == 0L) {
+            return quotient;
+        }
+        int sign = Long.signum(product);
+        boolean awayFromZero = switch (roundingMode) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> sign > 0;
+            case FLOOR -> sign < 0;
+            case HALF_UP, HALF_DOWN, HALF_EVEN -> {
+                long twice = Math.abs(remainder) * 2;
+                if (twice != denominator) {
+                    yield twice > denominator;
+                }
+                yield roundingMode == RoundingMode.HALF_UP
+                        || (roundingMode == RoundingMode.HALF_EVEN && (quotient & 1L) != 0L);
+            }
+            case UNNECESSARY -> throw new ArithmeticException("나누어떨어지지 않습니다.");
+        };
+        return awayFromZero ? quotient + sign : quotient;
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0L;
+    }
+
+    public boolean isLessThan(Money other) {
+        return minorUnits < other.minorUnits;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return minorUnits > other.minorUnits;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && minorUnits == other.minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
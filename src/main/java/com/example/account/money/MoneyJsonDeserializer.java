@@ -0,0 +1,26 @@
+package com.example.account.money;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * JSON 숫자(또는 숫자 문자열)를 {@link Money} 로 읽습니다.
+ */
+public class MoneyJsonDeserializer extends StdDeserializer<Money> {
+
+    public MoneyJsonDeserializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        try {
+            return Money.of(p.getDecimalValue());
+        } catch (IllegalArgumentException e) {
+            return (Money) ctxt.handleWeirdNumberValue(Money.class, p.getDecimalValue(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.account.policy;
+
+import com.example.account.limit.LimitType;
+import com.example.account.money.Money;
+
+import java.math.RoundingMode;
+
+/**
+ * 컴파일된 등급별 정책. 생성 후 바뀌지 않으므로 여러 스레드가 락 없이 함께 읽습니다.
+ *
+ * 수수료 구간은 보조 단위 long 배열로 펼쳐 두어, 계산 중에는 결과 {@link Money} 외에 객체를 만들지 않습니다.
+ */
+public final class TierPolicy {
+    // 수수료율 정밀도 (백만분율)
+    static final long RATE_DENOMINATOR = 1_000_000L;
+
+    private final String name;
+    private final Money dailyWithdrawLimit;
+    private final Money dailyTransferLimit;
+    // 구간 상한 (보조 단위, 포함). 마지막 구간은 Long.MAX_VALUE
+    private final long[] upperBounds;
+    // 구간 수수료율 (백만분율)
+    private final long[] rates;
+    // 구간 고정 수수료 (보조 단위)
+    private final long[] fixedFees;
+    private final long minimumFee;
+    private final long maximumFee;
+    private final RoundingMode rounding;
+
+    TierPolicy(String name, Money dailyWithdrawLimit, Money dailyTransferLimit,
+               long[] upperBounds, long[] rates, long[] fixedFees,
+               long minimumFee, long maximumFee, RoundingMode rounding) {
+        this.name = name;
+        this.dailyWithdrawLimit = dailyWithdrawLimit;
+        this.dailyTransferLimit = dailyTransferLimit;
+        this.upperBounds = upperBounds;
+        this.rates = rates;
+        this.fixedFees = fixedFees;
+        this.minimumFee = minimumFee;
+        this.maximumFee = maximumFee;
+        this.rounding = rounding;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * 이체 수수료를 계산합니다. 금액이 속한 구간의 고정 수수료와 비율 수수료를 더한 뒤 최소/최대 수수료를 적용합니다.
+     *
+     * @param amount 이체 금액
+     * @return 수수료
+     */
+    public Money fee(Money amount) {
+        long minorUnits = amount.minorUnits();
+        int bracket = 0;
+        while (minorUnits > upperBounds[bracket]) {
+            bracket++;
+        }
+        long fee = Math.addExact(fixedFees[bracket],
+                Money.multiplyMinor(minorUnits, rates[bracket], RATE_DENOMINATOR, rounding));
+        return Money.ofMinor(Math.min(Math.max(fee, minimumFee), maximumFee));
+    }
+
+    /**
+     * 적용할 일일 한도를 반환합니다. 계좌별 한도가 등급 한도보다 크면 등급 한도가 상한이 됩니다.
+     *
+     * @param type 한도 종류
+     * @param accountLimit 계좌에 저장된 한도 (없으면 등급 한도)
+     */
+    public Money dailyLimit(LimitType type, Money accountLimit) {
+        Money tierLimit = dailyLimit(type);
+        return accountLimit != null && accountLimit.isLessThan(tierLimit) ? accountLimit : tierLimit;
+    }
+
+    /**
+     * 등급의 일일 한도
+     */
+    public Money dailyLimit(LimitType type) {
+        return switch (type) {
+            case WITHDRAW -> dailyWithdrawLimit;
+            case TRANSFER -> dailyTransferLimit;
+        };
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.account.policy;
+
+import com.example.account.entity.Account;
+import com.example.account.limit.LimitType;
+import com.example.account.money.Money;
+import com.example.account.policy.TransferPolicyProperties.Bracket;
+import com.example.account.policy.TransferPolicyProperties.Fee;
+import com.example.account.policy.TransferPolicyProperties.Tier;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 등급별 수수료와 한도를 미리 계산해 둔 불변 정책.
+ *
+ * 설정을 바꾸면 새 인스턴스를 만들어 {@link TransferPolicyEngine} 에서 통째로 교체하므로,
+ * 거래 처리 중에는 한 번 읽은 정책이 끝까지 일관되게 적용됩니다.
+ */
+public final class TransferPolicy {
+    public static final String DEFAULT_TIER = "STANDARD";
+
+    private final Map<String, TierPolicy> tiers;
+    private final TierPolicy defaultTier;
+
+    private TransferPolicy(Map<String, TierPolicy> tiers, TierPolicy defaultTier) {
+        this.tiers = tiers;
+        this.defaultTier = defaultTier;
+    }
+
+    /**
+     * 설정을 검증하고 조회용 구조로 변환합니다.
+     *
+     * @param properties transfer.policy 설정
+     * @param fallback 등급 설정에 없는 값에 사용할 기본값 (모든 값이 채워져 있어야 합니다)
+     * @throws IllegalStateException 구간 순서, 최소/최대 수수료, 한도 등 설정이 올바르지 않은 경우
+     */
+    public static TransferPolicy compile(TransferPolicyProperties properties, Tier fallback) {
+        String defaultTierName = normalize(properties.defaultTier() != null ? properties.defaultTier() : DEFAULT_TIER);
+        Map<String, Tier> configured = properties.tiers() == null || properties.tiers().isEmpty()
+                ? Map.of(defaultTierName, fallback)
+                : properties.tiers();
+
+        Map<String, TierPolicy> compiled = new HashMap<>();
+        configured.forEach((name, tier) -> {
+            TierPolicy tierPolicy = compileTier(normalize(name), tier != null ? tier : fallback, fallback);
+            if (compiled.put(tierPolicy.name(), tierPolicy) != null) {
+                throw new IllegalStateException("중복된 등급입니다: " + name);
+            }
+        });
+
+        TierPolicy defaultTier = compiled.get(defaultTierName);
+        if (defaultTier == null) {
+            throw new IllegalStateException("기본 등급이 정의되지 않았습니다: " + defaultTierName);
+        }
+        return new TransferPolicy(Map.copyOf(compiled), defaultTier);
+    }
+
+    /**
+     * 한 등급만 있고 비율 수수료만 받는 정책을 만듭니다.
+     */
+    public static TransferPolicy flat(Money dailyWithdrawLimit, Money dailyTransferLimit, BigDecimal feeRate) {
+        Tier tier = new Tier(dailyWithdrawLimit.toBigDecimal(), dailyTransferLimit.toBigDecimal(),
+                new Fee(List.of(new Bracket(null, feeRate, null)), null, null, RoundingMode.HALF_UP));
+        return compile(new TransferPolicyProperties(DEFAULT_TIER, Map.of()), tier);
+    }
+
+    /**
+     * 등급 정책을 반환합니다. 등급이 없거나 더 이상 정의되지 않은 등급이면 기본 등급을 적용합니다.
+     */
+    public TierPolicy tier(String name) {
+        if (name == null) {
+            return defaultTier;
+        }
+        return tiers.getOrDefault(name, defaultTier);
+    }
+
+    /**
+     * 정의된 등급을 찾습니다.
+     *
+     * @param name 등급 이름 (대소문자 무시, null 이면 기본 등급)
+     * @throws IllegalArgumentException 정의되지 않은 등급인 경우
+     */
+    public TierPolicy requireTier(String name) {
+        if (name == null) {
+            return defaultTier;
+        }
+        TierPolicy tier = tiers.get(normalize(name));
+        if (tier == null) {
+            throw new IllegalArgumentException("정의되지 않은 등급입니다: " + name);
+        }
+        return tier;
+    }
+
+    public TierPolicy defaultTier() {
+        return defaultTier;
+    }
+
+    /**
+     * 출금 계좌의 등급에 따른 이체 수수료
+     */
+    public Money transferFee(Account account, Money amount) {
+        return tier(account.getTier()).fee(amount);
+    }
+
+    /**
+     * 계좌 한도와 등급 한도 중 작은 값
+     */
+    public Money dailyLimit(Account account, LimitType type) {
+        Money accountLimit = switch (type) {
+            case WITHDRAW -> account.getDailyWithdrawLimit();
+            case TRANSFER -> account.getDailyTransferLimit();
+        };
+        return tier(account.getTier()).dailyLimit(type, accountLimit);
+    }
+
+    private static TierPolicy compileTier(String name, Tier tier, Tier fallback) {
+        Money dailyWithdrawLimit = positive(name, "일일 출금 한도",
+                tier.dailyWithdrawLimit() != null ? tier.dailyWithdrawLimit() : fallback.dailyWithdrawLimit());
+        Money dailyTransferLimit = positive(name, "일일 이체 한도",
+                tier.dailyTransferLimit() != null ? tier.dailyTransferLimit() : fallback.dailyTransferLimit());
+        Fee fee = tier.fee() != null ? tier.fee() : fallback.fee();
+
+        List<Bracket> brackets = fee.brackets();
+        if (brackets == null || brackets.isEmpty()) {
+            throw new IllegalStateException(name + ": 수수료 구간이 없습니다.");
+        }
+        int size = brackets.size();
+        long[] upperBounds = new long[size];
+        long[] rates = new long[size];
+        long[] fixedFees = new long[size];
+        long previous = -1L;
+        for (int i = 0; i < size; i++) {
+            Bracket bracket = brackets.get(i);
+            boolean last = i == size - 1;
+            if (bracket.upTo() == null) {
+                if (!last) {
+                    throw new IllegalStateException(name + ": 상한이 없는 구간은 마지막에만 올 수 있습니다.");
+                }
+                upperBounds[i] = Long.MAX_VALUE;
+            } else {
+                if (last) {
+                    throw new IllegalStateException(name + ": 마지막 수수료 구간에는 상한이 없어야 합니다.");
+                }
+                upperBounds[i] = Money.of(bracket.upTo()).minorUnits();
+                if (upperBounds[i] <= previous) {
+                    throw new IllegalStateException(name + ": 수수료 구간 상한은 오름차순이어야 합니다.");
+                }
+                previous = upperBounds[i];
+            }
+            rates[i] = rate(name, bracket.rate());
+            fixedFees[i] = nonNegative(name, "고정 수수료", bracket.fixed());
+        }
+
+        long minimumFee = nonNegative(name, "최소 수수료", fee.minimum());
+        long maximumFee = fee.maximum() != null ? nonNegative(name, "최대 수수료", fee.maximum()) : Long.MAX_VALUE;
+        if (minimumFee > maximumFee) {
+            throw new IllegalStateException(name + ": 최소 수수료가 최대 수수료보다 큽니다.");
+        }
+        RoundingMode rounding = fee.rounding() != null ? fee.rounding() : RoundingMode.HALF_UP;
+        return new TierPolicy(name, dailyWithdrawLimit, dailyTransferLimit,
+                upperBounds, rates, fixedFees, minimumFee, maximumFee, rounding);
+    }
+
+    private static long rate(String name, BigDecimal rate) {
+        if (rate == null) {
+            return 0L;
+        }
+        if (rate.signum() < 0) {
+            throw new IllegalStateException(name + ": 수수료율은 음수일 수 없습니다.");
+        }
+        try {
+            return rate.movePointRight(6).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalStateException(name + ": 수수료율은 백만분의 1 단위까지 지정할 수 있습니다: " + rate, e);
+        }
+    }
+
+    private static long nonNegative(String name, String label, BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        long minorUnits = Money.of(amount).minorUnits();
+        if (minorUnits < 0L) {
+            throw new IllegalStateException(name + ": " + label + "은(는) 음수일 수 없습니다.");
+        }
+        return minorUnits;
+    }
+
+    private static Money positive(String name, String label, BigDecimal amount) {
+        Money money = Money.of(amount);
+        if (!money.isPositive()) {
+            throw new IllegalStateException(name + ": " + label + "은(는) 0보다 커야 합니다.");
+        }
+        return money;
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.account.policy;
+
+import com.example.account.policy.TransferPolicyProperties.Bracket;
+import com.example.account.policy.TransferPolicyProperties.Fee;
+import com.example.account.policy.TransferPolicyProperties.Tier;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이체 수수료와 일일 한도 정책을 읽어 현재 정책으로 제공합니다.
+ *
+ * transfer.policy.location 에 YAML 파일을 지정하면 application.yml 대신 그 파일의 transfer.policy 를 읽고,
+ * 파일이 바뀔 때마다 새 정책을 컴파일해 참조 하나로 교체합니다. 거래 처리 쪽은 volatile 읽기 한 번으로
+ * 정책을 가져오므로 다시 읽는 중에도 락을 기다리지 않습니다. 새 설정이 올바르지 않으면 기존 정책을 유지합니다.
+ *
+ * 등급 설정이 없으면 transfer.daily-withdraw-limit, daily-transfer-limit, transfer-fee-rate 로 기본 등급 하나를 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferPolicyEngine {
+    private static final String PREFIX = "transfer.policy";
+
+    private final Environment environment;
+
+    @Value("${transfer.policy.location:}")
+    private String location;
+
+    @Value("${transfer.policy.reload-interval-seconds:30}")
+    private long reloadIntervalSeconds;
+
+    @Value("${transfer.daily-withdraw-limit:1000000}")
+    private BigDecimal dailyWithdrawLimit;
+
+    @Value("${transfer.daily-transfer-limit:3000000}")
+    private BigDecimal dailyTransferLimit;
+
+    @Value("${transfer.transfer-fee-rate:0.01}")
+    private BigDecimal transferFeeRate;
+
+    private volatile TransferPolicy current;
+
+    private ScheduledExecutorService reloader;
+
+    // 마지막으로 읽은 정책 파일의 수정 시각 (reloader 스레드에서만 갱신)
+    private long lastModified;
+
+    /**
+     * 설정을 읽지 않고 주어진 정책만 제공하는 엔진을 만듭니다. 테스트와 벤치마크에서 사용합니다.
+     */
+    public static TransferPolicyEngine fixed(TransferPolicy policy) {
+        TransferPolicyEngine engine = new TransferPolicyEngine(null);
+        engine.current = policy;
+        return engine;
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            if (!location.isBlank()) {
+                lastModified = new File(location).lastModified();
+            }
+            current = load();
+        } catch (IOException e) {
+            throw new IllegalStateException("이체 정책 파일을 읽을 수 없습니다: " + location, e);
+        }
+        log.info("이체 정책 적용 (기본 등급 {})", current.defaultTier().name());
+
+        if (!location.isBlank()) {
+            reloader = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "transfer-policy-reloader"));
+            reloader.scheduleWithFixedDelay(this::reloadIfModified,
+                    reloadIntervalSeconds, reloadIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (reloader != null) {
+            reloader.shutdownNow();
+        }
+    }
+
+    /**
+     * 현재 정책. 한 거래 안에서는 한 번 읽은 정책을 계속 사용해야 수수료와 한도가 같은 버전으로 계산됩니다.
+     */
+    public TransferPolicy current() {
+        return current;
+    }
+
+    /**
+     * 정책을 다시 읽어 교체합니다. 설정이 올바르지 않으면 기존 정책을 유지합니다.
+     *
+     * @return 교체했으면 true
+     */
+    public synchronized boolean reload() {
+        try {
+            current = load();
+            log.info("이체 정책을 다시 읽었습니다 (기본 등급 {})", current.defaultTier().name());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("이체 정책을 다시 읽지 못해 기존 정책을 유지합니다.", e);
+            return false;
+        }
+    }
+
+    void reloadIfModified() {
+        long modified = new File(location).lastModified();
+        if (modified != lastModified) {
+            lastModified = modified;
+            reload();
+        }
+    }
+
+    private TransferPolicy load() throws IOException {
+        Binder binder = location.isBlank() ? Binder.get(environment) : fileBinder();
+        TransferPolicyProperties properties = binder.bind(PREFIX, TransferPolicyProperties.class)
+                .orElseGet(() -> new TransferPolicyProperties(TransferPolicy.DEFAULT_TIER, Map.of()));
+        return TransferPolicy.compile(properties, legacyTier());
+    }
+
+    private Binder fileBinder() throws IOException {
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader()
+                .load(location, new FileSystemResource(location));
+        return new Binder(ConfigurationPropertySources.from(sources));
+    }
+
+    private Tier legacyTier() {
+        return new Tier(dailyWithdrawLimit, dailyTransferLimit,
+                new Fee(List.of(new Bracket(null, transferFeeRate, null)), null, null, RoundingMode.HALF_UP));
+    }
+}
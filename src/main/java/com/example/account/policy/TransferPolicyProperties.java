@@ -0,0 +1,59 @@
+package com.example.account.policy;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * transfer.policy 설정을 바인딩하는 원본 구조. 실제 계산에는 {@link TransferPolicy#compile} 결과를 사용합니다.
+ *
+ * @param defaultTier 등급이 없는 계좌에 적용할 등급
+ * @param tiers 등급 이름별 설정
+ */
+public record TransferPolicyProperties(
+        @DefaultValue(TransferPolicy.DEFAULT_TIER) String defaultTier,
+        Map<String, Tier> tiers
+) {
+    /**
+     * 등급별 한도와 수수료. 비어 있는 값은 transfer.daily-withdraw-limit 등 기본 설정을 따릅니다.
+     */
+    public record Tier(
+            BigDecimal dailyWithdrawLimit,
+            BigDecimal dailyTransferLimit,
+            Fee fee
+    ) {
+    }
+
+    /**
+     * 수수료 구간표
+     *
+     * @param brackets 이체 금액 상한 오름차순 구간 (마지막 구간은 상한 없음)
+     * @param minimum 최소 수수료
+     * @param maximum 최대 수수료
+     * @param rounding 보조 단위 미만 반올림 방식
+     */
+    public record Fee(
+            List<Bracket> brackets,
+            BigDecimal minimum,
+            BigDecimal maximum,
+            @DefaultValue("HALF_UP") RoundingMode rounding
+    ) {
+    }
+
+    /**
+     * 수수료 구간. 이체 금액이 upTo 이하이면 fixed + 금액 × rate 를 적용합니다.
+     *
+     * @param upTo 구간 상한 (포함, 없으면 상한 없음)
+     * @param rate 수수료율 (0.01 = 1%)
+     * @param fixed 건당 고정 수수료
+     */
+    public record Bracket(
+            BigDecimal upTo,
+            BigDecimal rate,
+            BigDecimal fixed
+    ) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.account.replica;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 쓰레드의 읽기 라우팅 조건
+ *
+ * 읽기 전용 트랜잭션은 기본적으로 복제 DB 로 가지만, 클라이언트가 보낸 읽기 토큰 이후의 변경을 반영한 복제 DB 가 없거나
+ * {@link #onPrimary(Supplier)} 로 감싼 구간에서는 주 DB 를 사용합니다. 복제 DB 를 쓰지 않는 설정에서는 아무 효과가 없습니다.
+ */
+public final class ReadRoutingContext {
+    private static final ThreadLocal<Long> READ_AFTER = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadRoutingContext() {
+    }
+
+    /**
+     * 이 시각(epoch 밀리초) 이전에 커밋된 변경을 모두 반영한 DB 에서만 읽도록 합니다.
+     */
+    public static void setReadAfter(long epochMillis) {
+        READ_AFTER.set(epochMillis);
+    }
+
+    /**
+     * 읽기 토큰 시각. 토큰이 없으면 0 입니다.
+     */
+    public static long readAfter() {
+        Long readAfter = READ_AFTER.get();
+        return readAfter != null ? readAfter : 0L;
+    }
+
+    public static void clear() {
+        READ_AFTER.remove();
+        PRIMARY_REQUIRED.remove();
+    }
+
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+
+    /**
+     * 읽기 전용 트랜잭션이라도 주 DB 에서 읽습니다. 커넥션은 첫 문장을 실행할 때 정해지므로
+     * 트랜잭션 안에서 첫 조회를 감싸야 합니다.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            } else {
+                PRIMARY_REQUIRED.set(previous);
+            }
+        }
+    }
+}
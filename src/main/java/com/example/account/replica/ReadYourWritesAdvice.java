@@ -0,0 +1,38 @@
+package com.example.account.replica;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 변경 요청의 응답에 읽기 토큰을 붙입니다.
+ *
+ * 응답 본문을 쓰는 시점에는 서비스 트랜잭션이 이미 커밋되었으므로 현재 시각을 토큰으로 발급합니다.
+ * 인스턴스 간 시계 차이만큼은 토큰이 느슨해지므로 서버 시계를 NTP 로 맞춰 두어야 합니다.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(prefix = "replica", name = "enabled", havingValue = "true")
+public class ReadYourWritesAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        HttpMethod method = request.getMethod();
+        if (!HttpMethod.GET.equals(method) && !HttpMethod.HEAD.equals(method)) {
+            response.getHeaders().set(ReadYourWritesFilter.HEADER, String.valueOf(System.currentTimeMillis()));
+        }
+        return body;
+    }
+}
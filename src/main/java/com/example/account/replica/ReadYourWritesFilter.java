@@ -0,0 +1,41 @@
+package com.example.account.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청의 읽기 토큰({@value #HEADER})을 읽기 라우팅 조건으로 설정합니다.
+ *
+ * 토큰은 변경 요청의 응답 헤더로 발급되며({@link ReadYourWritesAdvice}), 이후 조회 요청에 그대로 보내면
+ * 그 변경을 반영한 복제 DB 또는 주 DB 에서 읽습니다. 형식이 올바르지 않은 토큰은 주 DB 에서 읽습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "replica", name = "enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-Read-After";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = request.getHeader(HEADER);
+        if (token != null) {
+            try {
+                ReadRoutingContext.setReadAfter(Long.parseLong(token.trim()));
+            } catch (NumberFormatException e) {
+                ReadRoutingContext.setReadAfter(Long.MAX_VALUE);
+            }
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadRoutingContext.clear();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.account.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 복제 DB 의 상태와 복제 지연을 주기적으로 확인하고 읽기 요청을 보낼 복제 DB 를 고릅니다.
+ *
+ * 확인할 때마다 복제 DB 가 어느 시각까지의 변경을 반영했는지 기록해 두고, 읽기 토큰보다 뒤처진 복제 DB 는 고르지 않습니다.
+ * MySQL 복제 DB 는 SHOW REPLICA STATUS 로 지연을 구하므로 접속 계정에 REPLICATION CLIENT 권한이 필요합니다.
+ * 복제 중이 아닌 DB (로컬 테스트용 단독 인스턴스 등) 는 접속만 확인하고 지연이 없는 것으로 봅니다.
+ * 복제 DB 커넥션 풀은 이 객체가 소유하며 종료 시 함께 닫습니다.
+ */
+@Slf4j
+public class ReplicaHealthMonitor {
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagMillis;
+    private final long checkIntervalMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaHealthMonitor(Map<String, DataSource> replicas, long maxLagSeconds, long checkIntervalMillis,
+                                MeterRegistry meterRegistry) {
+        replicas.forEach((key, dataSource) -> {
+            Replica replica = new Replica(key, dataSource);
+            this.replicas.add(replica);
+            Gauge.builder("db.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("복제 DB 가 읽기 요청을 받을 수 있는지 여부")
+                    .tag("replica", key)
+                    .register(meterRegistry);
+        });
+        this.maxLagMillis = TimeUnit.SECONDS.toMillis(maxLagSeconds);
+        this.checkIntervalMillis = checkIntervalMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        checkAll();
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "replica-health-monitor"));
+        scheduler.scheduleWithFixedDelay(this::checkAll, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("복제 DB {} 커넥션 풀을 닫지 못했습니다.", replica.key, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 복제 DB 키별 데이터소스
+     */
+    public Map<String, DataSource> dataSources() {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        for (Replica replica : replicas) {
+            dataSources.put(replica.key, replica.dataSource);
+        }
+        return dataSources;
+    }
+
+    /**
+     * 정상이고 readAfter 이전의 변경을 모두 반영한 복제 DB 중 하나를 돌아가며 고릅니다.
+     *
+     * @param readAfter 읽기 토큰 시각 (epoch 밀리초, 없으면 0)
+     * @return 복제 DB 키, 조건에 맞는 복제 DB 가 없으면 null
+     */
+    public String select(long readAfter) {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy && replica.caughtUpTo >= readAfter) {
+                return replica.key;
+            }
+        }
+        return null;
+    }
+
+    void checkAll() {
+        for (Replica replica : replicas) {
+            check(replica);
+        }
+    }
+
+    private void check(Replica replica) {
+        long checkedAt = System.currentTimeMillis();
+        try (Connection connection = replica.dataSource.getConnection()) {
+            long lagMillis = lagMillis(connection);
+            if (lagMillis < 0) {
+                markDown(replica, "복제가 중단되었습니다.");
+            } else if (lagMillis > maxLagMillis) {
+                markDown(replica, "복제 지연 " + lagMillis + "ms");
+            } else {
+                replica.caughtUpTo = checkedAt - lagMillis;
+                if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("복제 DB {} 읽기 재개", replica.key);
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            markDown(replica, e.getMessage());
+        }
+    }
+
+    /**
+     * 복제 지연을 구합니다. Seconds_Behind_Source 는 초 단위로 버린 값이므로 1초를 더합니다.
+     *
+     * @return 지연 (밀리초), 복제가 멈췄으면 -1
+     */
+    private long lagMillis(Connection connection) throws SQLException {
+        if (!"MySQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                throw new SQLException("커넥션이 유효하지 않습니다.");
+            }
+            return 0L;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            long seconds = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? -1L : TimeUnit.SECONDS.toMillis(seconds + 1);
+        }
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("복제 DB {} 읽기 중단: {}", replica.key, reason);
+        }
+    }
+
+    private static final class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        // 확인 스레드에서만 쓰고 요청 스레드에서 읽습니다.
+        private volatile boolean healthy = true;
+        // 이 시각(epoch 밀리초) 이전에 커밋된 변경은 반영되어 있음
+        private volatile long caughtUpTo;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.account.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 복제 DB 로, 나머지를 주 DB 로 보내는 데이터소스
+ *
+ * 트랜잭션의 읽기 전용 여부는 트랜잭션을 시작한 뒤에 알 수 있으므로, 커넥션을 첫 문장 실행 시점에 가져오도록
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 로 감싸서 사용해야 합니다.
+ * 쓰기 트랜잭션 안에서 호출된 읽기 전용 메서드는 바깥 트랜잭션을 따라 주 DB 를 사용합니다.
+ * 대상 데이터소스는 {@link #afterPropertiesSet()} 에서 확정되므로 빈으로 등록해 Spring 이 초기화하도록 합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+
+    private final ReplicaHealthMonitor healthMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    ReplicaHealthMonitor healthMonitor) {
+        this.healthMonitor = healthMonitor;
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReadRoutingContext.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+        String replica = healthMonitor.select(ReadRoutingContext.readAfter());
+        return replica != null ? replica : PRIMARY;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.account.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * 계좌 일일 한도 컬럼을 NULL 허용으로 바꾸는 일회성 보정
+ *
+ * 예전에는 계좌를 만들 때 등급 한도를 계좌 행에 복사해 두어, 등급 한도를 올려도 기존 계좌에는 반영되지 않았습니다.
+ * 이제 한도 컬럼은 계좌별로 따로 정한 한도만 저장하고 NULL 이면 등급 한도를 따릅니다.
+ * {@code ddl-auto: update} 는 기존 NOT NULL 제약을 풀지 않으므로, 컬럼이 아직 NOT NULL 이면
+ * 제약을 풀고 복사해 둔 값을 지웁니다(그때까지는 계좌별 한도를 정하는 경로가 없었으므로 모두 복사된 값입니다).
+ * 컬럼이 이미 NULL 을 허용하면 아무것도 하지 않으므로 재시작해도 계좌별 한도는 지워지지 않습니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class AccountLimitColumnMigration {
+    private static final String TABLE = "accounts";
+    private static final List<String> COLUMNS = List.of("daily_withdraw_limit", "daily_transfer_limit");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        for (String column : COLUMNS) {
+            String type = notNullColumnType(column);
+            if (type == null) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " MODIFY " + column + " " + type + " NULL");
+            int cleared = jdbcTemplate.update("UPDATE " + TABLE + " SET " + column + " = NULL");
+            log.info("계좌 한도 컬럼 {} 을 NULL 허용으로 바꾸고 복사된 한도 {}건을 지웠습니다.", column, cleared);
+        }
+    }
+
+    /**
+     * 컬럼이 NOT NULL 이면 컬럼 타입을, 아니거나 없으면 null 을 돌려줍니다.
+     */
+    private String notNullColumnType(String column) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet rs = metaData.getColumns(connection.getCatalog(), null, TABLE, column)) {
+                if (!rs.next() || rs.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls) {
+                    return null;
+                }
+                return rs.getString("TYPE_NAME") + "(" + rs.getInt("COLUMN_SIZE") + "," + rs.getInt("DECIMAL_DIGITS") + ")";
+            }
+        });
+    }
+}
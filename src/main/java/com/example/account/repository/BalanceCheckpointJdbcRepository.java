@@ -0,0 +1,138 @@
+package com.example.account.repository;
+
+import com.example.account.money.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일일 마감 잔액 체크포인트와 체크포인트 이후 분개 합계를 조회하는 리포지토리
+ *
+ * 잔액 변동은 분개의 {@code amount - fee} 로 계산합니다. 분산 잔액 계좌의 balance_after 는 동시 입금 시 근삿값이므로
+ * 체크포인트에는 쓰지 않고, 체크포인트가 없는 계좌의 시작 잔액을 정할 때 첫 분개의 값만 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BalanceCheckpointJdbcRepository {
+    private static final String SELECT_LATEST_BEFORE = """
+            SELECT balance_date, closing_balance
+            FROM balance_checkpoints
+            WHERE account_id = ? AND balance_date < ?
+            ORDER BY balance_date DESC
+            LIMIT 1
+            """;
+    private static final String SELECT_OPENING_BALANCE = """
+            SELECT balance_after - (amount - COALESCE(fee, 0))
+            FROM postings
+            WHERE account_id = ?
+            ORDER BY created_at, id
+            LIMIT 1
+            """;
+    private static final String SUM_POSTINGS_BETWEEN = """
+            SELECT COALESCE(SUM(amount - COALESCE(fee, 0)), 0)
+            FROM postings
+            WHERE account_id = ? AND created_at >= ? AND created_at < ?
+            """;
+    private static final String SUM_POSTINGS_BEFORE = """
+            SELECT COALESCE(SUM(amount - COALESCE(fee, 0)), 0)
+            FROM postings
+            WHERE account_id = ? AND created_at < ?
+            """;
+    // 그날 분개가 있는 계좌마다 직전 체크포인트(없으면 첫 분개 이전 잔액)에 그날 변동을 더해 기록합니다.
+    private static final String UPSERT_DAY = """
+            INSERT INTO balance_checkpoints (account_id, balance_date, closing_balance, created_at)
+            SELECT d.account_id,
+                   ?,
+                   COALESCE((SELECT c.closing_balance
+                             FROM balance_checkpoints c
+                             WHERE c.account_id = d.account_id AND c.balance_date < ?
+                             ORDER BY c.balance_date DESC
+                             LIMIT 1),
+                            (SELECT p.balance_after - (p.amount - COALESCE(p.fee, 0))
+                             FROM postings p
+                             WHERE p.account_id = d.account_id
+                             ORDER BY p.created_at, p.id
+                             LIMIT 1)) + d.delta,
+                   ?
+            FROM (SELECT account_id, SUM(amount - COALESCE(fee, 0)) AS delta
+                  FROM postings
+                  WHERE created_at >= ? AND created_at < ?
+                  GROUP BY account_id) d
+            ON DUPLICATE KEY UPDATE closing_balance = VALUES(closing_balance), created_at = VALUES(created_at)
+            """;
+    private static final String SELECT_LATEST_DATE = "SELECT MAX(balance_date) FROM balance_checkpoints";
+    private static final String SELECT_FIRST_POSTING_AT = "SELECT MIN(created_at) FROM postings";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기준일 이전 날짜의 가장 최근 체크포인트를 조회합니다.
+     */
+    public Optional<Checkpoint> findLatestBefore(Long accountId, LocalDate date) {
+        List<Checkpoint> checkpoints = jdbcTemplate.query(SELECT_LATEST_BEFORE,
+                (rs, rowNum) -> new Checkpoint(rs.getDate(1).toLocalDate(), Money.of(rs.getBigDecimal(2))),
+                accountId, Date.valueOf(date));
+        return checkpoints.stream().findFirst();
+    }
+
+    /**
+     * 첫 분개 이전의 잔액을 조회합니다. 분개가 없으면 0 입니다.
+     */
+    public Money findOpeningBalance(Long accountId) {
+        List<BigDecimal> balances = jdbcTemplate.queryForList(SELECT_OPENING_BALANCE, BigDecimal.class, accountId);
+        return balances.isEmpty() ? Money.ZERO : Money.of(balances.get(0));
+    }
+
+    /**
+     * [from, to) 범위 분개의 잔액 변동 합계를 조회합니다.
+     *
+     * @param from 시작 시각 (포함, null 이면 처음부터)
+     * @param to 종료 시각 (제외)
+     */
+    public Money sumPostings(Long accountId, Instant from, Instant to) {
+        BigDecimal sum = from == null
+                ? jdbcTemplate.queryForObject(SUM_POSTINGS_BEFORE, BigDecimal.class, accountId, JdbcTimestamps.utc(to))
+                : jdbcTemplate.queryForObject(SUM_POSTINGS_BETWEEN, BigDecimal.class,
+                accountId, JdbcTimestamps.utc(from), JdbcTimestamps.utc(to));
+        return Money.of(sum);
+    }
+
+    /**
+     * 하루치 분개로 그날의 마감 잔액 체크포인트를 기록합니다. 이미 있으면 다시 계산한 값으로 바꿉니다.
+     *
+     * @param date 마감 날짜
+     * @param from 그날 시작 시각 (포함)
+     * @param to 다음 날 시작 시각 (제외)
+     * @return 기록한 계좌 수
+     */
+    public int writeDay(LocalDate date, Instant from, Instant to) {
+        Date day = Date.valueOf(date);
+        return jdbcTemplate.update(UPSERT_DAY, day, day, JdbcTimestamps.utc(Instant.now()),
+                JdbcTimestamps.utc(from), JdbcTimestamps.utc(to));
+    }
+
+    /**
+     * 체크포인트를 기록한 가장 최근 날짜
+     */
+    public Optional<LocalDate> findLatestDate() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(SELECT_LATEST_DATE, Date.class)).map(Date::toLocalDate);
+    }
+
+    /**
+     * 가장 오래된 분개의 시각
+     */
+    public Optional<Instant> findFirstPostingAt() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(SELECT_FIRST_POSTING_AT,
+                (rs, rowNum) -> JdbcTimestamps.get(rs, 1)));
+    }
+
+    public record Checkpoint(LocalDate date, Money closingBalance) {
+    }
+}
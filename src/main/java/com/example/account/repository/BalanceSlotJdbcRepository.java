@@ -0,0 +1,144 @@
+package com.example.account.repository;
+
+import com.example.account.money.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 잔액 분할 계좌의 슬롯 잔액을 JDBC 로 다루는 리포지토리
+ *
+ * 입금은 다른 트랜잭션이 잡고 있지 않은 슬롯 하나를 {@code SKIP LOCKED} 로 골라 더하므로
+ * 같은 계좌로의 입금끼리는 서로 기다리지 않습니다.
+ * 계좌 행과 슬롯을 함께 잠글 때는 항상 계좌 행을 먼저 잠급니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BalanceSlotJdbcRepository {
+    private static final String FIND_FREE_SLOT_FROM = """
+            SELECT id FROM account_balance_slots
+            WHERE account_id = ? AND slot_no >= ?
+            ORDER BY slot_no LIMIT 1
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String FIND_FREE_SLOT_BEFORE = """
+            SELECT id FROM account_balance_slots
+            WHERE account_id = ? AND slot_no < ?
+            ORDER BY slot_no LIMIT 1
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String ADD_BY_ID = "UPDATE account_balance_slots SET balance = balance + ? WHERE id = ?";
+    private static final String ADD_BY_SLOT_NO = """
+            UPDATE account_balance_slots SET balance = balance + ?
+            WHERE account_id = ? AND slot_no = ?
+            """;
+    private static final String INSERT_IF_ABSENT = """
+            INSERT IGNORE INTO account_balance_slots (account_id, slot_no, balance)
+            VALUES (?, ?, 0)
+            """;
+    private static final String SUM = "SELECT COALESCE(SUM(balance), 0) FROM account_balance_slots WHERE account_id = ?";
+    private static final String SUM_FOR_UPDATE = """
+            SELECT COALESCE(SUM(balance), 0) FROM account_balance_slots
+            WHERE account_id = ?
+            FOR UPDATE
+            """;
+    private static final String CLEAR = "UPDATE account_balance_slots SET balance = 0 WHERE account_id = ? AND balance <> 0";
+    private static final String DELETE = "DELETE FROM account_balance_slots WHERE account_id = ?";
+    private static final String FIND_ACCOUNTS = """
+            SELECT a.id, a.account_number FROM accounts a
+            WHERE EXISTS (SELECT 1 FROM account_balance_slots s WHERE s.account_id = a.id)
+            """;
+    private static final String LOCK_ACCOUNT = "SELECT id FROM accounts WHERE id = ? FOR UPDATE";
+    private static final String ADD_TO_ACCOUNT = "UPDATE accounts SET balance = balance + ?, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 비어 있는 슬롯 하나에 금액을 더합니다. startSlot 부터 찾고, 모두 사용 중이면 startSlot 을 기다립니다.
+     *
+     * @return 더했으면 true, 계좌에 슬롯이 없으면 false
+     */
+    public boolean add(Long accountId, int startSlot, Money amount) {
+        Long slotId = findFreeSlot(FIND_FREE_SLOT_FROM, accountId, startSlot);
+        if (slotId == null) {
+            slotId = findFreeSlot(FIND_FREE_SLOT_BEFORE, accountId, startSlot);
+        }
+        if (slotId != null) {
+            return jdbcTemplate.update(ADD_BY_ID, amount.toBigDecimal(), slotId) == 1;
+        }
+        return jdbcTemplate.update(ADD_BY_SLOT_NO, amount.toBigDecimal(), accountId, startSlot) == 1;
+    }
+
+    /**
+     * 계좌의 슬롯 0 ~ slots-1 중 없는 것을 만듭니다.
+     */
+    public void createSlots(Long accountId, int slots) {
+        List<Object[]> rows = new ArrayList<>(slots);
+        for (int slotNo = 0; slotNo < slots; slotNo++) {
+            rows.add(new Object[]{accountId, slotNo});
+        }
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, rows);
+    }
+
+    /**
+     * 슬롯 잔액의 합을 잠금 없이 조회합니다.
+     */
+    public Money sum(Long accountId) {
+        return Money.of(jdbcTemplate.queryForObject(SUM, BigDecimal.class, accountId));
+    }
+
+    /**
+     * 모든 슬롯을 잠그고 잔액을 0 으로 비웁니다. 호출 전에 계좌 행을 잠가야 합니다.
+     *
+     * @return 비운 슬롯 잔액의 합
+     */
+    public Money drain(Long accountId) {
+        Money total = Money.of(jdbcTemplate.queryForObject(SUM_FOR_UPDATE, BigDecimal.class, accountId));
+        if (total.signum() != 0) {
+            jdbcTemplate.update(CLEAR, accountId);
+        }
+        return total;
+    }
+
+    /**
+     * 슬롯 잔액을 계좌 행으로 옮기고 슬롯을 삭제합니다.
+     *
+     * @return 옮긴 금액
+     */
+    public Money fold(Long accountId) {
+        jdbcTemplate.queryForList(LOCK_ACCOUNT, Long.class, accountId);
+        Money total = drain(accountId);
+        if (total.signum() != 0) {
+            jdbcTemplate.update(ADD_TO_ACCOUNT, total.toBigDecimal(), JdbcTimestamps.utc(Instant.now()), accountId);
+        }
+        jdbcTemplate.update(DELETE, accountId);
+        return total;
+    }
+
+    /**
+     * 슬롯이 있는 계좌를 조회합니다.
+     *
+     * @return 계좌 ID 별 계좌번호
+     */
+    public Map<Long, String> findAccountsWithSlots() {
+        return jdbcTemplate.query(FIND_ACCOUNTS, rs -> {
+            Map<Long, String> accounts = new LinkedHashMap<>();
+            while (rs.next()) {
+                accounts.put(rs.getLong(1), rs.getString(2));
+            }
+            return accounts;
+        });
+    }
+
+    private Long findFreeSlot(String sql, Long accountId, int startSlot) {
+        List<Long> ids = jdbcTemplate.queryForList(sql, Long.class, accountId, startSlot);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+}
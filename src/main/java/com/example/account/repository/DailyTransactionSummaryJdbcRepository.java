@@ -0,0 +1,127 @@
+package com.example.account.repository;
+
+import com.example.account.money.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일일 거래 요약을 JDBC 로 누적하는 리포지토리
+ *
+ * 한도 확인과 누적을 조건부 UPDATE 한 문장으로 처리하므로 요약 행을 먼저 조회하거나 락을 걸지 않습니다.
+ * 요약 행은 그날 첫 거래에서만 생성됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyTransactionSummaryJdbcRepository {
+    private static final String ADD_WITHDRAW = """
+            UPDATE daily_transaction_summaries
+            SET total_withdraw = total_withdraw + ?, updated_at = ?
+            WHERE account_id = ? AND date = ? AND total_withdraw + ? <= ?
+            """;
+    private static final String ADD_TRANSFER = """
+            UPDATE daily_transaction_summaries
+            SET total_transfer = total_transfer + ?, updated_at = ?
+            WHERE account_id = ? AND date = ? AND total_transfer + ? <= ?
+            """;
+    private static final String INSERT_IF_ABSENT = """
+            INSERT IGNORE INTO daily_transaction_summaries (account_id, date, total_withdraw, total_transfer, updated_at)
+            VALUES (?, ?, 0, 0, ?)
+            """;
+    private static final String UPSERT_TOTALS = """
+            INSERT INTO daily_transaction_summaries (account_id, date, total_withdraw, total_transfer, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE total_withdraw = total_withdraw + VALUES(total_withdraw),
+                                    total_transfer = total_transfer + VALUES(total_transfer),
+                                    updated_at = VALUES(updated_at)
+            """;
+    private static final String SELECT_TOTALS = """
+            SELECT total_withdraw, total_transfer
+            FROM daily_transaction_summaries
+            WHERE account_id = ? AND date = ?
+            """;
+    private static final String DELETE_BEFORE = "DELETE FROM daily_transaction_summaries WHERE date < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 누적 출금액이 한도 이하일 때만 출금액을 더합니다.
+     *
+     * @return 누적했으면 true, 한도를 넘으면 false
+     */
+    public boolean addWithdrawWithinLimit(Long accountId, LocalDate date, Money amount, Money limit) {
+        return addWithinLimit(ADD_WITHDRAW, accountId, date, amount, limit);
+    }
+
+    /**
+     * 누적 이체액이 한도 이하일 때만 이체액을 더합니다.
+     *
+     * @return 누적했으면 true, 한도를 넘으면 false
+     */
+    public boolean addTransferWithinLimit(Long accountId, LocalDate date, Money amount, Money limit) {
+        return addWithinLimit(ADD_TRANSFER, accountId, date, amount, limit);
+    }
+
+    /**
+     * 한도 확인 없이 출금/이체 누적액을 더합니다. 행이 없으면 생성합니다.
+     *
+     * @param totals 계좌, 날짜별 더할 금액
+     */
+    public void addAll(List<Totals> totals) {
+        if (totals.isEmpty()) {
+            return;
+        }
+        SqlTypeValue now = JdbcTimestamps.utc(Instant.now());
+        List<Object[]> rows = new ArrayList<>(totals.size());
+        for (Totals total : totals) {
+            rows.add(new Object[]{total.accountId(), Date.valueOf(total.date()), total.withdraw().toBigDecimal(), total.transfer().toBigDecimal(), now});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_TOTALS, rows);
+    }
+
+    /**
+     * 계좌의 해당 일자 누적액을 조회합니다.
+     *
+     * @return 누적액 (그날 거래가 없으면 empty)
+     */
+    public Optional<Totals> findTotals(Long accountId, LocalDate date) {
+        List<Totals> totals = jdbcTemplate.query(SELECT_TOTALS,
+                (rs, rowNum) -> new Totals(accountId, date, Money.of(rs.getBigDecimal(1)), Money.of(rs.getBigDecimal(2))),
+                accountId, Date.valueOf(date));
+        return totals.stream().findFirst();
+    }
+
+    /**
+     * 기준일 이전의 요약을 최대 limit 건 삭제합니다.
+     *
+     * @return 삭제한 행 수
+     */
+    public int deleteBefore(LocalDate date, int limit) {
+        return jdbcTemplate.update(DELETE_BEFORE, Date.valueOf(date), limit);
+    }
+
+    private boolean addWithinLimit(String sql, Long accountId, LocalDate date, Money amount, Money limit) {
+        SqlTypeValue now = JdbcTimestamps.utc(Instant.now());
+        Date day = Date.valueOf(date);
+        BigDecimal delta = amount.toBigDecimal();
+        BigDecimal max = limit.toBigDecimal();
+        if (jdbcTemplate.update(sql, delta, now, accountId, day, delta, max) == 1) {
+            return true;
+        }
+        // 그날 첫 거래이거나 한도 초과입니다. 행을 만든 뒤 한 번 더 시도합니다.
+        jdbcTemplate.update(INSERT_IF_ABSENT, accountId, day, now);
+        return jdbcTemplate.update(sql, delta, now, accountId, day, delta, max) == 1;
+    }
+
+    public record Totals(Long accountId, LocalDate date, Money withdraw, Money transfer) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.account.repository;
+
+import org.springframework.jdbc.core.SqlTypeValue;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * JDBC 로 시각 컬럼을 쓰고 읽을 때 UTC 달력을 사용하게 하는 도우미
+ *
+ * Hibernate 는 MySQL 에서 {@link Instant} 를 UTC 달력으로 바인딩하므로(UTC 기준 벽시계 시각으로 저장),
+ * JDBC 경로도 같은 달력을 써야 JVM 시간대와 관계없이 JPA 로 쓴 행과 시각이 맞습니다.
+ */
+public final class JdbcTimestamps {
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private JdbcTimestamps() {
+    }
+
+    /**
+     * {@link org.springframework.jdbc.core.JdbcTemplate} 인자로 넘길 UTC 시각 값을 만듭니다.
+     */
+    public static SqlTypeValue utc(Instant instant) {
+        return (statement, index, sqlType, typeName) -> set(statement, index, instant);
+    }
+
+    public static void set(PreparedStatement statement, int index, Instant instant) throws SQLException {
+        if (instant == null) {
+            statement.setNull(index, Types.TIMESTAMP);
+        } else {
+            statement.setTimestamp(index, Timestamp.from(instant), utcCalendar());
+        }
+    }
+
+    public static Instant get(ResultSet rs, String column) throws SQLException {
+        return toInstant(rs.getTimestamp(column, utcCalendar()));
+    }
+
+    public static Instant get(ResultSet rs, int column) throws SQLException {
+        return toInstant(rs.getTimestamp(column, utcCalendar()));
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+    // Calendar 는 스레드 안전하지 않으므로 호출마다 만듭니다.
+    private static Calendar utcCalendar() {
+        return Calendar.getInstance(UTC);
+    }
+}
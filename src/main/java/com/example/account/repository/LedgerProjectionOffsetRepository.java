@@ -0,0 +1,7 @@
+package com.example.account.repository;
+
+import com.example.account.entity.LedgerProjectionOffset;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LedgerProjectionOffsetRepository extends JpaRepository<LedgerProjectionOffset, Integer> {
+}
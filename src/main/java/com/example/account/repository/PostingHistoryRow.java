@@ -0,0 +1,24 @@
+package com.example.account.repository;
+
+import com.example.account.entity.type.TransactionType;
+import com.example.account.money.Money;
+
+import java.time.Instant;
+
+/**
+ * 거래 내역 응답에 필요한 분개 컬럼만 담는 조회 결과
+ *
+ * 상대 계좌번호는 분개에 함께 기록되어 있으므로 계좌를 조인하거나 추가로 조회하지 않습니다.
+ *
+ * @param id 분개 ID (커서 위치)
+ * @param amount 계좌 기준 부호가 있는 원금
+ */
+public record PostingHistoryRow(Long id,
+                                String transactionId,
+                                TransactionType type,
+                                Money amount,
+                                Money fee,
+                                String counterpartyAccountNumber,
+                                Money balanceAfter,
+                                Instant createdAt) {
+}
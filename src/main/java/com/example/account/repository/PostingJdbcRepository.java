@@ -0,0 +1,67 @@
+package com.example.account.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+
+/**
+ * 분개를 JDBC 커서로 순차 조회하는 리포지토리
+ *
+ * 행을 엔티티로 만들거나 영속성 컨텍스트에 올리지 않고 콜백에 바로 넘기므로 건수와 관계없이 메모리 사용량이 일정합니다.
+ * MySQL Connector/J 는 fetch size 가 {@link Integer#MIN_VALUE} 일 때만 행 단위로 스트리밍하고 다른 드라이버는
+ * 음수를 거부하므로, MySQL 연결에서만 {@link Integer#MIN_VALUE} 를 쓰고 그 밖에는 설정한 fetch size 를 씁니다.
+ */
+@Repository
+public class PostingJdbcRepository {
+    private static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+    private static final String SELECT_BY_ACCOUNT = """
+            SELECT transaction_id, type, amount, fee, counterparty_account_number, balance_after, created_at
+            FROM postings
+            WHERE account_id = ? AND created_at >= ? AND created_at < ?
+            ORDER BY created_at, id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    /**
+     * @param fetchSize MySQL 이 아닌 드라이버에 지정할 fetch size
+     */
+    public PostingJdbcRepository(JdbcTemplate jdbcTemplate,
+                                 @Value("${account.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 계좌의 분개를 [from, to) 범위에서 오래된 순으로 한 행씩 넘깁니다.
+     *
+     * @param accountId 계좌 ID
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (제외)
+     * @param handler 행 처리기
+     */
+    public void streamByAccountId(Long accountId, Instant from, Instant to, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_BY_ACCOUNT,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSizeFor(connection));
+            statement.setLong(1, accountId);
+            JdbcTimestamps.set(statement, 2, from);
+            JdbcTimestamps.set(statement, 3, to);
+            return statement;
+        }, handler);
+    }
+
+    private int fetchSizeFor(Connection connection) throws SQLException {
+        String url = connection.getMetaData().getURL();
+        return url != null && url.startsWith(MYSQL_URL_PREFIX) ? Integer.MIN_VALUE : fetchSize;
+    }
+}
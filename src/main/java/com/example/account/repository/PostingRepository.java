@@ -0,0 +1,31 @@
+package com.example.account.repository;
+
+import com.example.account.entity.Posting;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface PostingRepository extends JpaRepository<Posting, Long> {
+    String SELECT_HISTORY_ROW = "SELECT new com.example.account.repository.PostingHistoryRow(" +
+            "p.id, p.transactionId, p.type, p.amount, p.fee, p.counterpartyAccountNumber, p.balanceAfter, p.createdAt) " +
+            "FROM Posting p ";
+
+    /**
+     * 계좌의 분개를 페이지 단위로 조회합니다. 정렬은 pageable 을 따릅니다.
+     */
+    @Query(value = SELECT_HISTORY_ROW + "WHERE p.accountId = :accountId",
+            countQuery = "SELECT COUNT(p) FROM Posting p WHERE p.accountId = :accountId")
+    Page<PostingHistoryRow> findHistoryByAccountId(Long accountId, Pageable pageable);
+
+    /**
+     * 커서 이전의 분개를 최신순으로 조회합니다.
+     */
+    @Query(SELECT_HISTORY_ROW + "WHERE p.accountId = :accountId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostingHistoryRow> findHistoryByAccountIdBefore(Long accountId, Instant createdAt, Long id, Pageable pageable);
+}
@@ -0,0 +1,175 @@
+package com.example.account.repository;
+
+import com.example.account.entity.Account;
+import com.example.account.entity.Posting;
+import com.example.account.entity.Transaction;
+import com.example.account.id.EntityIdAllocator;
+import com.example.account.money.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 거래 내역, 분개, 잔액을 JDBC 배치로 기록하는 리포지토리
+ *
+ * 다건 처리 시 행마다 INSERT/UPDATE 를 보내지 않도록 JPA 대신 사용합니다.
+ * ID 는 엔티티와 같은 시퀀스에서 발급하며, 드라이버의 배치 재작성으로 여러 행 INSERT 한 문장이 됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionJdbcRepository {
+    private static final String INSERT_TRANSACTION = """
+            INSERT INTO transactions (id, transaction_id, from_account_id, to_account_id, amount, fee, type, status, description, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_POSTING = """
+            INSERT INTO postings (id, account_id, transaction_id, type, amount, fee, counterparty_account_number, balance_after, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String UPDATE_BALANCE = "UPDATE accounts SET balance = ?, updated_at = ? WHERE id = ?";
+    private static final String INSERT_COMMIT = "INSERT INTO write_behind_commits (transaction_id, created_at) VALUES (?, ?)";
+    private static final String EXISTS_COMMIT = "SELECT COUNT(*) FROM write_behind_commits WHERE transaction_id = ?";
+    private static final String DELETE_COMMIT = "DELETE FROM write_behind_commits WHERE transaction_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityIdAllocator entityIdAllocator;
+
+    /**
+     * 거래 내역을 한 번의 배치로 저장합니다.
+     *
+     * @param transactions 저장할 거래 내역
+     */
+    public void insertAll(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        long[] ids = entityIdAllocator.nextIds(Transaction.class, transactions.size());
+        List<Object[]> rows = new ArrayList<>(transactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction transaction = transactions.get(i);
+            rows.add(new Object[]{
+                    ids[i],
+                    transaction.getTransactionId(),
+                    idOf(transaction.getFromAccount()),
+                    idOf(transaction.getToAccount()),
+                    decimalOf(transaction.getAmount()),
+                    decimalOf(transaction.getFee()),
+                    transaction.getType().name(),
+                    transaction.getStatus().name(),
+                    transaction.getDescription(),
+                    JdbcTimestamps.utc(transaction.getCreatedAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION, rows);
+    }
+
+    /**
+     * 분개를 한 번의 배치로 저장합니다.
+     *
+     * @param postings 저장할 분개
+     */
+    public void insertPostings(List<Posting> postings) {
+        if (postings.isEmpty()) {
+            return;
+        }
+        long[] ids = entityIdAllocator.nextIds(Posting.class, postings.size());
+        List<Object[]> rows = new ArrayList<>(postings.size());
+        for (int i = 0; i < postings.size(); i++) {
+            Posting posting = postings.get(i);
+            rows.add(new Object[]{
+                    ids[i],
+                    posting.getAccountId(),
+                    posting.getTransactionId(),
+                    posting.getType().name(),
+                    decimalOf(posting.getAmount()),
+                    decimalOf(posting.getFee()),
+                    posting.getCounterpartyAccountNumber(),
+                    decimalOf(posting.getBalanceAfter()),
+                    JdbcTimestamps.utc(posting.getCreatedAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_POSTING, rows);
+    }
+
+    /**
+     * 계좌 잔액을 한 번의 배치로 갱신합니다.
+     *
+     * @param balances 계좌 ID별 최종 잔액
+     */
+    public void updateBalances(Map<Long, Money> balances) {
+        if (balances.isEmpty()) {
+            return;
+        }
+        SqlTypeValue now = JdbcTimestamps.utc(Instant.now());
+        List<Object[]> rows = new ArrayList<>(balances.size());
+        balances.forEach((accountId, balance) -> rows.add(new Object[]{balance.toBigDecimal(), now, accountId}));
+        jdbcTemplate.batchUpdate(UPDATE_BALANCE, rows);
+    }
+
+    /**
+     * 이미 저장된 거래 ID 를 조회합니다.
+     *
+     * @param transactionIds 확인할 거래 ID
+     * @return 그중 transactions 에 있는 거래 ID
+     */
+    public Set<String> findExistingTransactionIds(Collection<String> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(transactionIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT transaction_id FROM transactions WHERE transaction_id IN (" + placeholders + ")",
+                String.class, transactionIds.toArray()));
+    }
+
+    /**
+     * 지연 기록 거래의 커밋 표시를 남깁니다. 거래를 처리하는 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param transactionId 거래 ID
+     */
+    public void insertCommit(String transactionId) {
+        jdbcTemplate.update(INSERT_COMMIT, transactionId, JdbcTimestamps.utc(Instant.now()));
+    }
+
+    /**
+     * 지연 기록 거래의 커밋 표시가 있는지 확인합니다.
+     *
+     * @param transactionId 거래 ID
+     * @return 커밋 표시가 있으면 true
+     */
+    public boolean existsCommit(String transactionId) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_COMMIT, Integer.class, transactionId);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 저장이 끝난 거래의 커밋 표시를 한 번의 배치로 지웁니다.
+     *
+     * @param transactionIds 거래 ID
+     */
+    public void deleteCommits(List<String> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_COMMIT, transactionIds.stream().map(id -> new Object[]{id}).toList());
+    }
+
+    private Long idOf(Account account) {
+        return account != null ? account.getId() : null;
+    }
+
+    private BigDecimal decimalOf(Money money) {
+        return money != null ? money.toBigDecimal() : null;
+    }
+}
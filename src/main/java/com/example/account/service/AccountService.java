@@ -1,23 +1,40 @@
 package com.example.account.service;
 
+import com.example.account.cache.AccountCache;
 import com.example.account.dto.request.AccountCreateRequest;
 import com.example.account.dto.response.AccountResponse;
+import com.example.account.dto.response.BalanceResponse;
+import com.example.account.dto.response.TransactionCursorResponse;
 import com.example.account.dto.response.TransactionHistoryResponse;
 import com.example.account.entity.Account;
-import com.example.account.entity.Transaction;
 import com.example.account.entity.type.AccountStatus;
 import com.example.account.exception.DuplicateAccountException;
+import com.example.account.hot.HotAccountBalances;
+import com.example.account.money.Money;
+import com.example.account.policy.TierPolicy;
+import com.example.account.policy.TransferPolicyEngine;
+import com.example.account.replica.ReadRoutingContext;
 import com.example.account.repository.AccountRepository;
-import com.example.account.repository.TransactionRepository;
+import com.example.account.repository.BalanceCheckpointJdbcRepository;
+import com.example.account.repository.PostingHistoryRow;
+import com.example.account.repository.PostingRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.example.account.exception.AccountNotFoundException;
+import com.example.account.exception.InvalidCursorException;
 
-import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
 
 /**
  * 계좌 관련 비즈니스 로직을 처리하는 서비스 클래스
@@ -26,7 +43,23 @@ import java.math.BigDecimal;
 @RequiredArgsConstructor
 public class AccountService {
     private final AccountRepository accountRepository;
-    private final TransactionRepository transactionRepository;
+    private final PostingRepository postingRepository;
+    private final AccountCache accountCache;
+    private final HotAccountBalances hotAccountBalances;
+    private final TransferPolicyEngine transferPolicyEngine;
+    private final BalanceCheckpointJdbcRepository checkpointRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${transfer.zone-id:Asia/Seoul}")
+    private ZoneId zoneId;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
 
     /**
      * 새로운 계좌를 생성합니다.
@@ -34,6 +67,7 @@ public class AccountService {
      * @param request 계좌 생성 요청 정보
      * @return 생성된 계좌 정보
      * @throws DuplicateAccountException 이미 존재하는 계좌번호인 경우
+     * @throws IllegalArgumentException 정의되지 않은 등급인 경우
      */
     @Transactional
     public AccountResponse createAccount(AccountCreateRequest request) {
@@ -42,12 +76,12 @@ public class AccountService {
             throw new DuplicateAccountException("이미 존재하는 계좌번호입니다.");
         }
 
-        // 기본 설정으로 계좌 생성
+        // 일일 한도는 비워 두어 등급 한도를 따르게 합니다 (등급 한도를 바꾸면 기존 계좌에도 반영됩니다)
+        TierPolicy tier = transferPolicyEngine.current().requireTier(request.getTier());
         Account account = Account.builder()
                 .accountNumber(request.getAccountNumber())
-                .balance(BigDecimal.ZERO)
-                .dailyWithdrawLimit(new BigDecimal("1000000"))  // 일일 출금 한도: 100만원
-                .dailyTransferLimit(new BigDecimal("3000000"))  // 일일 이체 한도: 300만원
+                .balance(Money.ZERO)
+                .tier(tier.name())
                 .status(AccountStatus.ACTIVE)
                 .build();
 
@@ -68,30 +102,44 @@ public class AccountService {
                 .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다."));
 
         // 잔액이 있는 계좌는 삭제 불가
-        if (account.getBalance().compareTo(BigDecimal.ZERO) > 0) {
+        Money balance = hotAccountBalances.isHot(accountNumber)
+                ? hotAccountBalances.totalBalance(account)
+                : account.getBalance();
+        if (balance.isPositive()) {
             throw new IllegalStateException("잔액이 있는 계좌는 삭제할 수 없습니다.");
         }
 
         account.deactivate();
+        accountCache.evictAfterCommit(accountNumber);
     }
 
     /**
-     * 계좌 정보를 조회합니다.
+     * 계좌 정보를 조회합니다. 캐시에 있으면 DB를 조회하지 않습니다.
+     *
+     * 조회 결과는 다른 요청과 공유하는 캐시에 들어가므로, 복제 지연된 잔액이 캐시에 남지 않도록 주 DB 에서 읽습니다.
+     * 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션은 DB 를 조회할 때만 시작합니다.
      *
      * @param accountNumber 조회할 계좌번호
      * @return 계좌 정보
      * @throws AccountNotFoundException 계좌를 찾을 수 없는 경우
      */
-    @Transactional(readOnly = true)
     public AccountResponse getAccount(String accountNumber) {
-        Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다."));
-        return AccountResponse.from(account);
+        return accountCache.get(accountNumber, () -> ReadRoutingContext.onPrimary(() ->
+                readOnlyTransaction.execute(status -> {
+                    Account account = accountRepository.findByAccountNumber(accountNumber)
+                            .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다."));
+                    if (hotAccountBalances.isHot(accountNumber)) {
+                        return AccountResponse.from(account, hotAccountBalances.totalBalance(account));
+                    }
+                    return AccountResponse.from(account);
+                })));
     }
 
     /**
      * 계좌의 거래 내역을 조회합니다.
      *
+     * 계좌는 ID 만, 분개는 응답에 필요한 컬럼만 조회하므로 페이지 크기와 관계없이 쿼리 3개(계좌 ID, 내역, 건수)로 끝납니다.
+     *
      * @param accountNumber 조회할 계좌번호
      * @param page 페이지 번호 (0부터 시작)
      * @param size 페이지 크기
@@ -100,20 +148,77 @@ public class AccountService {
      */
     @Transactional(readOnly = true)
     public TransactionHistoryResponse getTransactionHistory(String accountNumber, int page, int size) {
-        Account account = accountRepository.findByAccountNumber(accountNumber)
+        Long accountId = accountRepository.findIdByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다."));
 
         // 거래일시 기준 내림차순 정렬
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Transaction> transactionPage = transactionRepository
-                .findByFromAccountOrToAccount(account, account, pageRequest);
+        PageRequest pageRequest = PageRequest.of(page, size,
+                Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
+        Page<PostingHistoryRow> postingPage = postingRepository.findHistoryByAccountId(accountId, pageRequest);
 
         return TransactionHistoryResponse.from(
                 accountNumber,
-                transactionPage.getContent(),
-                transactionPage.getTotalPages(),
-                transactionPage.getTotalElements(),
-                transactionPage.hasNext()
+                postingPage.getContent(),
+                postingPage.getTotalPages(),
+                postingPage.getTotalElements(),
+                postingPage.hasNext()
         );
     }
+
+    /**
+     * 계좌의 거래 내역을 커서 기준으로 조회합니다.
+     *
+     * 전체 건수를 세지 않고 계좌별 분개 인덱스에서 커서 이후 범위만 읽으므로 페이지 깊이와 관계없이 일정한 비용이 듭니다.
+     *
+     * @param accountNumber 조회할 계좌번호
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 거래 내역과 다음 페이지 커서
+     * @throws AccountNotFoundException 계좌를 찾을 수 없는 경우
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public TransactionCursorResponse getTransactionHistory(String accountNumber, String cursor, int size) {
+        Long accountId = accountRepository.findIdByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다."));
+        TransactionCursor position = TransactionCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<PostingHistoryRow> postings = postingRepository.findHistoryByAccountIdBefore(
+                accountId, position.createdAt(), position.id(), PageRequest.ofSize(size + 1));
+
+        boolean hasNext = postings.size() > size;
+        List<PostingHistoryRow> page = hasNext ? postings.subList(0, size) : postings;
+        String nextCursor = hasNext ? TransactionCursor.after(page.get(size - 1)).encode() : null;
+        return TransactionCursorResponse.from(accountNumber, page, nextCursor);
+    }
+
+    /**
+     * 특정 시점의 계좌 잔액을 조회합니다.
+     *
+     * 그 시점 전날까지의 가장 최근 마감 잔액 체크포인트에 이후 분개의 변동만 더하므로, 계좌의 거래 기간과 관계없이
+     * 대부분 하루치 분개만 읽습니다. 체크포인트가 아직 없는 계좌는 전체 분개를 더합니다.
+     *
+     * @param accountNumber 조회할 계좌번호
+     * @param at 기준 시각 (이 시각 이전의 분개까지 반영)
+     * @return 기준 시각의 잔액
+     * @throws AccountNotFoundException 계좌를 찾을 수 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public BalanceResponse getBalanceAt(String accountNumber, Instant at) {
+        Long accountId = accountRepository.findIdByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다."));
+
+        Money balance = checkpointRepository.findLatestBefore(accountId, LocalDate.ofInstant(at, zoneId))
+                .map(checkpoint -> checkpoint.closingBalance().plus(checkpointRepository.sumPostings(
+                        accountId, checkpoint.date().plusDays(1).atStartOfDay(zoneId).toInstant(), at)))
+                .orElseGet(() -> checkpointRepository.findOpeningBalance(accountId)
+                        .plus(checkpointRepository.sumPostings(accountId, null, at)));
+
+        return BalanceResponse.builder()
+                .accountNumber(accountNumber)
+                .balance(balance)
+                .at(at)
+                .build();
+    }
 }
@@ -0,0 +1,260 @@
+package com.example.account.service;
+
+import com.example.account.cache.AccountCache;
+import com.example.account.dto.request.BatchTransactionRequest;
+import com.example.account.dto.response.BatchTransactionResponse;
+import com.example.account.dto.response.TransactionResponse;
+import com.example.account.entity.Account;
+import com.example.account.entity.Posting;
+import com.example.account.entity.Transaction;
+import com.example.account.entity.type.AccountStatus;
+import com.example.account.entity.type.TransactionStatus;
+import com.example.account.entity.type.TransactionType;
+import com.example.account.exception.AccountNotActiveException;
+import com.example.account.exception.AccountNotFoundException;
+import com.example.account.exception.InsufficientBalanceException;
+import com.example.account.exception.LockAcquisitionException;
+import com.example.account.hot.HotAccountBalances;
+import com.example.account.id.TransactionIdGenerator;
+import com.example.account.limit.DailyLimitChecker;
+import com.example.account.limit.LimitType;
+import com.example.account.lock.AccountLockManager;
+import com.example.account.money.Money;
+import com.example.account.policy.TransferPolicy;
+import com.example.account.policy.TransferPolicyEngine;
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.TransactionJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 여러 건의 입금, 출금, 이체를 하나의 DB 트랜잭션으로 처리하는 서비스
+ *
+ * 관련 계좌의 락을 정렬된 순서로 한 번만 획득하고, 각 항목을 메모리에서 순서대로 검증한 뒤
+ * 성공한 항목의 거래 내역과 잔액 변경을 JDBC 배치로 기록합니다. 실패한 항목은 반영되지 않으며
+ * 항목별 결과로 사유를 돌려줍니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BatchTransactionService {
+    private final AccountRepository accountRepository;
+    private final DailyLimitChecker dailyLimitChecker;
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final AccountLockManager accountLockManager;
+    private final AccountCache accountCache;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final HotAccountBalances hotAccountBalances;
+    private final TransferPolicyEngine transferPolicyEngine;
+
+    /**
+     * 거래 항목들을 일괄 처리합니다.
+     *
+     * @param request 일괄 거래 요청 정보
+     * @return 항목별 처리 결과
+     * @throws LockAcquisitionException 락 획득 실패 시
+     */
+    @Transactional
+    public BatchTransactionResponse execute(BatchTransactionRequest request) {
+        List<ItemOutcome> outcomes = executeItems(request.getItems());
+        List<BatchTransactionResponse.ItemResult> results = new ArrayList<>(outcomes.size());
+        for (int index = 0; index < outcomes.size(); index++) {
+            ItemOutcome outcome = outcomes.get(index);
+            results.add(outcome.error() == null
+                    ? BatchTransactionResponse.ItemResult.success(index, outcome.transaction())
+                    : BatchTransactionResponse.ItemResult.failure(index, outcome.error()));
+        }
+        return BatchTransactionResponse.from(results);
+    }
+
+    /**
+     * 거래 항목들을 일괄 처리하고 항목별 거래 정보 또는 실패 사유를 돌려줍니다.
+     *
+     * @param items 처리할 거래 항목 (요청 순서대로 반영)
+     * @return 항목과 같은 순서의 처리 결과
+     * @throws LockAcquisitionException 락 획득 실패 시
+     */
+    @Transactional
+    public List<ItemOutcome> executeItems(List<BatchTransactionRequest.Item> items) {
+        TreeSet<String> accountNumbers = new TreeSet<>();
+        for (BatchTransactionRequest.Item item : items) {
+            accountNumbers.add(item.getAccountNumber());
+            if (item.getToAccountNumber() != null) {
+                accountNumbers.add(item.getToAccountNumber());
+            }
+        }
+        accountLockManager.lockForTransaction(accountNumbers);
+
+        Map<String, WorkingAccount> accounts = new HashMap<>();
+        for (Account account : accountRepository.findAllByAccountNumberInWithLock(accountNumbers)) {
+            WorkingAccount workingAccount = new WorkingAccount(account);
+            if (hotAccountBalances.isHot(account.getAccountNumber())) {
+                // 계좌 행을 잠근 상태이므로 잔액 분할 계좌는 슬롯 잔액을 계좌 행으로 모아 처리합니다.
+                Money drained = hotAccountBalances.drain(account);
+                if (drained.signum() != 0) {
+                    workingAccount.credit(drained);
+                }
+            }
+            accounts.put(account.getAccountNumber(), workingAccount);
+        }
+
+        Instant now = Instant.now();
+        // 한 배치의 항목은 모두 같은 버전의 정책으로 계산합니다.
+        TransferPolicy policy = transferPolicyEngine.current();
+        List<ItemOutcome> outcomes = new ArrayList<>(items.size());
+        List<Transaction> transactions = new ArrayList<>();
+        List<Posting> postings = new ArrayList<>();
+        for (BatchTransactionRequest.Item item : items) {
+            try {
+                Transaction transaction = apply(item, accounts, postings, policy, now);
+                transactions.add(transaction);
+                outcomes.add(new ItemOutcome(TransactionResponse.from(transaction), null));
+            } catch (RuntimeException e) {
+                outcomes.add(new ItemOutcome(null, e));
+            }
+        }
+
+        Map<Long, Money> balances = new LinkedHashMap<>();
+        List<String> changedAccountNumbers = new ArrayList<>();
+        for (WorkingAccount account : accounts.values()) {
+            if (account.isChanged()) {
+                balances.put(account.getAccount().getId(), account.getBalance());
+                changedAccountNumbers.add(account.getAccount().getAccountNumber());
+            }
+        }
+        transactionJdbcRepository.updateBalances(balances);
+        transactionJdbcRepository.insertAll(transactions);
+        transactionJdbcRepository.insertPostings(postings);
+        accountCache.evictAfterCommit(changedAccountNumbers);
+
+        return outcomes;
+    }
+
+    /**
+     * 항목 하나를 검증하고 메모리상의 계좌 상태에 반영합니다. 분개는 반영 직후의 잔액으로 만듭니다.
+     */
+    private Transaction apply(BatchTransactionRequest.Item item, Map<String, WorkingAccount> accounts,
+                              List<Posting> postings, TransferPolicy policy, Instant now) {
+        WorkingAccount account = activeAccount(accounts, item.getAccountNumber());
+        Money amount = Money.of(item.getAmount());
+
+        return switch (item.getType()) {
+            case DEPOSIT -> {
+                account.credit(amount);
+                Transaction transaction = newTransaction(null, account, amount, TransactionType.DEPOSIT, null, now);
+                postings.add(Posting.credit(transaction, account.getAccount().getId(), account.getBalance(), null));
+                yield transaction;
+            }
+            case WITHDRAW -> {
+                account.requireBalance(amount);
+                dailyLimitChecker.reserve(account.getAccount(), LimitType.WITHDRAW, amount);
+                account.debit(amount);
+                Transaction transaction = newTransaction(account, null, amount, TransactionType.WITHDRAW, null, now);
+                postings.add(Posting.debit(transaction, account.getAccount().getId(), account.getBalance(), null));
+                yield transaction;
+            }
+            case TRANSFER -> {
+                if (item.getToAccountNumber() == null || item.getToAccountNumber().equals(item.getAccountNumber())) {
+                    throw new IllegalArgumentException("입금 계좌번호가 올바르지 않습니다.");
+                }
+                WorkingAccount toAccount = activeAccount(accounts, item.getToAccountNumber());
+                Money fee = policy.transferFee(account.getAccount(), amount);
+                Money totalAmount = amount.plus(fee);
+                account.requireBalance(totalAmount);
+                dailyLimitChecker.reserve(account.getAccount(), LimitType.TRANSFER, amount);
+                account.debit(totalAmount);
+                toAccount.credit(amount);
+                Transaction transaction = newTransaction(account, toAccount, amount, TransactionType.TRANSFER, fee, now);
+                postings.add(Posting.debit(transaction, account.getAccount().getId(), account.getBalance(),
+                        toAccount.getAccount()));
+                postings.add(Posting.credit(transaction, toAccount.getAccount().getId(), toAccount.getBalance(),
+                        account.getAccount()));
+                yield transaction;
+            }
+        };
+    }
+
+    private WorkingAccount activeAccount(Map<String, WorkingAccount> accounts, String accountNumber) {
+        WorkingAccount account = accounts.get(accountNumber);
+        if (account == null) {
+            throw new AccountNotFoundException("계좌를 찾을 수 없습니다.");
+        }
+        if (account.getAccount().getStatus() != AccountStatus.ACTIVE) {
+            throw new AccountNotActiveException("활성화 된 계좌가 아닙니다.");
+        }
+        return account;
+    }
+
+    private Transaction newTransaction(WorkingAccount fromAccount, WorkingAccount toAccount, Money amount,
+                                       TransactionType type, Money fee, Instant now) {
+        return Transaction.builder()
+                .transactionId(transactionIdGenerator.nextTransactionId())
+                .fromAccount(fromAccount != null ? fromAccount.getAccount() : null)
+                .toAccount(toAccount != null ? toAccount.getAccount() : null)
+                .amount(amount)
+                .type(type)
+                .fee(fee)
+                .status(TransactionStatus.COMPLETED)
+                .createdAt(now)
+                .build();
+    }
+
+    /**
+     * 일괄 처리 중 계좌의 잔액을 메모리에서 누적합니다.
+     */
+    private static class WorkingAccount {
+        private final Account account;
+        private Money balance;
+        private boolean changed;
+
+        private WorkingAccount(Account account) {
+            this.account = account;
+            this.balance = account.getBalance();
+        }
+
+        private Account getAccount() {
+            return account;
+        }
+
+        private Money getBalance() {
+            return balance;
+        }
+
+        private boolean isChanged() {
+            return changed;
+        }
+
+        private void requireBalance(Money amount) {
+            if (balance.isLessThan(amount)) {
+                throw new InsufficientBalanceException("잔액이 부족합니다.");
+            }
+        }
+
+        private void credit(Money amount) {
+            balance = balance.plus(amount);
+            changed = true;
+        }
+
+        private void debit(Money amount) {
+            balance = balance.minus(amount);
+            changed = true;
+        }
+    }
+
+    /**
+     * 항목 하나의 처리 결과
+     *
+     * @param transaction 성공한 경우 거래 정보
+     * @param error 실패한 경우 사유
+     */
+    public record ItemOutcome(TransactionResponse transaction, RuntimeException error) {
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.account.service;
+
+import com.example.account.dto.request.BatchTransactionRequest;
+import com.example.account.dto.request.TransactionRequest;
+import com.example.account.dto.request.TransferRequest;
+import com.example.account.dto.response.TransactionResponse;
+import com.example.account.entity.type.TransactionType;
+import com.example.account.hot.HotAccountBalances;
+import com.example.account.journal.TransactionWriteBehind;
+import com.example.account.metrics.TransactionMetrics;
+import com.example.account.metrics.TransactionMetrics.Operation;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 같은 계좌로 동시에 들어온 입금, 출금, 이체를 모아 한 번의 DB 트랜잭션으로 처리합니다.
+ *
+ * 요청은 계좌번호(이체는 출금 계좌)의 해시로 정한 레인에 줄을 서고, 레인마다 한 스레드만 처리를 맡습니다.
+ * 별도 스레드 없이 요청한 스레드 중 하나가 처리를 맡으므로 가상 스레드에서도 그대로 동작합니다.
+ * 처리 중에 도착한 요청은 다음 라운드에 함께 처리되며, 라운드 하나는 {@link BatchTransactionService} 로
+ * 락 획득, 메모리상의 순차 잔액 검증, 계좌별 잔액 UPDATE 한 번, 거래 내역 배치 INSERT 를 수행합니다.
+ * 따라서 몰리는 계좌의 처리량은 커밋 지연이 아니라 라운드 크기에 비례합니다.
+ * 호출자는 자기 요청의 결과만 받고, 실패한 요청은 단건 처리와 같은 예외를 받습니다.
+ * 요청별 소요 시간과 실패 사유, 라운드별 소요 시간과 크기는 {@link TransactionMetrics} 로 기록합니다.
+ *
+ * 잔액 분할 계좌가 관련된 요청은 슬롯 입금을 그대로 쓰도록 {@link TransactionService} 로 단건 처리합니다.
+ * 라운드는 거래 내역을 이미 한 번의 배치로 저장하므로 지연 기록({@code transfer.write-behind.enabled})과 함께 켤 수 없습니다.
+ * {@code transfer.coalescing.enabled=true} 인 경우에만 활성화됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "transfer.coalescing", name = "enabled", havingValue = "true")
+public class TransactionCoalescer {
+    private final BatchTransactionService batchTransactionService;
+    private final TransactionService transactionService;
+    private final HotAccountBalances hotAccountBalances;
+    private final TransactionMetrics transactionMetrics;
+    private final ObjectProvider<TransactionWriteBehind> writeBehindProvider;
+
+    @Value("${transfer.coalescing.lanes:1024}")
+    private int laneCount;
+
+    @Value("${transfer.coalescing.max-batch-size:256}")
+    private int maxBatchSize;
+
+    private Lane[] lanes;
+
+    @PostConstruct
+    public void init() {
+        if (writeBehindProvider.getIfAvailable() != null) {
+            throw new IllegalStateException(
+                    "transfer.coalescing.enabled 와 transfer.write-behind.enabled 는 함께 켤 수 없습니다.");
+        }
+        lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane();
+        }
+    }
+
+    public TransactionResponse deposit(TransactionRequest request) {
+        if (hotAccountBalances.isHot(request.getAccountNumber())) {
+            return transactionService.deposit(request);
+        }
+        return submit(request.getAccountNumber(), Operation.DEPOSIT, BatchTransactionRequest.Item.builder()
+                .type(TransactionType.DEPOSIT)
+                .accountNumber(request.getAccountNumber())
+                .amount(request.getAmount())
+                .build());
+    }
+
+    public TransactionResponse withdraw(TransactionRequest request) {
+        if (hotAccountBalances.isHot(request.getAccountNumber())) {
+            return transactionService.withdraw(request);
+        }
+        return submit(request.getAccountNumber(), Operation.WITHDRAW, BatchTransactionRequest.Item.builder()
+                .type(TransactionType.WITHDRAW)
+                .accountNumber(request.getAccountNumber())
+                .amount(request.getAmount())
+                .build());
+    }
+
+    public TransactionResponse transfer(TransferRequest request) {
+        if (hotAccountBalances.isHot(request.getFromAccountNumber())
+                || hotAccountBalances.isHot(request.getToAccountNumber())) {
+            return transactionService.transfer(request);
+        }
+        return submit(request.getFromAccountNumber(), Operation.TRANSFER, BatchTransactionRequest.Item.builder()
+                .type(TransactionType.TRANSFER)
+                .accountNumber(request.getFromAccountNumber())
+                .toAccountNumber(request.getToAccountNumber())
+                .amount(request.getAmount())
+                .build());
+    }
+
+    /**
+     * 요청을 레인에 넣고 결과를 기다립니다. 레인을 처리하는 스레드가 없으면 호출한 스레드가 처리를 맡고,
+     * 자기 요청이 끝나면 줄의 맨 앞 요청을 기다리는 스레드에 처리를 넘깁니다.
+     */
+    private TransactionResponse submit(String accountNumber, Operation operation, BatchTransactionRequest.Item item) {
+        Lane lane = lanes[Math.floorMod(accountNumber.hashCode(), laneCount)];
+        Request request = new Request(item, new CompletableFuture<>(), Thread.currentThread(),
+                transactionMetrics.start(operation));
+        lane.queue.add(request);
+        while (!request.result().isDone()) {
+            if (lane.draining.compareAndSet(false, true)) {
+                try {
+                    drain(lane, request);
+                } finally {
+                    lane.draining.set(false);
+                }
+                Request next = lane.queue.peek();
+                if (next != null) {
+                    LockSupport.unpark(next.waiter());
+                }
+            } else {
+                LockSupport.park(this);
+            }
+        }
+        try {
+            return request.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void drain(Lane lane, Request own) {
+        while (!own.result().isDone()) {
+            List<Request> round = poll(lane);
+            if (round.isEmpty()) {
+                return;
+            }
+            process(round);
+        }
+    }
+
+    private List<Request> poll(Lane lane) {
+        List<Request> round = new ArrayList<>();
+        Request request;
+        while (round.size() < maxBatchSize && (request = lane.queue.poll()) != null) {
+            round.add(request);
+        }
+        return round;
+    }
+
+    private void process(List<Request> round) {
+        List<BatchTransactionRequest.Item> items = new ArrayList<>(round.size());
+        for (Request request : round) {
+            items.add(request.item());
+        }
+        long startedAt = System.nanoTime();
+        try {
+            List<BatchTransactionService.ItemOutcome> outcomes = batchTransactionService.executeItems(items);
+            transactionMetrics.recordRound(round.size(), System.nanoTime() - startedAt, true);
+            for (int i = 0; i < round.size(); i++) {
+                BatchTransactionService.ItemOutcome outcome = outcomes.get(i);
+                complete(round.get(i), outcome.transaction(), outcome.error());
+            }
+        } catch (RuntimeException e) {
+            transactionMetrics.recordRound(round.size(), System.nanoTime() - startedAt, false);
+            // 락 획득 실패나 커밋 실패는 라운드의 모든 요청에 알립니다.
+            for (Request request : round) {
+                complete(request, null, e);
+            }
+        }
+        for (Request request : round) {
+            LockSupport.unpark(request.waiter());
+        }
+    }
+
+    private void complete(Request request, TransactionResponse response, RuntimeException error) {
+        request.recorder().finish(error);
+        if (error == null) {
+            request.result().complete(response);
+        } else {
+            request.result().completeExceptionally(error);
+        }
+    }
+
+    private static class Lane {
+        private final Queue<Request> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+    }
+
+    private record Request(BatchTransactionRequest.Item item, CompletableFuture<TransactionResponse> result,
+                           Thread waiter, TransactionMetrics.Recorder recorder) {
+    }
+}
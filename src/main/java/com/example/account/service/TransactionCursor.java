@@ -0,0 +1,55 @@
+package com.example.account.service;
+
+import com.example.account.exception.InvalidCursorException;
+import com.example.account.repository.PostingHistoryRow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 거래 내역 커서 페이지네이션의 위치 (마지막으로 조회한 분개의 거래일시와 ID)
+ *
+ * 클라이언트에는 Base64 URL 인코딩된 불투명 문자열로 전달합니다.
+ */
+public record TransactionCursor(Instant createdAt, long id) {
+
+    /**
+     * 첫 페이지를 조회할 때 사용하는 시작 위치
+     */
+    public static final TransactionCursor FIRST =
+            new TransactionCursor(Instant.parse("9999-12-31T23:59:59Z"), Long.MAX_VALUE);
+
+    public static TransactionCursor after(PostingHistoryRow posting) {
+        return new TransactionCursor(posting.createdAt(), posting.id());
+    }
+
+    /**
+     * 커서 문자열을 해석합니다. 값이 없으면 첫 페이지 위치를 반환합니다.
+     *
+     * @param token 커서 문자열
+     * @return 커서 위치
+     * @throws InvalidCursorException 형식이 올바르지 않은 경우
+     */
+    public static TransactionCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3) {
+                throw new InvalidCursorException("유효하지 않은 페이지 커서입니다.");
+            }
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new TransactionCursor(createdAt, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException | ArithmeticException e) {
+            throw new InvalidCursorException("유효하지 않은 페이지 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.getEpochSecond() + ":" + createdAt.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
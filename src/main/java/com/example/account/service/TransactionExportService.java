@@ -0,0 +1,162 @@
+package com.example.account.service;
+
+import com.example.account.entity.Account;
+import com.example.account.exception.AccountNotFoundException;
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.JdbcTimestamps;
+import com.example.account.repository.PostingJdbcRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 계좌의 거래 내역 전체를 NDJSON 또는 CSV 로 내보내는 서비스
+ *
+ * 분개를 DB 커서에서 한 행씩 읽어 바로 응답 스트림에 쓰므로 내역 건수와 관계없이 메모리 사용량이 일정합니다.
+ * 각 행의 필드는 거래 내역 조회 API 의 {@code TransactionDetail} 과 같습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+    private static final Instant MAX_INSTANT = Instant.parse("9999-12-31T00:00:00Z");
+    private static final String CSV_HEADER = "transactionId,type,amount,fee,counterPartyAccount,balanceAfter,transactionDate\n";
+
+    private final AccountRepository accountRepository;
+    private final PostingJdbcRepository postingJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${transfer.zone-id:Asia/Seoul}")
+    private ZoneId zoneId;
+
+    /**
+     * 내보낼 계좌의 ID를 조회합니다. 응답을 쓰기 전에 호출해 계좌가 없으면 바로 실패하도록 합니다.
+     *
+     * @param accountNumber 계좌번호
+     * @return 계좌 ID
+     * @throws AccountNotFoundException 계좌를 찾을 수 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public Long getAccountId(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber)
+                .map(Account::getId)
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 거래 내역을 오래된 순으로 스트림에 씁니다.
+     *
+     * @param accountId 계좌 ID
+     * @param from 시작일 (포함, null 이면 처음부터)
+     * @param to 종료일 (포함, null 이면 끝까지)
+     * @param format 내보내기 형식
+     * @param out 응답 스트림
+     */
+    @Transactional(readOnly = true)
+    public void export(Long accountId, LocalDate from, LocalDate to, ExportFormat format, OutputStream out)
+            throws IOException {
+        Instant start = from != null ? from.atStartOfDay(zoneId).toInstant() : Instant.EPOCH;
+        Instant end = to != null ? to.plusDays(1).atStartOfDay(zoneId).toInstant() : MAX_INSTANT;
+        try {
+            switch (format) {
+                case NDJSON -> writeNdjson(accountId, start, end, out);
+                case CSV -> writeCsv(accountId, start, end, out);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeNdjson(Long accountId, Instant start, Instant end, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.setRootValueSeparator(null);
+            postingJdbcRepository.streamByAccountId(accountId, start, end, rs -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeStringField("transactionId", rs.getString("transaction_id"));
+                    generator.writeStringField("type", rs.getString("type"));
+                    generator.writeNumberField("amount", rs.getBigDecimal("amount").abs());
+                    writeNumberOrNull(generator, "fee", rs.getBigDecimal("fee"));
+                    generator.writeStringField("counterPartyAccount", rs.getString("counterparty_account_number"));
+                    generator.writeNumberField("balanceAfter", rs.getBigDecimal("balance_after"));
+                    generator.writeStringField("transactionDate", createdAt(rs).toString());
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private void writeCsv(Long accountId, Instant start, Instant end, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        postingJdbcRepository.streamByAccountId(accountId, start, end, rs -> {
+            try {
+                writer.write(csv(rs.getString("transaction_id")));
+                writer.write(',');
+                writer.write(rs.getString("type"));
+                writer.write(',');
+                writer.write(rs.getBigDecimal("amount").abs().toPlainString());
+                writer.write(',');
+                BigDecimal fee = rs.getBigDecimal("fee");
+                if (fee != null) {
+                    writer.write(fee.toPlainString());
+                }
+                writer.write(',');
+                writer.write(csv(rs.getString("counterparty_account_number")));
+                writer.write(',');
+                writer.write(rs.getBigDecimal("balance_after").toPlainString());
+                writer.write(',');
+                writer.write(createdAt(rs).toString());
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private void writeNumberOrNull(JsonGenerator generator, String field, BigDecimal value) throws IOException {
+        if (value != null) {
+            generator.writeNumberField(field, value);
+        } else {
+            generator.writeNullField(field);
+        }
+    }
+
+    private Instant createdAt(ResultSet rs) throws SQLException {
+        return JdbcTimestamps.get(rs, "created_at");
+    }
+
+    /**
+     * 쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감쌉니다.
+     */
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
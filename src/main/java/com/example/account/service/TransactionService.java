@@ -1,5 +1,6 @@
 package com.example.account.service;
 
+import com.example.account.cache.AccountCache;
 import com.example.account.dto.request.TransactionRequest;
 import com.example.account.dto.request.TransferRequest;
 import com.example.account.dto.response.TransactionResponse;
@@ -8,10 +9,21 @@ import com.example.account.entity.type.AccountStatus;
 import com.example.account.entity.type.TransactionStatus;
 import com.example.account.exception.AccountNotActiveException;
 import com.example.account.exception.InsufficientBalanceException;
+import com.example.account.exception.LockAcquisitionException;
+import com.example.account.hot.HotAccountBalances;
+import com.example.account.id.TransactionIdGenerator;
+import com.example.account.journal.TransactionWriteBehind;
+import com.example.account.limit.DailyLimitChecker;
+import com.example.account.limit.LimitType;
+import com.example.account.lock.AccountLockManager;
+import com.example.account.metrics.TransactionMetrics;
+import com.example.account.metrics.TransactionMetrics.Operation;
+import com.example.account.metrics.TransactionMetrics.Phase;
+import com.example.account.money.Money;
+import com.example.account.policy.TransferPolicyEngine;
 import com.example.account.repository.*;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.example.account.exception.DailyLimitExceededException;
@@ -19,10 +31,9 @@ import com.example.account.exception.AccountNotFoundException;
 import com.example.account.entity.type.TransactionType;
 
 
-import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 계좌 거래(입금, 출금, 이체)와 관련된 비즈니스 로직을 처리하는 서비스
@@ -32,11 +43,15 @@ import java.util.concurrent.TimeUnit;
 public class TransactionService {
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
-    private final DailyTransactionSummaryRepository dailySummaryRepository;
-    private final RedissonClient redissonClient;
-
-    // 계좌 이체 수수료율 (1%)
-    private static final BigDecimal TRANSFER_FEE_RATE = new BigDecimal("0.01");
+    private final DailyLimitChecker dailyLimitChecker;
+    private final PostingRepository postingRepository;
+    private final AccountLockManager accountLockManager;
+    private final AccountCache accountCache;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final TransactionMetrics transactionMetrics;
+    private final HotAccountBalances hotAccountBalances;
+    private final ObjectProvider<TransactionWriteBehind> writeBehindProvider;
+    private final TransferPolicyEngine transferPolicyEngine;
 
     /**
      * 계좌에 입금을 처리합니다.
@@ -48,18 +63,29 @@ public class TransactionService {
      */
     @Transactional
     public TransactionResponse deposit(TransactionRequest request) {
-        Account account = getAccountWithLock(request.getAccountNumber());
-
-        if (account.getStatus() != AccountStatus.ACTIVE) {
-            throw new AccountNotActiveException("활성화 된 계좌가 아닙니다.");
-        }
+        Money amount = Money.of(request.getAmount());
+        return transactionMetrics.record(Operation.DEPOSIT, metrics -> {
+            // 잔액 분할 계좌는 계좌 락 없이 슬롯에 입금합니다.
+            boolean hotCredit = hotAccountBalances.isHot(request.getAccountNumber());
+            Account account = hotCredit
+                    ? findAccountForShare(request.getAccountNumber())
+                    : getAccountWithLock(request.getAccountNumber(), metrics);
+
+            if (account.getStatus() != AccountStatus.ACTIVE) {
+                throw new AccountNotActiveException("활성화 된 계좌가 아닙니다.");
+            }
 
-        account.deposit(request.getAmount());
+            if (!hotCredit) {
+                account.deposit(amount);
+            }
+            accountCache.evictAfterCommit(account.getAccountNumber());
 
-        Transaction transaction = createTransaction(null, account, request.getAmount(),
-                TransactionType.DEPOSIT, null);
+            Transaction transaction = createTransaction(null, account, amount,
+                    TransactionType.DEPOSIT, null);
+            metrics.lap(Phase.PERSIST);
 
-        return TransactionResponse.from(transaction);
+            return TransactionResponse.from(transaction);
+        });
     }
 
     /**
@@ -74,23 +100,30 @@ public class TransactionService {
      */
     @Transactional
     public TransactionResponse withdraw(TransactionRequest request) {
-        Account account = getAccountWithLock(request.getAccountNumber());
+        Money amount = Money.of(request.getAmount());
+        return transactionMetrics.record(Operation.WITHDRAW, metrics -> {
+            Account account = getAccountWithLock(request.getAccountNumber(), metrics);
 
-        if (account.getStatus() != AccountStatus.ACTIVE) {
-            throw new AccountNotActiveException("활성화 된 계좌가 아닙니다.");
-        }
+            if (account.getStatus() != AccountStatus.ACTIVE) {
+                throw new AccountNotActiveException("활성화 된 계좌가 아닙니다.");
+            }
 
-        if (account.getBalance().compareTo(request.getAmount()) < 0) {
-            throw new InsufficientBalanceException("잔액이 부족합니다.");
-        }
+            hotAccountBalances.ensureAvailable(account, amount);
+            if (account.getBalance().isLessThan(amount)) {
+                throw new InsufficientBalanceException("잔액이 부족합니다.");
+            }
 
-        checkDailyWithdrawLimit(account, request.getAmount());
-        account.withdraw(request.getAmount());
+            dailyLimitChecker.reserve(account, LimitType.WITHDRAW, amount);
+            metrics.lap(Phase.LIMIT);
+            account.withdraw(amount);
+            accountCache.evictAfterCommit(account.getAccountNumber());
 
-        Transaction transaction = createTransaction(account, null, request.getAmount(),
-                TransactionType.WITHDRAW, null);
+            Transaction transaction = createTransaction(account, null, amount,
+                    TransactionType.WITHDRAW, null);
+            metrics.lap(Phase.PERSIST);
 
-        return TransactionResponse.from(transaction);
+            return TransactionResponse.from(transaction);
+        });
     }
 
     /**
@@ -105,112 +138,110 @@ public class TransactionService {
      */
     @Transactional
     public TransactionResponse transfer(TransferRequest request) {
-        Account fromAccount = getAccountWithLock(request.getFromAccountNumber());
-        Account toAccount = getAccountWithLock(request.getToAccountNumber());
+        Money amount = Money.of(request.getAmount());
+        return transactionMetrics.record(Operation.TRANSFER, metrics -> {
+            String fromAccountNumber = request.getFromAccountNumber();
+            String toAccountNumber = request.getToAccountNumber();
+            // 입금 계좌가 잔액 분할 계좌이면 계좌 락은 출금 계좌만 잡고, 입금 계좌 행에는 공유 락만 겁니다.
+            boolean hotCredit = hotAccountBalances.isHot(toAccountNumber);
+            if (hotCredit) {
+                accountLockManager.lockForTransaction(fromAccountNumber);
+            } else {
+                accountLockManager.lockForTransaction(fromAccountNumber, toAccountNumber);
+            }
+            metrics.lap(Phase.LOCK);
+
+            // 반대 방향 이체와 교착되지 않도록 행 락도 계좌번호 순서로 획득합니다.
+            Account fromAccount;
+            Account toAccount;
+            if (fromAccountNumber.compareTo(toAccountNumber) <= 0) {
+                fromAccount = findAccountForUpdate(fromAccountNumber);
+                toAccount = hotCredit ? findAccountForShare(toAccountNumber) : findAccountForUpdate(toAccountNumber);
+            } else {
+                toAccount = hotCredit ? findAccountForShare(toAccountNumber) : findAccountForUpdate(toAccountNumber);
+                fromAccount = findAccountForUpdate(fromAccountNumber);
+            }
+            metrics.lap(Phase.ROW_LOCK);
 
-        if (fromAccount.getStatus() != AccountStatus.ACTIVE) {
-            throw new AccountNotActiveException("활성화 된 계좌가 아닙니다.");
-        }
+            if (fromAccount.getStatus() != AccountStatus.ACTIVE) {
+                throw new AccountNotActiveException("활성화 된 계좌가 아닙니다.");
+            }
 
-        if (toAccount.getStatus() != AccountStatus.ACTIVE) {
-            throw new AccountNotActiveException("활성화 된 계좌가 아닙니다.");
-        }
+            if (toAccount.getStatus() != AccountStatus.ACTIVE) {
+                throw new AccountNotActiveException("활성화 된 계좌가 아닙니다.");
+            }
 
-        BigDecimal fee = request.getAmount().multiply(TRANSFER_FEE_RATE);
+            Money fee = transferPolicyEngine.current().transferFee(fromAccount, amount);
+            Money totalAmount = amount.plus(fee);
 
-        if (fromAccount.getBalance().add(fee).compareTo(request.getAmount()) < 0) {
-            throw new InsufficientBalanceException("잔액이 부족합니다.");
-        }
-        BigDecimal totalAmount = request.getAmount().add(fee);
+            hotAccountBalances.ensureAvailable(fromAccount, totalAmount);
+            if (fromAccount.getBalance().plus(fee).isLessThan(amount)) {
+                throw new InsufficientBalanceException("잔액이 부족합니다.");
+            }
 
-        checkDailyTransferLimit(fromAccount, request.getAmount());
-        fromAccount.withdraw(totalAmount);
-        toAccount.deposit(request.getAmount());
+            dailyLimitChecker.reserve(fromAccount, LimitType.TRANSFER, amount);
+            metrics.lap(Phase.LIMIT);
+            fromAccount.withdraw(totalAmount);
+            if (!hotCredit) {
+                toAccount.deposit(amount);
+            }
+            accountCache.evictAfterCommit(fromAccountNumber, toAccountNumber);
 
-        Transaction transaction = createTransaction(fromAccount, toAccount, request.getAmount(),
-                TransactionType.TRANSFER, fee);
+            Transaction transaction = createTransaction(fromAccount, toAccount, amount,
+                    TransactionType.TRANSFER, fee);
+            metrics.lap(Phase.PERSIST);
 
-        return TransactionResponse.from(transaction);
+            return TransactionResponse.from(transaction);
+        });
     }
 
     /**
-     * 계좌 정보를 조회하면서 동시에 분산 락을 획득합니다.
+     * 계좌 락을 획득한 뒤 계좌 정보를 조회합니다. 락은 트랜잭션이 끝날 때 해제됩니다.
      *
      * @param accountNumber 조회할 계좌번호
+     * @param metrics 단계별 시간 기록
      * @return 락이 걸린 계좌 정보
      * @throws AccountNotFoundException 계좌를 찾을 수 없는 경우
-     * @throws RuntimeException 락 획득 실패 시
+     * @throws LockAcquisitionException 락 획득 실패 시
      */
-    private Account getAccountWithLock(String accountNumber) {
-        RLock lock = redissonClient.getLock("account:" + accountNumber);
-        try {
-            boolean isLocked = lock.tryLock(5, 10, TimeUnit.SECONDS);
-            if (!isLocked) {
-                throw new RuntimeException("락 획득 실패");
-            }
-            return accountRepository.findByAccountNumberWithLock(accountNumber)
-                    .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다."));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("락 획득 중 인터럽트 발생", e);
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
-        }
+    private Account getAccountWithLock(String accountNumber, TransactionMetrics.Recorder metrics) {
+        accountLockManager.lockForTransaction(accountNumber);
+        metrics.lap(Phase.LOCK);
+        Account account = findAccountForUpdate(accountNumber);
+        metrics.lap(Phase.ROW_LOCK);
+        return account;
     }
 
     /**
-     * 일일 출금 한도를 확인합니다.
+     * 계좌 행에 쓰기 락을 걸고 조회합니다.
      *
-     * @param account 확인할 계좌
-     * @param amount 출금 금액
-     * @throws DailyLimitExceededException 일일 출금 한도 초과 시
+     * @param accountNumber 조회할 계좌번호
+     * @return 계좌 정보
+     * @throws AccountNotFoundException 계좌를 찾을 수 없는 경우
      */
-    private void checkDailyWithdrawLimit(Account account, BigDecimal amount) {
-        DailyTransactionSummary summary = getDailySummary(account.getId());
-        if (summary.getTotalWithdraw().add(amount).compareTo(account.getDailyWithdrawLimit()) > 0) {
-            throw new DailyLimitExceededException("일일 출금 한도를 초과했습니다.");
-        }
-        summary.addWithdraw(amount);
+    private Account findAccountForUpdate(String accountNumber) {
+        return accountRepository.findByAccountNumberWithLock(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다."));
     }
 
     /**
-     * 일일 이체 한도를 확인합니다.
+     * 계좌 행에 공유 락을 걸고 조회합니다. 잔액 분할 계좌로 입금할 때 사용하며, 같은 계좌로의 입금끼리는 서로 기다리지 않습니다.
      *
-     * @param account 확인할 계좌
-     * @param amount 이체 금액
-     * @throws DailyLimitExceededException 일일 이체 한도 초과 시
+     * @param accountNumber 조회할 계좌번호
+     * @return 계좌 정보
+     * @throws AccountNotFoundException 계좌를 찾을 수 없는 경우
      */
-    private void checkDailyTransferLimit(Account account, BigDecimal amount) {
-        DailyTransactionSummary summary = getDailySummary(account.getId());
-        if (summary.getTotalTransfer().add(amount).compareTo(account.getDailyTransferLimit()) > 0) {
-            throw new DailyLimitExceededException("일일 이체 한도를 초과했습니다.");
-        }
-        summary.addTransfer(amount);
-        dailySummaryRepository.save(summary);
+    private Account findAccountForShare(String accountNumber) {
+        return accountRepository.findByAccountNumberWithSharedLock(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다."));
     }
 
     /**
-     * 계좌의 일일 거래 요약 정보를 조회하거나 생성합니다.
+     * 새로운 거래 내역과 계좌별 분개를 생성합니다. 계좌 잔액은 이미 반영된 상태여야 하며,
+     * 잔액 분할 계좌로의 입금만 여기서 슬롯에 반영합니다.
      *
-     * @param accountId 계좌 ID
-     * @return 일일 거래 요약 정보
-     */
-    private DailyTransactionSummary getDailySummary(Long accountId) {
-        return dailySummaryRepository.findByAccountIdAndDateWithLock(accountId, Instant.now())
-                .orElseGet(() -> dailySummaryRepository.save(
-                        DailyTransactionSummary.builder()
-                                .accountId(accountId)
-                                .date(Instant.now())
-                                .totalWithdraw(BigDecimal.ZERO)
-                                .totalTransfer(BigDecimal.ZERO)
-                                .build()
-                ));
-    }
-
-    /**
-     * 새로운 거래 내역을 생성합니다.
+     * 지연 기록 모드에서는 거래 내역과 분개를 저널에 남기고 MySQL 저장은 커밋 이후로 미룹니다.
+     * 계좌 행을 갱신하지 않는 잔액 분할 계좌 입금은 커밋 여부를 확인할 근거가 없으므로 바로 저장합니다.
      *
      * @param fromAccount 출금 계좌
      * @param toAccount 입금 계좌
@@ -219,11 +250,11 @@ public class TransactionService {
      * @param fee 수수료
      * @return 생성된 거래 내역
      */
-    private Transaction createTransaction(Account fromAccount, Account toAccount, BigDecimal amount,
-                                          TransactionType type, BigDecimal fee) {
-        String transactionId = generateTransactionId();
+    private Transaction createTransaction(Account fromAccount, Account toAccount, Money amount,
+                                          TransactionType type, Money fee) {
+        String transactionId = transactionIdGenerator.nextTransactionId();
 
-        return transactionRepository.save(Transaction.builder()
+        Transaction transaction = Transaction.builder()
                 .fromAccount(fromAccount)
                 .transactionId(transactionId)
                 .toAccount(toAccount)
@@ -232,16 +263,31 @@ public class TransactionService {
                 .fee(fee)
                 .status(TransactionStatus.COMPLETED)
                 .createdAt(Instant.now())
-                .build());
-    }
+                .build();
+
+        List<Posting> postings = new ArrayList<>(2);
+        if (fromAccount != null) {
+            Money balanceAfter = hotAccountBalances.isHot(fromAccount.getAccountNumber())
+                    ? hotAccountBalances.totalBalance(fromAccount)
+                    : fromAccount.getBalance();
+            postings.add(Posting.debit(transaction, fromAccount.getId(), balanceAfter, toAccount));
+        }
+        if (toAccount != null) {
+            boolean hotCredit = hotAccountBalances.isHot(toAccount.getAccountNumber());
+            Money balanceAfter = hotCredit
+                    ? hotAccountBalances.credit(toAccount, amount)
+                    : toAccount.getBalance();
+            postings.add(Posting.credit(transaction, toAccount.getId(), balanceAfter, fromAccount));
+        }
 
-    /**
-     * 고유한 거래 ID를 생성합니다.
-     *
-     * @return 생성된 거래 ID (TRX로 시작하는 8자리 문자열)
-     */
-    private String generateTransactionId() {
-        return "TRX" + UUID.randomUUID().toString().replace("-", "").substring(0, 8).toUpperCase();
+        TransactionWriteBehind writeBehind = writeBehindProvider.getIfAvailable();
+        if (writeBehind != null) {
+            writeBehind.record(transaction, postings);
+            return transaction;
+        }
+        Transaction saved = transactionRepository.save(transaction);
+        postingRepository.saveAll(postings);
+        return saved;
     }
 
 
@@ -0,0 +1,81 @@
+package com.example.account.sql;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 요청별 SQL 집계 누적값
+ */
+public class EndpointSqlStats {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder dbNanos = new LongAdder();
+    private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxDbNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder slowQueries = new LongAdder();
+    private final LongAdder nPlusOneRequests = new LongAdder();
+    private volatile String lastNPlusOneSql;
+
+    void addRequest(int statementCount, long nanos, int slowQueryCount, String nPlusOneSql) {
+        requests.increment();
+        statements.add(statementCount);
+        dbNanos.add(nanos);
+        maxStatements.accumulate(statementCount);
+        maxDbNanos.accumulate(nanos);
+        slowQueries.add(slowQueryCount);
+        if (nPlusOneSql != null) {
+            nPlusOneRequests.increment();
+            lastNPlusOneSql = nPlusOneSql;
+        }
+    }
+
+    void addSlowQuery() {
+        slowQueries.increment();
+    }
+
+    Snapshot snapshot() {
+        long requestCount = requests.sum();
+        long statementCount = statements.sum();
+        double dbMillis = millis(dbNanos.sum());
+        return new Snapshot(
+                requestCount,
+                statementCount,
+                requestCount > 0 ? (double) statementCount / requestCount : 0,
+                maxStatements.get(),
+                dbMillis,
+                requestCount > 0 ? dbMillis / requestCount : 0,
+                millis(maxDbNanos.get()),
+                slowQueries.sum(),
+                nPlusOneRequests.sum(),
+                lastNPlusOneSql);
+    }
+
+    private static double millis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @param requests 요청 수
+     * @param statements 실행한 문장 수 (배치는 한 번)
+     * @param avgStatements 요청당 평균 문장 수
+     * @param maxStatements 요청 하나의 최대 문장 수
+     * @param dbTimeMillis DB 소요 시간 합계
+     * @param avgDbTimeMillis 요청당 평균 DB 소요 시간
+     * @param maxDbTimeMillis 요청 하나의 최대 DB 소요 시간
+     * @param slowQueries 느린 쿼리 수
+     * @param nPlusOneRequests N+1 의심 요청 수
+     * @param lastNPlusOneSql 마지막 N+1 의심 요청에서 반복된 SQL
+     */
+    public record Snapshot(long requests,
+                           long statements,
+                           double avgStatements,
+                           long maxStatements,
+                           double dbTimeMillis,
+                           double avgDbTimeMillis,
+                           double maxDbTimeMillis,
+                           long slowQueries,
+                           long nPlusOneRequests,
+                           String lastNPlusOneSql) {
+    }
+}
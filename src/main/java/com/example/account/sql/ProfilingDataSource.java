@@ -0,0 +1,156 @@
+package com.example.account.sql;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * 실행한 문장을 {@link SqlProfiler} 에 알리도록 DataSource, Connection, Statement 를 감싸는 프록시
+ *
+ * JPA 와 JdbcTemplate 이 같은 DataSource 를 쓰므로 두 경로의 문장이 모두 집계됩니다.
+ * 바인드 값은 문장을 만들 때 표본으로 고른 경우에만 보관하고, 긴 값은 잘라서 보관합니다.
+ */
+final class ProfilingDataSource {
+    private static final int MAX_BIND_LENGTH = 64;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+
+    private ProfilingDataSource() {
+    }
+
+    static DataSource wrap(DataSource target, SqlProfiler profiler) {
+        return proxy(DataSource.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? wrap(connection, profiler) : result;
+        });
+    }
+
+    static Connection wrap(Connection target, SqlProfiler profiler) {
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String value ? value : null;
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, statement, new StatementHandler(statement, sql, profiler));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, statement, new StatementHandler(statement, sql, profiler));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, statement, new StatementHandler(statement, null, profiler));
+            }
+            return result;
+        });
+    }
+
+    /**
+     * 문자열과 숫자 리터럴을 ? 로 바꿔 값만 다른 SQL 을 같은 문장으로 묶습니다.
+     */
+    static String normalize(String sql) {
+        return NUMBER_LITERAL.matcher(STRING_LITERAL.matcher(sql).replaceAll("?")).replaceAll("?");
+    }
+
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> args[0] == proxy;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Profiling[" + target + "]";
+                    default -> handler.invoke(proxy, method, args);
+                }));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object summarize(Object value) {
+        if (value instanceof String text && text.length() > MAX_BIND_LENGTH) {
+            return "'" + text.substring(0, MAX_BIND_LENGTH) + "...'";
+        }
+        if (value instanceof String text) {
+            return "'" + text + "'";
+        }
+        if (value instanceof byte[] bytes) {
+            return "byte[" + bytes.length + "]";
+        }
+        return value;
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final SqlProfiler profiler;
+        private String sql;
+        private Object[] binds;
+        private int bindCount;
+        private int batchSize;
+
+        StatementHandler(Statement target, String sql, SqlProfiler profiler) {
+            this.target = target;
+            this.sql = sql;
+            this.profiler = profiler;
+            this.binds = sql != null && profiler.sampleBinds() ? new Object[8] : null;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args, name.endsWith("Batch"));
+            }
+            if (name.equals("addBatch")) {
+                batchSize++;
+                if (sql == null && args != null && args[0] instanceof String statementSql) {
+                    sql = normalize(statementSql);
+                }
+            } else if (name.equals("clearBatch")) {
+                batchSize = 0;
+            } else if (binds != null && name.startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+            } else if (binds != null && name.equals("clearParameters")) {
+                Arrays.fill(binds, null);
+                bindCount = 0;
+            }
+            return ProfilingDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args, boolean batch) throws Throwable {
+            String executed = args != null && args.length > 0 && args[0] instanceof String statementSql
+                    ? normalize(statementSql) : sql;
+            int executedBatchSize = batch ? batchSize : 0;
+            long start = System.nanoTime();
+            try {
+                return ProfilingDataSource.invoke(target, method, args);
+            } finally {
+                profiler.record(executed, System.nanoTime() - start, executedBatchSize,
+                        binds != null ? Arrays.asList(binds).subList(0, bindCount) : null);
+                if (batch) {
+                    batchSize = 0;
+                }
+            }
+        }
+
+        private void bind(int index, Object value) {
+            if (index < 1) {
+                return;
+            }
+            if (index > binds.length) {
+                binds = Arrays.copyOf(binds, Math.max(index, binds.length * 2));
+            }
+            binds[index - 1] = value == null ? "NULL" : summarize(value);
+            bindCount = Math.max(bindCount, index);
+        }
+    }
+}
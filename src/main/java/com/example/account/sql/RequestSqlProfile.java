@@ -0,0 +1,60 @@
+package com.example.account.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나에서 실행한 SQL 집계 (요청을 처리하는 스레드에서만 사용)
+ */
+final class RequestSqlProfile {
+    private final String request;
+    private final Map<String, int[]> executions = new HashMap<>();
+    private int statements;
+    private int slowQueries;
+    private long dbNanos;
+
+    RequestSqlProfile(String request) {
+        this.request = request;
+    }
+
+    void add(String sql, long nanos, boolean countRepeat) {
+        statements++;
+        dbNanos += nanos;
+        if (countRepeat && sql != null) {
+            executions.computeIfAbsent(sql, key -> new int[1])[0]++;
+        }
+    }
+
+    void addSlowQuery() {
+        slowQueries++;
+    }
+
+    /**
+     * 가장 많이 반복된 SQL 과 실행 횟수 (실행한 문장이 없으면 null)
+     */
+    Map.Entry<String, Integer> mostRepeated() {
+        Map.Entry<String, Integer> result = null;
+        for (Map.Entry<String, int[]> entry : executions.entrySet()) {
+            if (result == null || entry.getValue()[0] > result.getValue()) {
+                result = Map.entry(entry.getKey(), entry.getValue()[0]);
+            }
+        }
+        return result;
+    }
+
+    String request() {
+        return request;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    int slowQueries() {
+        return slowQueries;
+    }
+
+    long dbNanos() {
+        return dbNanos;
+    }
+}
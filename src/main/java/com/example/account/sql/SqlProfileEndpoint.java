@@ -0,0 +1,42 @@
+package com.example.account.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 엔드포인트별 SQL 집계를 조회({@code GET /actuator/sqlprofile})하거나 초기화({@code DELETE})합니다.
+ *
+ * 웹 노출은 {@code sql-profile} 프로필에서만 켜지며, 초기화는 {@code db.profiler.reset-enabled=true} 일 때만 허용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "db.profiler", name = "enabled", havingValue = "true")
+@Endpoint(id = "sqlprofile")
+public class SqlProfileEndpoint {
+    private final SqlProfiler sqlProfiler;
+
+    @Value("${db.profiler.reset-enabled:false}")
+    private boolean resetEnabled;
+
+    @ReadOperation
+    public Map<String, EndpointSqlStats.Snapshot> sqlProfile() {
+        return sqlProfiler.snapshot();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        if (!resetEnabled) {
+            throw new InvalidEndpointRequestException("SQL 집계 초기화가 비활성화되어 있습니다.",
+                    "db.profiler.reset-enabled is false");
+        }
+        sqlProfiler.reset();
+    }
+}
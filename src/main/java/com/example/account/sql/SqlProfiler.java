@@ -0,0 +1,126 @@
+package com.example.account.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 요청별 SQL 실행 횟수와 DB 소요 시간을 집계합니다.
+ *
+ * {@link ProfilingDataSource} 가 실행한 문장을 {@link #record} 로 알리고, {@link SqlProfilingFilter} 가
+ * 요청의 시작과 끝을 표시합니다. 요청이 끝나면 엔드포인트(HTTP 메서드 + URL 패턴)별 누적값에 더하고,
+ * 같은 SQL 이 한 요청 안에서 기준 횟수 이상 반복되면 N+1 의심으로 기록합니다.
+ * 느린 쿼리는 바로 로그로 남기며, 바인드 값은 표본으로 고른 문장에서만 수집합니다.
+ * 누적값은 {@code /actuator/sqlprofile} 로 조회합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "db.profiler", name = "enabled", havingValue = "true")
+public class SqlProfiler {
+    static final String BACKGROUND = "(background)";
+
+    private final ThreadLocal<RequestSqlProfile> current = new ThreadLocal<>();
+    private final Map<String, EndpointSqlStats> stats = new ConcurrentHashMap<>();
+
+    @Value("${db.profiler.slow-query-millis:200}")
+    private long slowQueryMillis;
+
+    @Value("${db.profiler.bind-sample-rate:0.1}")
+    private double bindSampleRate;
+
+    @Value("${db.profiler.n-plus-one-threshold:10}")
+    private int nPlusOneThreshold;
+
+    /**
+     * 현재 스레드에서 요청 집계를 시작합니다.
+     *
+     * @param request 로그에 남길 요청 (HTTP 메서드와 URI)
+     */
+    void begin(String request) {
+        current.set(new RequestSqlProfile(request));
+    }
+
+    /**
+     * 현재 스레드의 요청 집계를 끝내고 엔드포인트 누적값에 더합니다.
+     *
+     * @param endpoint HTTP 메서드와 URL 패턴
+     */
+    void end(String endpoint) {
+        RequestSqlProfile profile = current.get();
+        current.remove();
+        if (profile == null) {
+            return;
+        }
+        Map.Entry<String, Integer> repeated = profile.mostRepeated();
+        boolean nPlusOne = repeated != null && repeated.getValue() >= nPlusOneThreshold;
+        if (nPlusOne) {
+            log.warn("N+1 의심: {} 요청에서 같은 쿼리를 {}번 실행했습니다 (전체 {}건). {}",
+                    profile.request(), repeated.getValue(), profile.statements(), repeated.getKey());
+        }
+        statsOf(endpoint).addRequest(profile.statements(), profile.dbNanos(), profile.slowQueries(),
+                nPlusOne ? repeated.getKey() : null);
+    }
+
+    /**
+     * 새로 만드는 문장의 바인드 값을 수집할지 정합니다.
+     */
+    boolean sampleBinds() {
+        return bindSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < bindSampleRate;
+    }
+
+    /**
+     * 실행한 문장을 기록합니다.
+     *
+     * @param sql 실행한 SQL
+     * @param nanos 실행 소요 시간
+     * @param batchSize 배치로 실행한 행 수 (배치가 아니면 0)
+     * @param binds 수집한 바인드 값 (수집하지 않았으면 null)
+     */
+    void record(String sql, long nanos, int batchSize, Object binds) {
+        RequestSqlProfile profile = current.get();
+        if (profile != null) {
+            // 배치는 한 번의 왕복이므로 반복 실행으로 보지 않습니다.
+            profile.add(sql, nanos, batchSize == 0);
+        }
+        if (nanos >= TimeUnit.MILLISECONDS.toNanos(slowQueryMillis)) {
+            if (profile != null) {
+                profile.addSlowQuery();
+            } else {
+                statsOf(BACKGROUND).addSlowQuery();
+            }
+            log.warn("느린 쿼리 {}ms ({}{}) {} 바인드={}",
+                    TimeUnit.NANOSECONDS.toMillis(nanos), profile != null ? profile.request() : BACKGROUND,
+                    batchSize > 0 ? ", 배치 " + batchSize + "건" : "", sql,
+                    binds != null ? binds : "(미수집)");
+        }
+    }
+
+    /**
+     * 엔드포인트별 누적값을 DB 소요 시간이 큰 순서로 반환합니다.
+     */
+    public Map<String, EndpointSqlStats.Snapshot> snapshot() {
+        Map<String, EndpointSqlStats.Snapshot> result = new LinkedHashMap<>();
+        stats.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().snapshot()))
+                .sorted(Comparator.comparingDouble(
+                        (Map.Entry<String, EndpointSqlStats.Snapshot> entry) -> entry.getValue().dbTimeMillis()).reversed())
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    private EndpointSqlStats statsOf(String endpoint) {
+        return stats.computeIfAbsent(endpoint, key -> new EndpointSqlStats());
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.account.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션이 사용하는 DataSource 를 {@link ProfilingDataSource} 로 감쌉니다.
+ *
+ * 복제 DB 라우팅을 켠 경우에도 가장 바깥의 {@code dataSource} 빈만 감싸므로 문장이 두 번 집계되지 않고,
+ * 커넥션 풀 지표는 unwrap 으로 원래 풀을 찾아 그대로 수집됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "db.profiler", name = "enabled", havingValue = "true")
+public class SqlProfilingDataSourcePostProcessor implements BeanPostProcessor {
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    // 후처리기는 먼저 만들어지므로 프로파일러는 DataSource 를 감쌀 때 가져옵니다.
+    private final ObjectProvider<SqlProfiler> sqlProfiler;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+            return ProfilingDataSource.wrap(dataSource, sqlProfiler.getObject());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.account.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 처리 중 실행한 SQL 을 그 요청의 엔드포인트(HTTP 메서드 + URL 패턴)로 집계합니다.
+ *
+ * 요청 스레드에서 실행한 문장만 집계하며, 다른 스레드에서 실행되는 스트리밍 응답 본문의 문장은 포함되지 않습니다.
+ * 컨트롤러 슬라이스 테스트에 필터만 올라오지 않도록 {@link com.example.account.config.SqlProfilerConfig} 에서 등록합니다.
+ */
+@RequiredArgsConstructor
+public class SqlProfilingFilter extends OncePerRequestFilter {
+    private static final String UNMAPPED = "(unmapped)";
+
+    private final SqlProfiler sqlProfiler;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        sqlProfiler.begin(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // 경로 변수 값마다 따로 집계되지 않도록 URI 대신 매핑된 패턴을 사용합니다.
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            sqlProfiler.end(request.getMethod() + " " + (pattern != null ? pattern : UNMAPPED));
+        }
+    }
+}
@@ -1,40 +1,39 @@
--- 계정 데이터 추가
-INSERT INTO accounts (account_number, balance, status, daily_withdraw_limit, daily_transfer_limit, created_at)
-SELECT account_number, balance, status, daily_withdraw_limit, daily_transfer_limit, created_at
+-- 계정 데이터 추가 (ID 는 시퀀스 테이블에서 발급되므로 초기 데이터는 직접 지정합니다)
+-- 일일 한도는 비워 두어 등급 한도를 따르게 합니다.
+INSERT INTO accounts (id, account_number, balance, status, created_at)
+SELECT id, account_number, balance, status, created_at
 FROM (
          SELECT
+             1 as id,
              '1000000001' as account_number,
              1000000 as balance,
              'ACTIVE' as status,
-             1000000 as daily_withdraw_limit,
-             3000000 as daily_transfer_limit,
              NOW() as created_at
          UNION ALL
          SELECT
+             2,
              '1000000002',
              500000,
              'ACTIVE',
-             1000000,
-             3000000,
              NOW()
          UNION ALL
          SELECT
+             3,
              '1000000003',
              2000000,
              'ACTIVE',
-             1000000,
-             3000000,
              NOW()
      ) AS tmp
 WHERE NOT EXISTS (
-    SELECT 1 FROM accounts WHERE account_number IN ('1000000001', '1000000002', '1000000003')
+    SELECT 1 FROM accounts WHERE account_number IN ('1000000001', '1000000002', '1000000003') OR id IN (1, 2, 3)
 );
 
 -- 거래 내역 데이터 추가
-INSERT INTO transactions (transaction_id, from_account_id, to_account_id, amount, fee, type, status, description, created_at)
-SELECT transaction_id, from_account_id, to_account_id, amount, fee, type, status, description, created_at
+INSERT INTO transactions (id, transaction_id, from_account_id, to_account_id, amount, fee, type, status, description, created_at)
+SELECT id, transaction_id, from_account_id, to_account_id, amount, fee, type, status, description, created_at
 FROM (
          SELECT
+             1 as id,
              'TRX0000001' as transaction_id,
              1 as from_account_id,
              2 as to_account_id,
@@ -46,6 +45,7 @@ FROM (
              NOW() as created_at
          UNION ALL
          SELECT
+             2,
              'TRX0000002',
              2,
              3,
@@ -57,6 +57,7 @@ FROM (
              NOW()
          UNION ALL
          SELECT
+             3,
              'TRX0000003',
              1,
              NULL,
@@ -68,6 +69,7 @@ FROM (
              NOW()
          UNION ALL
          SELECT
+             4,
              'TRX0000004',
              NULL,
              3,
@@ -79,5 +81,57 @@ FROM (
              NOW()
      ) AS tmp
 WHERE NOT EXISTS (
-    SELECT 1 FROM transactions WHERE transaction_id IN ('TRX0000001', 'TRX0000002', 'TRX0000003', 'TRX0000004')
-);
\ No newline at end of file
+    SELECT 1 FROM transactions WHERE transaction_id IN ('TRX0000001', 'TRX0000002', 'TRX0000003', 'TRX0000004') OR id IN (1, 2, 3, 4)
+);
+
+-- 분개 데이터 보정 (분개 도입 전 거래 내역)
+-- 거래 시점 잔액은 현재 잔액에서 이후 분개의 잔액 변동을 빼서 계산합니다.
+INSERT INTO postings (id, account_id, transaction_id, type, amount, fee, counterparty_account_number, balance_after, created_at)
+SELECT ROW_NUMBER() OVER (ORDER BY p.created_at, p.seq, p.account_id),
+       p.account_id,
+       p.transaction_id,
+       p.type,
+       p.amount,
+       p.fee,
+       p.counterparty_account_number,
+       a.balance - COALESCE(SUM(p.amount - COALESCE(p.fee, 0)) OVER (
+           PARTITION BY p.account_id
+           ORDER BY p.created_at DESC, p.seq DESC
+           ROWS BETWEEN UNBOUNDED PRECEDING AND 1 PRECEDING), 0),
+       p.created_at
+FROM (
+         SELECT t.from_account_id AS account_id,
+                t.id AS seq,
+                t.transaction_id,
+                t.type,
+                -t.amount AS amount,
+                t.fee,
+                counterparty.account_number AS counterparty_account_number,
+                t.created_at
+         FROM transactions t
+                  LEFT JOIN accounts counterparty ON counterparty.id = t.to_account_id
+         WHERE t.from_account_id IS NOT NULL
+         UNION ALL
+         SELECT t.to_account_id,
+                t.id,
+                t.transaction_id,
+                t.type,
+                t.amount,
+                NULL,
+                counterparty.account_number,
+                t.created_at
+         FROM transactions t
+                  LEFT JOIN accounts counterparty ON counterparty.id = t.from_account_id
+         WHERE t.to_account_id IS NOT NULL
+     ) AS p
+         JOIN accounts a ON a.id = p.account_id
+WHERE NOT EXISTS (
+    SELECT 1 FROM postings
+);
+
+-- 시퀀스 테이블 보정
+-- pooled 최적화기는 저장된 값을 블록의 상한으로 쓰므로 (상한 - 블록 크기, 상한] 이 기존 ID 와 겹치지 않도록
+-- 현재 최대 ID + 블록 크기 이상으로 올려 둡니다. 블록 크기는 엔티티의 allocationSize 와 같아야 합니다.
+UPDATE account_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) FROM accounts) + 50);
+UPDATE transaction_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) FROM transactions) + 100);
+UPDATE posting_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) FROM postings) + 200);
@@ -0,0 +1,116 @@
+package com.example.account.balance;
+
+import com.example.account.repository.BalanceCheckpointJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceCheckpointWriterTest {
+
+    @Mock
+    private BalanceCheckpointJdbcRepository checkpointRepository;
+
+    @InjectMocks
+    private BalanceCheckpointWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(writer, "zoneId", ZoneId.of("Asia/Seoul"));
+        ReflectionTestUtils.setField(writer, "settleMinutes", 10L);
+        ReflectionTestUtils.setField(writer, "maxDaysPerRun", 31);
+    }
+
+    @Test
+    void writePendingDays_WritesEachClosedDayAfterLatestCheckpoint() {
+        // given
+        given(checkpointRepository.findLatestDate()).willReturn(Optional.of(LocalDate.of(2025, 1, 7)));
+
+        // when (2025-01-10 00:30 Asia/Seoul)
+        writer.writePendingDays(Instant.parse("2025-01-09T15:30:00Z"));
+
+        // then
+        verify(checkpointRepository).writeDay(LocalDate.of(2025, 1, 8),
+                Instant.parse("2025-01-07T15:00:00Z"), Instant.parse("2025-01-08T15:00:00Z"));
+        verify(checkpointRepository).writeDay(LocalDate.of(2025, 1, 9),
+                Instant.parse("2025-01-08T15:00:00Z"), Instant.parse("2025-01-09T15:00:00Z"));
+        verify(checkpointRepository, times(2)).writeDay(any(), any(), any());
+    }
+
+    @Test
+    void writePendingDays_WaitsForSettlePeriod() {
+        // given
+        given(checkpointRepository.findLatestDate()).willReturn(Optional.of(LocalDate.of(2025, 1, 8)));
+
+        // when (2025-01-10 00:05 Asia/Seoul, 전날 마감 대기 중)
+        writer.writePendingDays(Instant.parse("2025-01-09T15:05:00Z"));
+
+        // then
+        verify(checkpointRepository, never()).writeDay(any(), any(), any());
+    }
+
+    @Test
+    void writePendingDays_StartsFromFirstPostingDate() {
+        // given
+        given(checkpointRepository.findLatestDate()).willReturn(Optional.empty());
+        given(checkpointRepository.findFirstPostingAt()).willReturn(Optional.of(Instant.parse("2025-01-09T01:00:00Z")));
+
+        // when
+        writer.writePendingDays(Instant.parse("2025-01-09T15:30:00Z"));
+
+        // then
+        verify(checkpointRepository).writeDay(LocalDate.of(2025, 1, 9),
+                Instant.parse("2025-01-08T15:00:00Z"), Instant.parse("2025-01-09T15:00:00Z"));
+        verify(checkpointRepository, times(1)).writeDay(any(), any(), any());
+    }
+
+    @Test
+    void writePendingDays_RecloseRecentDaysForLatePostings() {
+        // given
+        ReflectionTestUtils.setField(writer, "recloseDays", 3);
+        given(checkpointRepository.findLatestDate()).willReturn(Optional.of(LocalDate.of(2025, 1, 9)));
+
+        // when (2025-01-10 00:30 Asia/Seoul, 1월 9일까지 이미 마감)
+        writer.writePendingDays(Instant.parse("2025-01-09T15:30:00Z"));
+
+        // then
+        InOrder inOrder = inOrder(checkpointRepository);
+        inOrder.verify(checkpointRepository).writeDay(eq(LocalDate.of(2025, 1, 7)), any(), any());
+        inOrder.verify(checkpointRepository).writeDay(eq(LocalDate.of(2025, 1, 8)), any(), any());
+        inOrder.verify(checkpointRepository).writeDay(eq(LocalDate.of(2025, 1, 9)), any(), any());
+        verify(checkpointRepository, times(3)).writeDay(any(), any(), any());
+    }
+
+    @Test
+    void writePendingDays_DoesNotRescanDaysWithoutPostings() {
+        // given (분개가 없어 체크포인트가 남지 않는 날짜)
+        given(checkpointRepository.findLatestDate()).willReturn(Optional.of(LocalDate.of(2025, 1, 7)));
+        given(checkpointRepository.writeDay(any(), any(), any())).willReturn(0);
+        Instant now = Instant.parse("2025-01-09T15:30:00Z");
+
+        // when
+        writer.writePendingDays(now);
+        writer.writePendingDays(now);
+
+        // then
+        verify(checkpointRepository, times(2)).writeDay(any(), any(), any());
+    }
+}
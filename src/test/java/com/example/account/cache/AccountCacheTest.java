@@ -0,0 +1,140 @@
+package com.example.account.cache;
+
+import com.example.account.dto.response.AccountResponse;
+import com.example.account.money.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBucket;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountCacheTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RBucket<Object> bucket;
+
+    @Mock
+    private RTopic topic;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AccountCache accountCache;
+
+    @BeforeEach
+    void setUp() {
+        given(redissonClient.getTopic(anyString(), any())).willReturn(topic);
+        given(redissonClient.getBucket(eq("account-cache:1234567890"), any())).willReturn(bucket);
+
+        meterRegistry = new SimpleMeterRegistry();
+        accountCache = new AccountCache(redissonClient, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+        ReflectionTestUtils.setField(accountCache, "localMaximumSize", 100L);
+        ReflectionTestUtils.setField(accountCache, "localTtlSeconds", 60L);
+        ReflectionTestUtils.setField(accountCache, "redisTtlSeconds", 60L);
+        ReflectionTestUtils.setField(accountCache, "redisTombstoneSeconds", 5L);
+        accountCache.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_LoadsOnceAndServesFromLocalCache() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        given(bucket.setIfAbsent(anyString(), any(Duration.class))).willReturn(true);
+
+        // when
+        AccountResponse first = accountCache.get("1234567890", () -> load(loads));
+        AccountResponse second = accountCache.get("1234567890", () -> load(loads));
+
+        // then
+        assertThat(first.getBalance()).isEqualTo(Money.of(1000));
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        verify(bucket).get();
+        verify(bucket).setIfAbsent(anyString(), eq(Duration.ofSeconds(60)));
+        assertThat(meterRegistry.get("account.cache.redis.requests").tag("result", "miss").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void evictAfterCommit_InvalidatesBothTiersOnlyAfterCommit() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        given(bucket.setIfAbsent(anyString(), any(Duration.class))).willReturn(true);
+        accountCache.get("1234567890", () -> load(loads));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        accountCache.evictAfterCommit("1234567890");
+        accountCache.get("1234567890", () -> load(loads));
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        verify(bucket, never()).set(eq("-"), any(Duration.class));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCommit());
+        verify(bucket, never()).set(eq("-"), any(Duration.class));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        verify(bucket).set("-", Duration.ofSeconds(5));
+        verify(topic).publish("1234567890");
+
+        accountCache.get("1234567890", () -> load(loads));
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_StaleWriteRefusedByTombstone_NotCachedLocally() {
+        // given (다른 노드의 무효화로 묘비가 남아 있음)
+        AtomicInteger loads = new AtomicInteger();
+        given(bucket.get()).willReturn(null, "-");
+        given(bucket.setIfAbsent(anyString(), any(Duration.class))).willReturn(false);
+
+        // when
+        accountCache.get("1234567890", () -> load(loads));
+        accountCache.get("1234567890", () -> load(loads));
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("account.cache.redis.requests").tag("result", "miss").counter().count())
+                .isEqualTo(2);
+    }
+
+    private AccountResponse load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return AccountResponse.builder()
+                .accountNumber("1234567890")
+                .balance(Money.of(1000))
+                .status("ACTIVE")
+                .createdAt(Instant.now())
+                .build();
+    }
+}
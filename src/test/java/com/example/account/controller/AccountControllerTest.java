@@ -2,6 +2,8 @@ package com.example.account.controller;
 
 import com.example.account.dto.request.AccountCreateRequest;
 import com.example.account.dto.response.AccountResponse;
+import com.example.account.dto.response.BalanceResponse;
+import com.example.account.dto.response.TransactionCursorResponse;
 import com.example.account.dto.response.TransactionHistoryResponse;
 import com.example.account.dto.response.TransactionResponse;
 import com.example.account.entity.Account;
@@ -9,7 +11,10 @@ import com.example.account.entity.Transaction;
 import static org.mockito.Mockito.when;
 
 import com.example.account.entity.type.AccountStatus;
+import com.example.account.money.Money;
 import com.example.account.service.AccountService;
+import com.example.account.service.ExportFormat;
+import com.example.account.service.TransactionExportService;
 import com.example.account.service.TransactionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -20,22 +25,30 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.data.domain.Page;
 
-import java.math.BigDecimal;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AccountController.class)
@@ -51,6 +64,9 @@ class AccountControllerTest {
     @MockBean
     private AccountService accountService;
 
+    @MockBean
+    private TransactionExportService transactionExportService;
+
     @Test
     void createAccount_Success() throws Exception {
         // given
@@ -59,7 +75,7 @@ class AccountControllerTest {
 
         AccountResponse response = AccountResponse.builder()
                 .accountNumber("1234567890")
-                .balance(BigDecimal.ZERO)
+                .balance(Money.ZERO)
                 .status(AccountStatus.ACTIVE.name())
                 .createdAt(Instant.now())
                 .build();
@@ -75,17 +91,38 @@ class AccountControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.accountNumber").value("1234567890"))
-                .andExpect(jsonPath("$.balance").value("0"))
+                .andExpect(jsonPath("$.balance").value(0.0))
                 .andExpect(jsonPath("$.status").value("ACTIVE"));
     }
 
+    @Test
+    void createAccount_UnknownTier() throws Exception {
+        // given
+        AccountCreateRequest request = new AccountCreateRequest();
+        request.setAccountNumber("1234567890");
+        request.setTier("DIAMOND");
+
+        given(accountService.createAccount(any(AccountCreateRequest.class)))
+                .willThrow(new IllegalArgumentException("정의되지 않은 등급입니다: DIAMOND"));
+
+        // when & then
+        mockMvc.perform(post("/api/accounts")
+                        .with(csrf())
+                        .with(user("testUser").roles("USER"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_TRANSACTION"))
+                .andExpect(jsonPath("$.message").value("정의되지 않은 등급입니다: DIAMOND"));
+    }
+
     @Test
     void getAccount_Success() throws Exception {
         // given
         String accountNumber = "1234567890";
         AccountResponse response = AccountResponse.builder()
                 .accountNumber(accountNumber)
-                .balance(BigDecimal.valueOf(1000))
+                .balance(Money.of(1000))
                 .status(AccountStatus.ACTIVE.name())
                 .createdAt(Instant.now())
                 .build();
@@ -99,10 +136,32 @@ class AccountControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.accountNumber").value(accountNumber))
-                .andExpect(jsonPath("$.balance").value("1000"))
+                .andExpect(jsonPath("$.balance").value(1000.0))
                 .andExpect(jsonPath("$.status").value("ACTIVE"));
     }
 
+    @Test
+    void getBalanceAt_Success() throws Exception {
+        // given
+        String accountNumber = "1234567890";
+        Instant at = Instant.parse("2025-01-09T15:00:00Z");
+        BalanceResponse response = BalanceResponse.builder()
+                .accountNumber(accountNumber)
+                .balance(Money.of(3800))
+                .at(at)
+                .build();
+
+        given(accountService.getBalanceAt(accountNumber, at)).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/accounts/{accountNumber}/balance", accountNumber)
+                        .param("at", "2025-01-10T00:00:00+09:00")
+                        .with(user("testUser").roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountNumber").value(accountNumber))
+                .andExpect(jsonPath("$.balance").value(3800.0));
+    }
+
     @Test
     void deleteAccount_Success() throws Exception {
         // given
@@ -124,7 +183,7 @@ class AccountControllerTest {
                 TransactionHistoryResponse.TransactionDetail.builder()
                         .transactionId("TX001")
                         .type("TRANSFER")
-                        .amount(BigDecimal.valueOf(1000))
+                        .amount(Money.of(1000))
                         .build()
         );
 
@@ -147,4 +206,60 @@ class AccountControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.accountNumber").value(accountNumber));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getTransactionHistoryByCursor_Success() throws Exception {
+        // given
+        String accountNumber = "1234567890";
+        TransactionCursorResponse response = TransactionCursorResponse.builder()
+                .accountNumber(accountNumber)
+                .transactions(List.of(TransactionHistoryResponse.TransactionDetail.builder()
+                        .transactionId("TX001")
+                        .type("DEPOSIT")
+                        .amount(Money.of(1000))
+                        .build()))
+                .nextCursor("NEXT")
+                .hasNext(true)
+                .build();
+
+        when(accountService.getTransactionHistory(eq(accountNumber), eq("CURSOR"), eq(100)))
+                .thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/accounts/{accountNumber}/transactions/cursor", accountNumber)
+                        .param("cursor", "CURSOR")
+                        .param("size", "500")
+                        .with(user("testUser").roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("NEXT"))
+                .andExpect(jsonPath("$.transactions[0].transactionId").value("TX001"));
+    }
+
+    @Test
+    void exportTransactionHistory_StreamsCsv() throws Exception {
+        // given
+        String accountNumber = "1234567890";
+        given(transactionExportService.getAccountId(accountNumber)).willReturn(1L);
+        willAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(4);
+            out.write("transactionId\nTX001\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(transactionExportService)
+                .export(eq(1L), eq(LocalDate.of(2024, 1, 1)), isNull(), eq(ExportFormat.CSV), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/accounts/{accountNumber}/transactions/export", accountNumber)
+                        .param("format", "CSV")
+                        .param("from", "2024-01-01")
+                        .with(user("testUser").roles("USER")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"1234567890-transactions.csv\""))
+                .andExpect(content().string("transactionId\nTX001\n"));
+    }
+}
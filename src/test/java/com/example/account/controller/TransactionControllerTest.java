@@ -1,8 +1,13 @@
 package com.example.account.controller;
 
+import com.example.account.dto.request.BatchTransactionRequest;
 import com.example.account.dto.request.TransactionRequest;
 import com.example.account.dto.request.TransferRequest;
+import com.example.account.dto.response.BatchTransactionResponse;
 import com.example.account.dto.response.TransactionResponse;
+import com.example.account.entity.type.TransactionType;
+import com.example.account.money.Money;
+import com.example.account.service.BatchTransactionService;
 import com.example.account.service.TransactionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -15,6 +20,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -38,6 +44,9 @@ class TransactionControllerTest {
     @MockBean
     private TransactionService transactionService;
 
+    @MockBean
+    private BatchTransactionService batchTransactionService;
+
     @Test
     void deposit_Success() throws Exception {
         // given
@@ -49,8 +58,8 @@ class TransactionControllerTest {
         TransactionResponse response = TransactionResponse.builder()
                 .transactionId("DEP123")
                 .toAccount("1234567890")
-                .amount(BigDecimal.valueOf(1000))
-                .fee(BigDecimal.ZERO)
+                .amount(Money.of(1000))
+                .fee(Money.ZERO)
                 .type("DEPOSIT")
                 .status("COMPLETED")
                 .createdAt(Instant.now())
@@ -68,7 +77,7 @@ class TransactionControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.transactionId").value("DEP123"))
                 .andExpect(jsonPath("$.toAccount").value("1234567890"))
-                .andExpect(jsonPath("$.amount").value(1000))
+                .andExpect(jsonPath("$.amount").value(1000.0))
                 .andExpect(jsonPath("$.type").value("DEPOSIT"))
                 .andExpect(jsonPath("$.status").value("COMPLETED"))
                 .andDo(print());
@@ -85,8 +94,8 @@ class TransactionControllerTest {
         TransactionResponse response = TransactionResponse.builder()
                 .transactionId("WD123")
                 .fromAccount("1234567890")
-                .amount(BigDecimal.valueOf(1000))
-                .fee(BigDecimal.ZERO)
+                .amount(Money.of(1000))
+                .fee(Money.ZERO)
                 .type("WITHDRAW")
                 .status("COMPLETED")
                 .createdAt(Instant.now())
@@ -104,7 +113,7 @@ class TransactionControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.transactionId").value("WD123"))
                 .andExpect(jsonPath("$.fromAccount").value("1234567890"))
-                .andExpect(jsonPath("$.amount").value(1000))
+                .andExpect(jsonPath("$.amount").value(1000.0))
                 .andExpect(jsonPath("$.type").value("WITHDRAW"))
                 .andExpect(jsonPath("$.status").value("COMPLETED"))
                 .andDo(print());
@@ -123,8 +132,8 @@ class TransactionControllerTest {
                 .transactionId("TX123")
                 .fromAccount("1234567890")
                 .toAccount("0987654321")
-                .amount(BigDecimal.valueOf(1000))
-                .fee(BigDecimal.ZERO)
+                .amount(Money.of(1000))
+                .fee(Money.ZERO)
                 .type("TRANSFER")
                 .status("COMPLETED")
                 .createdAt(Instant.now())
@@ -144,8 +153,54 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.transactionId").value("TX123"))
                 .andExpect(jsonPath("$.fromAccount").value("1234567890"))
                 .andExpect(jsonPath("$.toAccount").value("0987654321"))
-                .andExpect(jsonPath("$.amount").value(1000))
+                .andExpect(jsonPath("$.amount").value(1000.0))
                 .andExpect(jsonPath("$.status").value("COMPLETED"))
                 .andDo(print());
     }
-}
\ No newline at end of file
+
+    @Test
+    void batch_Success() throws Exception {
+        // given
+        BatchTransactionRequest request = BatchTransactionRequest.builder()
+                .items(List.of(BatchTransactionRequest.Item.builder()
+                        .type(TransactionType.DEPOSIT)
+                        .accountNumber("1234567890")
+                        .amount(BigDecimal.valueOf(1000))
+                        .build()))
+                .build();
+
+        BatchTransactionResponse response = BatchTransactionResponse.from(List.of(
+                BatchTransactionResponse.ItemResult.builder()
+                        .index(0)
+                        .status("COMPLETED")
+                        .transactionId("DEP123")
+                        .amount(Money.of(1000))
+                        .build()));
+
+        given(batchTransactionService.execute(any(BatchTransactionRequest.class)))
+                .willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/api/transactions/batch")
+                        .with(csrf())
+                        .with(user("testUser").roles("USER"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.successCount").value(1))
+                .andExpect(jsonPath("$.failureCount").value(0))
+                .andExpect(jsonPath("$.results[0].transactionId").value("DEP123"))
+                .andDo(print());
+    }
+
+    @Test
+    void batch_EmptyItems() throws Exception {
+        // when & then
+        mockMvc.perform(post("/api/transactions/batch")
+                        .with(csrf())
+                        .with(user("testUser").roles("USER"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.account.hot;
+
+import com.example.account.cache.AccountCache;
+import com.example.account.entity.Account;
+import com.example.account.entity.type.AccountStatus;
+import com.example.account.money.Money;
+import com.example.account.repository.BalanceSlotJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HotAccountBalancesTest {
+
+    @Mock
+    private BalanceSlotJdbcRepository balanceSlotRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private AccountCache accountCache;
+
+    @InjectMocks
+    private HotAccountBalances hotAccountBalances;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(hotAccountBalances, "accountNumbers", Set.of("1234567890"));
+        ReflectionTestUtils.setField(hotAccountBalances, "slots", 4);
+    }
+
+    @Test
+    void credit_CreatesSlotsOnFirstCredit() {
+        // given
+        Account account = account(500);
+        given(balanceSlotRepository.add(eq(1L), anyInt(), eq(Money.of(100))))
+                .willReturn(false, true);
+        given(balanceSlotRepository.sum(1L)).willReturn(Money.of(100));
+
+        // when
+        Money balanceAfter = hotAccountBalances.credit(account, Money.of(100));
+
+        // then
+        assertThat(balanceAfter).isEqualTo(Money.of(600));
+        verify(balanceSlotRepository).createSlots(1L, 4);
+    }
+
+    @Test
+    void ensureAvailable_DrainsSlotsWhenAccountRowIsShort() {
+        // given
+        Account account = account(500);
+        given(balanceSlotRepository.drain(1L)).willReturn(Money.of(700));
+
+        // when
+        hotAccountBalances.ensureAvailable(account, Money.of(1000));
+
+        // then
+        assertThat(account.getBalance()).isEqualTo(Money.of(1200));
+    }
+
+    @Test
+    void ensureAvailable_KeepsSlotsWhenAccountRowIsEnough() {
+        // given
+        Account account = account(1500);
+
+        // when
+        hotAccountBalances.ensureAvailable(account, Money.of(1000));
+
+        // then
+        assertThat(account.getBalance()).isEqualTo(Money.of(1500));
+        verify(balanceSlotRepository, never()).drain(any());
+    }
+
+    @Test
+    void foldReleasedAccounts_SkipsHotAccounts() {
+        // given
+        given(balanceSlotRepository.findAccountsWithSlots())
+                .willReturn(Map.of(1L, "1234567890"));
+
+        // when
+        hotAccountBalances.foldReleasedAccounts();
+
+        // then
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    private Account account(long balance) {
+        return Account.builder()
+                .id(1L)
+                .accountNumber("1234567890")
+                .balance(Money.of(balance))
+                .status(AccountStatus.ACTIVE)
+                .build();
+    }
+}
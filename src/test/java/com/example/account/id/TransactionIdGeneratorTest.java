@@ -0,0 +1,112 @@
+package com.example.account.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionIdGeneratorTest {
+
+    @Test
+    void nextId_EncodesTimeAndNode() {
+        // given
+        long now = TransactionIdGenerator.EPOCH_MILLIS + 12345;
+        TransactionIdGenerator generator = new TransactionIdGenerator(7, () -> now);
+
+        // when
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        // then
+        assertThat(first >>> 22).isEqualTo(12345);
+        assertThat((first >>> 12) & 1023).isEqualTo(7);
+        assertThat(second).isEqualTo(first + 1);
+    }
+
+    @Test
+    void nextId_StaysOrderedWhenClockGoesBackwards() {
+        // given
+        AtomicLong clock = new AtomicLong(TransactionIdGenerator.EPOCH_MILLIS + 1000);
+        TransactionIdGenerator generator = new TransactionIdGenerator(1, clock::get);
+        long before = generator.nextId();
+
+        // when
+        clock.addAndGet(-500);
+        long after = generator.nextId();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    void nextId_BorrowsNextMillisecondWhenSequenceIsExhausted() {
+        // given
+        long now = TransactionIdGenerator.EPOCH_MILLIS + 1;
+        TransactionIdGenerator generator = new TransactionIdGenerator(0, () -> now);
+        long last = 0;
+
+        // when
+        for (int i = 0; i <= 4096; i++) {
+            last = generator.nextId();
+        }
+
+        // then
+        assertThat(last >>> 22).isEqualTo(2);
+    }
+
+    @Test
+    void nextId_UniqueAcrossThreads() throws Exception {
+        // given
+        TransactionIdGenerator generator = new TransactionIdGenerator(3);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 20000; i++) {
+                    ids.add(generator.nextId());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(ids).hasSize(8 * 20000);
+    }
+
+    @Test
+    void format_PreservesOrder() {
+        // given
+        TransactionIdGenerator generator = new TransactionIdGenerator(0);
+
+        // when
+        String first = generator.nextTransactionId();
+        String second = generator.nextTransactionId();
+
+        // then
+        assertThat(first).startsWith("TRX").hasSize(16);
+        assertThat(second).isGreaterThan(first);
+        assertThat(TransactionIdGenerator.format(0)).isEqualTo("TRX0000000000000");
+        assertThat(TransactionIdGenerator.format(Long.MAX_VALUE)).isEqualTo("TRX7ZZZZZZZZZZZZ");
+    }
+
+    @Test
+    void constructor_RejectsOutOfRangeNode() {
+        assertThatThrownBy(() -> new TransactionIdGenerator(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.account.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedJournalTest {
+    private static final int SEGMENT_SIZE = 4096;
+    private static final int HEADER_SIZE = 8;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replay_ReturnsRecordsInOrderAcrossSegments() {
+        // given
+        MappedJournal journal = new MappedJournal(directory, "test", 64);
+        for (int i = 0; i < 5; i++) {
+            journal.append(bytes("record-" + i + "-" + "x".repeat(20)));
+        }
+        journal.close();
+
+        // when
+        List<String> records = replayAll(new MappedJournal(directory, "test", 64));
+
+        // then
+        assertThat(records).containsExactly(
+                "record-0-" + "x".repeat(20), "record-1-" + "x".repeat(20), "record-2-" + "x".repeat(20),
+                "record-3-" + "x".repeat(20), "record-4-" + "x".repeat(20));
+    }
+
+    @Test
+    void garbledTailRecord_IgnoredAndOverwritten() throws IOException {
+        // given
+        MappedJournal journal = new MappedJournal(directory, "test", SEGMENT_SIZE);
+        long firstEnd = journal.append(bytes("first"));
+        journal.append(bytes("second"));
+        journal.close();
+        // 두 번째 레코드의 payload 한 바이트를 바꿔 CRC 가 맞지 않게 합니다.
+        overwrite(firstEnd + HEADER_SIZE, new byte[]{'S'});
+
+        // when
+        MappedJournal reopened = new MappedJournal(directory, "test", SEGMENT_SIZE);
+
+        // then
+        assertThat(reopened.position()).isEqualTo(firstEnd);
+        reopened.append(bytes("third"));
+        assertThat(replayAll(reopened)).containsExactly("first", "third");
+    }
+
+    @Test
+    void truncatedTailRecord_Ignored() throws IOException {
+        // given
+        MappedJournal journal = new MappedJournal(directory, "test", SEGMENT_SIZE);
+        long firstEnd = journal.append(bytes("first"));
+        journal.close();
+        // 헤더만 기록되고 payload 는 일부만 남은 채 중단된 레코드
+        ByteBuffer torn = ByteBuffer.allocate(HEADER_SIZE + 3).putInt(100).putInt(12345).put(bytes("par"));
+        overwrite(firstEnd, torn.array());
+
+        // when
+        MappedJournal reopened = new MappedJournal(directory, "test", SEGMENT_SIZE);
+
+        // then
+        assertThat(reopened.position()).isEqualTo(firstEnd);
+        assertThat(replayAll(reopened)).containsExactly("first");
+    }
+
+    @Test
+    void replay_FromPositionSkipsEarlierRecords() {
+        // given
+        MappedJournal journal = new MappedJournal(directory, "test", SEGMENT_SIZE);
+        long firstEnd = journal.append(bytes("first"));
+        journal.append(bytes("second"));
+
+        // when
+        List<String> records = new ArrayList<>();
+        journal.replay(firstEnd, (nextPosition, payload) -> records.add(new String(payload, StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(records).containsExactly("second");
+    }
+
+    private List<String> replayAll(MappedJournal journal) {
+        List<String> records = new ArrayList<>();
+        journal.replay(0L, (nextPosition, payload) -> records.add(new String(payload, StandardCharsets.UTF_8)));
+        return records;
+    }
+
+    private void overwrite(long position, byte[] data) throws IOException {
+        Path segment = directory.resolve(String.format("test-%020d.journal", 0L));
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(data), position);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.account.journal;
+
+import com.example.account.entity.Account;
+import com.example.account.entity.Transaction;
+import com.example.account.entity.type.TransactionStatus;
+import com.example.account.entity.type.TransactionType;
+import com.example.account.exception.LockAcquisitionException;
+import com.example.account.money.Money;
+import com.example.account.repository.TransactionJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionWriteBehindTest {
+
+    @Mock
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    Path directory;
+
+    private final List<TransactionWriteBehind> started = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        started.forEach(TransactionWriteBehind::stop);
+    }
+
+    @Test
+    void replay_SavesCommittedAndVerifiedUnknown_SkipsAbortedAndUnverified() throws Exception {
+        // given (DB 저장이 실패하는 동안 거래를 처리하고 종료 처리 없이 중단)
+        willThrow(new IllegalStateException("DB 장애")).given(transactionTemplate).executeWithoutResult(any());
+        TransactionWriteBehind crashed = writeBehind(100);
+        crashed.start();
+        complete(crashed, "TX1", TransactionSynchronization.STATUS_COMMITTED);
+        complete(crashed, "TX2", TransactionSynchronization.STATUS_ROLLED_BACK);
+        complete(crashed, "TX3", TransactionSynchronization.STATUS_UNKNOWN);
+        complete(crashed, "TX4", TransactionSynchronization.STATUS_UNKNOWN);
+        crash(crashed);
+
+        willAnswer(invocation -> {
+            invocation.<Consumer<org.springframework.transaction.TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        // 결과를 모르는 거래 중 TX3 만 커밋 표시가 남아 있습니다.
+        given(transactionJdbcRepository.existsCommit(anyString()))
+                .willAnswer(invocation -> "TX3".equals(invocation.getArgument(0)));
+
+        // when
+        TransactionWriteBehind restarted = writeBehind(100);
+        restarted.start();
+        started.add(restarted);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Transaction>> saved = ArgumentCaptor.forClass(List.class);
+        verify(transactionJdbcRepository, atLeastOnce()).insertAll(saved.capture());
+        assertThat(saved.getAllValues().stream().flatMap(List::stream).map(Transaction::getTransactionId))
+                .containsExactly("TX1", "TX3");
+    }
+
+    @Test
+    void record_FailsWhenCapacityExhausted() {
+        // given
+        TransactionWriteBehind writeBehind = writeBehind(1);
+        writeBehind.start();
+        started.add(writeBehind);
+        TransactionSynchronizationManager.initSynchronization();
+        writeBehind.record(transaction("TX1"), List.of());
+
+        // when & then
+        assertThatThrownBy(() -> writeBehind.record(transaction("TX2"), List.of()))
+                .isInstanceOf(LockAcquisitionException.class);
+
+        // 롤백으로 자리가 나면 다시 기록할 수 있습니다.
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.initSynchronization();
+        writeBehind.record(transaction("TX3"), List.of());
+        verify(transactionJdbcRepository).insertCommit("TX3");
+    }
+
+    private TransactionWriteBehind writeBehind(int capacity) {
+        TransactionWriteBehind writeBehind = new TransactionWriteBehind(transactionJdbcRepository, transactionTemplate);
+        ReflectionTestUtils.setField(writeBehind, "dataDir", directory.toString());
+        ReflectionTestUtils.setField(writeBehind, "segmentSize", 1 << 16);
+        ReflectionTestUtils.setField(writeBehind, "capacity", capacity);
+        ReflectionTestUtils.setField(writeBehind, "batchSize", 100);
+        ReflectionTestUtils.setField(writeBehind, "waitMillis", 50L);
+        ReflectionTestUtils.setField(writeBehind, "checkpointIntervalSeconds", 3600L);
+        return writeBehind;
+    }
+
+    /**
+     * 트랜잭션 하나를 흉내 내 거래를 기록하고 커밋 전 fsync 대기와 완료 콜백을 실행합니다.
+     */
+    private void complete(TransactionWriteBehind writeBehind, String transactionId, int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            writeBehind.record(transaction(transactionId), List.of());
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronizations.forEach(sync -> sync.beforeCommit(false));
+            }
+            synchronizations.forEach(sync -> sync.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * 남은 거래를 저장하거나 체크포인트를 남기지 않고 기록 스레드만 멈춥니다.
+     */
+    private void crash(TransactionWriteBehind writeBehind) throws InterruptedException {
+        ((ScheduledExecutorService) ReflectionTestUtils.getField(writeBehind, "checkpointScheduler")).shutdownNow();
+        ReflectionTestUtils.setField(writeBehind, "running", false);
+        ((Thread) ReflectionTestUtils.getField(writeBehind, "writer")).join();
+    }
+
+    private Transaction transaction(String transactionId) {
+        return Transaction.builder()
+                .transactionId(transactionId)
+                .toAccount(Account.builder().id(1L).accountNumber("1234567890").build())
+                .amount(Money.of(1000))
+                .type(TransactionType.DEPOSIT)
+                .status(TransactionStatus.COMPLETED)
+                .createdAt(Instant.parse("2024-03-01T00:00:00Z"))
+                .build();
+    }
+}
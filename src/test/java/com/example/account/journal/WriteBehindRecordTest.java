@@ -0,0 +1,67 @@
+package com.example.account.journal;
+
+import com.example.account.entity.Account;
+import com.example.account.entity.Posting;
+import com.example.account.entity.Transaction;
+import com.example.account.entity.type.TransactionStatus;
+import com.example.account.entity.type.TransactionType;
+import com.example.account.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class WriteBehindRecordTest {
+
+    @Test
+    void entry_RoundTrip() {
+        // given
+        Account fromAccount = Account.builder().id(1L).accountNumber("1234567890").balance(Money.of(8990)).build();
+        Account toAccount = Account.builder().id(2L).accountNumber("0987654321").balance(Money.of(1000)).build();
+        Transaction transaction = Transaction.builder()
+                .transactionId("TRX0000000000001")
+                .fromAccount(fromAccount)
+                .toAccount(toAccount)
+                .amount(Money.of(1000))
+                .fee(Money.of(10))
+                .type(TransactionType.TRANSFER)
+                .status(TransactionStatus.COMPLETED)
+                .createdAt(Instant.parse("2024-03-01T00:00:00.123456789Z"))
+                .build();
+        List<Posting> postings = List.of(
+                Posting.debit(transaction, fromAccount, toAccount),
+                Posting.credit(transaction, toAccount, fromAccount));
+
+        // when
+        WriteBehindRecord record = WriteBehindRecord.deserialize(
+                WriteBehindRecord.entry(transaction, postings).serialize());
+
+        // then
+        assertThat(record.type()).isEqualTo(WriteBehindRecord.Type.ENTRY);
+        assertThat(record.transactionId()).isEqualTo("TRX0000000000001");
+        assertThat(record.transaction().getFromAccount().getId()).isEqualTo(1L);
+        assertThat(record.transaction().getToAccount().getId()).isEqualTo(2L);
+        assertThat(record.transaction().getFee()).isEqualTo(Money.of(10));
+        assertThat(record.transaction().getCreatedAt()).isEqualTo(transaction.getCreatedAt());
+        assertThat(record.postings())
+                .extracting(Posting::getAccountId, Posting::getAmount, Posting::getCounterpartyAccountNumber)
+                .containsExactly(
+                        tuple(1L, Money.of(-1000), "0987654321"),
+                        tuple(2L, Money.of(1000), "1234567890"));
+    }
+
+    @Test
+    void outcome_RoundTrip() {
+        // when
+        WriteBehindRecord record = WriteBehindRecord.deserialize(
+                WriteBehindRecord.outcome("TRX0000000000001", false).serialize());
+
+        // then
+        assertThat(record.type()).isEqualTo(WriteBehindRecord.Type.ABORTED);
+        assertThat(record.transactionId()).isEqualTo("TRX0000000000001");
+        assertThat(record.transaction()).isNull();
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.account.ledger;
+
+import com.example.account.entity.Account;
+import com.example.account.entity.type.AccountStatus;
+import com.example.account.exception.DailyLimitExceededException;
+import com.example.account.exception.InsufficientBalanceException;
+import com.example.account.journal.MappedJournal;
+import com.example.account.money.Money;
+import com.example.account.policy.TransferPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerShardTest {
+
+    private static final int SEGMENT_SIZE = 64 * 1024;
+    private static final TransferPolicy POLICY =
+            TransferPolicy.flat(Money.of(1_000_000), Money.of(3_000_000), new BigDecimal("0.01"));
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private LedgerProjector projector;
+
+    private LedgerShard shard;
+
+    @AfterEach
+    void tearDown() {
+        if (shard != null) {
+            shard.stop();
+        }
+    }
+
+    @Test
+    void depositAndWithdraw_Success() {
+        // given
+        shard = startShard(Optional.empty(), 0L);
+
+        // when
+        shard.call(s -> s.deposit("1234567890", Money.of(1000), "TX1", Instant.now()));
+        LedgerEvent withdraw = shard.call(s ->
+                s.withdraw("1234567890", Money.of(300), "TX2", Instant.now()));
+
+        // then
+        assertThat(withdraw.balanceAfter()).isEqualTo(Money.of(2700));
+        assertThat(shard.call(s -> s.copyOf("1234567890")).getBalance()).isEqualTo(Money.of(2700));
+        verify(projector, atLeastOnce()).enqueue(any());
+    }
+
+    @Test
+    void withdraw_InsufficientBalance() {
+        // given
+        shard = startShard(Optional.empty(), 0L);
+
+        // when & then
+        assertThatThrownBy(() -> shard.call(s ->
+                s.withdraw("1234567890", Money.of(5000), "TX1", Instant.now())))
+                .isInstanceOf(InsufficientBalanceException.class)
+                .hasMessage("잔액이 부족합니다.");
+    }
+
+    @Test
+    void withdraw_DailyLimitExceeded() {
+        // given
+        shard = startShard(Optional.empty(), 0L);
+        shard.call(s -> s.deposit("1234567890", Money.of(5000), "TX1", Instant.now()));
+        shard.call(s -> s.withdraw("1234567890", Money.of(900), "TX2", Instant.now()));
+
+        // when & then
+        assertThatThrownBy(() -> shard.call(s ->
+                s.withdraw("1234567890", Money.of(200), "TX3", Instant.now())))
+                .isInstanceOf(DailyLimitExceededException.class)
+                .hasMessage("일일 출금 한도를 초과했습니다.");
+    }
+
+    @Test
+    void withdraw_CountsUsageSeededFromDailyLimit() {
+        // given (원장 모드 밖에서 오늘 이미 900 출금)
+        MappedJournal journal = new MappedJournal(directory, "shard-0", SEGMENT_SIZE);
+        shard = new LedgerShard(0, journal, accountNumber -> Optional.of(ledgerAccount(accountNumber, Money.of(900))),
+                projector, () -> POLICY, ZoneId.systemDefault(), 16);
+        shard.recover(Optional.empty(), 0L);
+        shard.start();
+
+        // when & then
+        assertThatThrownBy(() -> shard.call(s ->
+                s.withdraw("1234567890", Money.of(200), "TX1", Instant.now())))
+                .isInstanceOf(DailyLimitExceededException.class)
+                .hasMessage("일일 출금 한도를 초과했습니다.");
+    }
+
+    @Test
+    void recover_ReplaysJournalAfterSnapshot() {
+        // given
+        shard = startShard(Optional.empty(), 0L);
+        shard.call(s -> s.deposit("1234567890", Money.of(1000), "TX1", Instant.now()));
+        LedgerSnapshotStore.Snapshot snapshot = shard.call(LedgerShard::snapshot);
+        shard.call(s -> s.withdraw("1234567890", Money.of(400), "TX2", Instant.now()));
+        shard.stop();
+
+        // when
+        shard = startShard(Optional.of(snapshot), Long.MAX_VALUE);
+
+        // then
+        LedgerAccount recovered = shard.call(s -> s.copyOf("1234567890"));
+        assertThat(recovered.getBalance()).isEqualTo(Money.of(2600));
+        assertThat(recovered.withdrawnOn(LocalDate.now(ZoneId.systemDefault())))
+                .isEqualTo(Money.of(400));
+    }
+
+    @Test
+    void journalForceFailure_StopsShard() {
+        // given
+        MappedJournal journal = mock(MappedJournal.class);
+        doThrow(new UncheckedIOException(new IOException("disk full"))).when(journal).force();
+        shard = new LedgerShard(0, journal, accountNumber -> Optional.of(ledgerAccount(accountNumber, Money.ZERO)),
+                projector, () -> POLICY, ZoneId.systemDefault(), 16);
+        shard.recover(Optional.empty(), 0L);
+        shard.start();
+
+        // when
+        assertThatThrownBy(() -> shard.call(s -> s.deposit("1234567890", Money.of(1000), "TX1", Instant.now())))
+                .isInstanceOf(UncheckedIOException.class);
+
+        // then
+        assertThatThrownBy(() -> shard.call(s -> s.copyOf("1234567890")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("원장 샤드 0 가 중단되었습니다.");
+        verify(projector, never()).enqueue(any());
+    }
+
+    private LedgerShard startShard(Optional<LedgerSnapshotStore.Snapshot> snapshot, long projectedPosition) {
+        MappedJournal journal = new MappedJournal(directory, "shard-0", SEGMENT_SIZE);
+        LedgerShard ledgerShard = new LedgerShard(0, journal, accountNumber -> Optional.of(ledgerAccount(accountNumber, Money.ZERO)),
+                projector, () -> POLICY, ZoneId.systemDefault(), 16);
+        ledgerShard.recover(snapshot, projectedPosition);
+        ledgerShard.start();
+        return ledgerShard;
+    }
+
+    private LedgerAccount ledgerAccount(String accountNumber, Money withdrawnToday) {
+        return LedgerAccount.from(account(accountNumber), LocalDate.now(ZoneId.systemDefault()),
+                withdrawnToday, Money.ZERO);
+    }
+
+    private Account account(String accountNumber) {
+        return Account.builder()
+                .id(1L)
+                .accountNumber(accountNumber)
+                .balance(Money.of(2000))
+                .status(AccountStatus.ACTIVE)
+                .dailyWithdrawLimit(Money.of(1000))
+                .dailyTransferLimit(Money.of(3000))
+                .createdAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.account.limit;
+
+import com.example.account.entity.Account;
+import com.example.account.entity.type.AccountStatus;
+import com.example.account.exception.DailyLimitExceededException;
+import com.example.account.money.Money;
+import com.example.account.policy.TransferPolicy;
+import com.example.account.policy.TransferPolicyEngine;
+import com.example.account.repository.DailyTransactionSummaryJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseDailyLimitCheckerTest {
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    @Mock
+    private DailyTransactionSummaryJdbcRepository dailySummaryRepository;
+
+    @Spy
+    private TransferPolicyEngine transferPolicyEngine = TransferPolicyEngine.fixed(
+            TransferPolicy.flat(Money.of(1_000_000), Money.of(3_000_000), new BigDecimal("0.01")));
+
+    @InjectMocks
+    private DatabaseDailyLimitChecker dailyLimitChecker;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dailyLimitChecker, "zoneId", ZONE_ID);
+    }
+
+    @Test
+    void reserve_WithdrawWithinLimit() {
+        // given
+        given(dailySummaryRepository.addWithdrawWithinLimit(eq(1L), any(), any(), any())).willReturn(true);
+
+        // when
+        dailyLimitChecker.reserve(account(), LimitType.WITHDRAW, Money.of(600));
+
+        // then
+        verify(dailySummaryRepository).addWithdrawWithinLimit(1L, LocalDate.now(ZONE_ID),
+                Money.of(600), Money.of(1000));
+    }
+
+    @Test
+    void reserve_WithdrawLimitExceeded() {
+        // given
+        given(dailySummaryRepository.addWithdrawWithinLimit(eq(1L), any(), any(), any())).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> dailyLimitChecker.reserve(account(), LimitType.WITHDRAW, Money.of(2000)))
+                .isInstanceOf(DailyLimitExceededException.class)
+                .hasMessage("일일 출금 한도를 초과했습니다.");
+    }
+
+    @Test
+    void reserve_TransferLimitExceeded() {
+        // given
+        given(dailySummaryRepository.addTransferWithinLimit(eq(1L), any(), any(), any())).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> dailyLimitChecker.reserve(account(), LimitType.TRANSFER, Money.of(4000)))
+                .isInstanceOf(DailyLimitExceededException.class)
+                .hasMessage("일일 이체 한도를 초과했습니다.");
+        verify(dailySummaryRepository).addTransferWithinLimit(1L, LocalDate.now(ZONE_ID),
+                Money.of(4000), Money.of(3000));
+    }
+
+    @Test
+    void reserve_TierLimitCapsAccountLimit() {
+        // given
+        ReflectionTestUtils.setField(dailyLimitChecker, "transferPolicyEngine", TransferPolicyEngine.fixed(
+                TransferPolicy.flat(Money.of(500), Money.of(3_000_000), new BigDecimal("0.01"))));
+        given(dailySummaryRepository.addWithdrawWithinLimit(eq(1L), any(), any(), any())).willReturn(true);
+
+        // when
+        dailyLimitChecker.reserve(account(), LimitType.WITHDRAW, Money.of(300));
+
+        // then
+        verify(dailySummaryRepository).addWithdrawWithinLimit(1L, LocalDate.now(ZONE_ID),
+                Money.of(300), Money.of(500));
+    }
+
+    @Test
+    void usage_ReadsDailySummary() {
+        // given
+        LocalDate today = LocalDate.now(ZONE_ID);
+        given(dailySummaryRepository.findTotals(1L, today)).willReturn(Optional.of(
+                new DailyTransactionSummaryJdbcRepository.Totals(1L, today, Money.of(300), Money.of(700))));
+
+        // when & then
+        assertThat(dailyLimitChecker.usage(1L, LimitType.WITHDRAW, today)).isEqualTo(Money.of(300));
+        assertThat(dailyLimitChecker.usage(1L, LimitType.TRANSFER, today)).isEqualTo(Money.of(700));
+    }
+
+    private Account account() {
+        return Account.builder()
+                .id(1L)
+                .accountNumber("1234567890")
+                .balance(Money.of(10000))
+                .status(AccountStatus.ACTIVE)
+                .dailyWithdrawLimit(Money.of(1000))
+                .dailyTransferLimit(Money.of(3000))
+                .build();
+    }
+}
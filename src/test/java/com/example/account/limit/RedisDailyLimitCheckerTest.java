@@ -0,0 +1,119 @@
+package com.example.account.limit;
+
+import com.example.account.entity.Account;
+import com.example.account.entity.type.AccountStatus;
+import com.example.account.exception.DailyLimitExceededException;
+import com.example.account.money.Money;
+import com.example.account.policy.TransferPolicy;
+import com.example.account.policy.TransferPolicyEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisDailyLimitCheckerTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RScript script;
+
+    @Mock
+    private DailySummaryReconciler reconciler;
+
+    @Spy
+    private TransferPolicyEngine transferPolicyEngine = TransferPolicyEngine.fixed(
+            TransferPolicy.flat(Money.of(1_000_000), Money.of(3_000_000), new BigDecimal("0.01")));
+
+    @InjectMocks
+    private RedisDailyLimitChecker dailyLimitChecker;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dailyLimitChecker, "zoneId", ZoneId.of("Asia/Seoul"));
+        given(redissonClient.getScript(any())).willReturn(script);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void reserve_SendsMinorUnitsAndReconcilesAfterCommit() {
+        // given
+        given(script.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(),
+                any(Object[].class))).willReturn(50050L);
+
+        // when
+        dailyLimitChecker.reserve(account(), LimitType.WITHDRAW, Money.ofMinor(50_050));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        verify(script).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(),
+                eq("withdraw"), eq("50050"), eq("100000000"), anyString());
+        verify(reconciler).record(eq(1L), any(), eq(LimitType.WITHDRAW), eq(Money.ofMinor(50_050)));
+    }
+
+    @Test
+    void reserve_ReleasesOnRollback() {
+        // given
+        given(script.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(),
+                any(Object[].class))).willReturn(100L);
+
+        // when
+        dailyLimitChecker.reserve(account(), LimitType.TRANSFER, Money.of(1));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verify(script, times(2)).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                anyList(), any(Object[].class));
+        verify(reconciler, never()).record(any(), any(), any(), any());
+    }
+
+    @Test
+    void reserve_LimitExceeded() {
+        // given
+        given(script.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(),
+                any(Object[].class))).willReturn(-1L);
+
+        // when & then
+        assertThatThrownBy(() -> dailyLimitChecker.reserve(account(), LimitType.TRANSFER, Money.of(1)))
+                .isInstanceOf(DailyLimitExceededException.class)
+                .hasMessage("일일 이체 한도를 초과했습니다.");
+        verify(reconciler, never()).record(any(), any(), any(), any());
+    }
+
+    private Account account() {
+        return Account.builder()
+                .id(1L)
+                .accountNumber("1234567890")
+                .balance(Money.of(10000))
+                .status(AccountStatus.ACTIVE)
+                .dailyWithdrawLimit(Money.of(1000000))
+                .dailyTransferLimit(Money.of(3000000))
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.account.lock;
+
+import com.example.account.exception.LockAcquisitionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountLockManagerTest {
+
+    @Mock
+    private LockStrategy lockStrategy;
+
+    @Mock
+    private LockStrategy.Handle handle;
+
+    @InjectMocks
+    private AccountLockManager accountLockManager;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void lockForTransaction_LocksInAccountNumberOrderAndReleasesAfterCompletion() throws InterruptedException {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        given(lockStrategy.acquire(eq(List.of("1000000001", "1000000002")), anyLong())).willReturn(handle);
+
+        // when
+        accountLockManager.lockForTransaction("1000000002", "1000000001", "1000000002");
+
+        // then
+        verify(handle, never()).release();
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        verify(handle).release();
+    }
+
+    @Test
+    void lockForTransaction_LockTimeout() throws InterruptedException {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        given(lockStrategy.acquire(anyList(), anyLong())).willThrow(new LockAcquisitionException("락 획득 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> accountLockManager.lockForTransaction("1000000001"))
+                .isInstanceOf(LockAcquisitionException.class)
+                .hasMessage("락 획득 실패");
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    void lockForTransaction_WithoutTransaction() {
+        // when & then
+        assertThatThrownBy(() -> accountLockManager.lockForTransaction("1000000001"))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(lockStrategy);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.account.lock;
+
+import com.example.account.exception.LockAcquisitionException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedLockStrategyTest {
+
+    @Test
+    void acquire_BlocksOtherThreadUntilReleased() throws Exception {
+        // given
+        StripedLockStrategy strategy = new StripedLockStrategy(64);
+        LockStrategy.Handle handle = strategy.acquire(List.of("1000000001", "1000000002"), 100);
+
+        // when & then
+        CompletableFuture<Void> contender = CompletableFuture.runAsync(() -> {
+            try {
+                strategy.acquire(List.of("1000000002"), 50);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThatThrownBy(contender::join).hasCauseInstanceOf(LockAcquisitionException.class);
+
+        handle.release();
+        CompletableFuture.runAsync(() -> {
+            try {
+                strategy.acquire(List.of("1000000002"), 50).release();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }).get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void acquire_OpposingTransfersDoNotDeadlock() throws Exception {
+        // given
+        StripedLockStrategy strategy = new StripedLockStrategy(16);
+        int iterations = 2000;
+        AtomicInteger completed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        for (List<String> accounts : List.of(List.of("1000000001", "1000000002"), List.of("1000000002", "1000000001"))) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < iterations; i++) {
+                    strategy.acquire(accounts, 1000).release();
+                    completed.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+
+        // then
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(completed.get()).isEqualTo(iterations * 2);
+    }
+}
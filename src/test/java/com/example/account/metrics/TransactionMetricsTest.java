@@ -0,0 +1,82 @@
+package com.example.account.metrics;
+
+import com.example.account.exception.InsufficientBalanceException;
+import com.example.account.exception.LockAcquisitionException;
+import com.example.account.metrics.TransactionMetrics.Operation;
+import com.example.account.metrics.TransactionMetrics.Phase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TransactionMetrics transactionMetrics = new TransactionMetrics(registry);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void record_TimesPhasesAndCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        transactionMetrics.record(Operation.TRANSFER, metrics -> {
+            metrics.lap(Phase.LOCK);
+            metrics.lap(Phase.ROW_LOCK);
+            assertThat(gauge(Operation.TRANSFER)).isEqualTo(1);
+            return null;
+        });
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> {
+            sync.beforeCommit(false);
+            sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        });
+
+        // then
+        assertThat(phaseCount(Operation.TRANSFER, Phase.LOCK)).isEqualTo(1);
+        assertThat(phaseCount(Operation.TRANSFER, Phase.ROW_LOCK)).isEqualTo(1);
+        assertThat(phaseCount(Operation.TRANSFER, Phase.COMMIT)).isEqualTo(1);
+        assertThat(registry.get("transaction.duration").tags("operation", "transfer", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(gauge(Operation.TRANSFER)).isZero();
+    }
+
+    @Test
+    void record_CountsRejectionsAndLockFailures() {
+        // when
+        assertThatThrownBy(() -> transactionMetrics.record(Operation.WITHDRAW, metrics -> {
+            throw new LockAcquisitionException("다른 거래가 처리 중입니다.");
+        })).isInstanceOf(LockAcquisitionException.class);
+        assertThatThrownBy(() -> transactionMetrics.record(Operation.WITHDRAW, metrics -> {
+            throw new InsufficientBalanceException("잔액이 부족합니다.");
+        })).isInstanceOf(InsufficientBalanceException.class);
+
+        // then
+        assertThat(registry.get("transaction.lock.failures").tag("operation", "withdraw").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("transaction.rejections")
+                .tags("operation", "withdraw", "reason", "INSUFFICIENT_BALANCE").counter().count()).isEqualTo(1);
+        assertThat(registry.get("transaction.duration").tags("operation", "withdraw", "outcome", "failure")
+                .timer().count()).isEqualTo(2);
+        assertThat(gauge(Operation.WITHDRAW)).isZero();
+    }
+
+    private long phaseCount(Operation operation, Phase phase) {
+        return registry.get("transaction.phase")
+                .tags("operation", operation.tag(), "phase", phase.tag())
+                .timer().count();
+    }
+
+    private double gauge(Operation operation) {
+        return registry.get("transaction.in.flight").tag("operation", operation.tag()).gauge().value();
+    }
+}
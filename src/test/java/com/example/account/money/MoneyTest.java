@@ -0,0 +1,67 @@
+package com.example.account.money;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void of_ConvertsExactDecimal() {
+        // when
+        Money money = Money.of(new BigDecimal("1234.5"));
+
+        // then
+        assertThat(money.minorUnits()).isEqualTo(123_450L);
+        assertThat(money.toBigDecimal()).isEqualTo(new BigDecimal("1234.50"));
+        assertThat(Money.of(new BigDecimal("1000.000"))).isEqualTo(Money.of(1000));
+    }
+
+    @Test
+    void of_RejectsSubMinorUnit() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("0.001")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1E+20")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void multiply_RoundsWithGivenMode() {
+        // given
+        Money amount = Money.ofMinor(12_345L);  // 123.45
+
+        // when, then (1% = 1.2345)
+        assertThat(amount.multiply(100L, 10_000L, RoundingMode.HALF_UP)).isEqualTo(Money.ofMinor(123L));
+        assertThat(amount.multiply(100L, 10_000L, RoundingMode.UP)).isEqualTo(Money.ofMinor(124L));
+        assertThat(amount.negate().multiply(100L, 10_000L, RoundingMode.FLOOR)).isEqualTo(Money.ofMinor(-124L));
+        assertThat(Money.ofMinor(250L).multiply(1L, 100L, RoundingMode.HALF_EVEN)).isEqualTo(Money.ofMinor(2L));
+        assertThat(Money.ofMinor(350L).multiply(1L, 100L, RoundingMode.HALF_EVEN)).isEqualTo(Money.ofMinor(4L));
+        assertThat(Money.ofMinor(-250L).multiply(1L, 100L, RoundingMode.HALF_UP)).isEqualTo(Money.ofMinor(-3L));
+        assertThatThrownBy(() -> amount.multiply(1L, 7L, RoundingMode.UNNECESSARY))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void plus_ThrowsOnOverflow() {
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1L)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void json_WritesPlainNumber() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        // when
+        String json = objectMapper.writeValueAsString(Money.ofMinor(100_050L));
+
+        // then
+        assertThat(json).isEqualTo("1000.50");
+        assertThat(objectMapper.readValue(json, Money.class)).isEqualTo(Money.ofMinor(100_050L));
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.account.policy;
+
+import com.example.account.money.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransferPolicyEngineTest {
+
+    @TempDir
+    Path directory;
+
+    private TransferPolicyEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new TransferPolicyEngine(new MockEnvironment());
+        ReflectionTestUtils.setField(engine, "location", "");
+        ReflectionTestUtils.setField(engine, "reloadIntervalSeconds", 3600L);
+        ReflectionTestUtils.setField(engine, "dailyWithdrawLimit", new BigDecimal("1000000"));
+        ReflectionTestUtils.setField(engine, "dailyTransferLimit", new BigDecimal("3000000"));
+        ReflectionTestUtils.setField(engine, "transferFeeRate", new BigDecimal("0.01"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.stop();
+    }
+
+    @Test
+    void start_UsesLegacyPropertiesWithoutTiers() {
+        // when
+        engine.start();
+
+        // then
+        TierPolicy tier = engine.current().defaultTier();
+        assertThat(tier.name()).isEqualTo(TransferPolicy.DEFAULT_TIER);
+        assertThat(tier.fee(Money.of(1000))).isEqualTo(Money.of(10));
+    }
+
+    @Test
+    void reload_SwapsPolicyAndKeepsPreviousOnError() throws IOException {
+        // given
+        Path file = directory.resolve("transfer-policy.yml");
+        Files.writeString(file, """
+                transfer:
+                  policy:
+                    tiers:
+                      standard:
+                        fee:
+                          brackets:
+                            - rate: 0.02
+                """);
+        ReflectionTestUtils.setField(engine, "location", file.toString());
+        engine.start();
+        TransferPolicy initial = engine.current();
+
+        // when
+        Files.writeString(file, """
+                transfer:
+                  policy:
+                    tiers:
+                      standard:
+                        fee:
+                          brackets:
+                            - rate: 0.03
+                """);
+        boolean reloaded = engine.reload();
+
+        // then
+        assertThat(initial.defaultTier().fee(Money.of(1000))).isEqualTo(Money.of(20));
+        assertThat(reloaded).isTrue();
+        assertThat(engine.current().defaultTier().fee(Money.of(1000))).isEqualTo(Money.of(30));
+
+        // when (구간 상한이 있는 마지막 구간은 거부)
+        Files.writeString(file, """
+                transfer:
+                  policy:
+                    tiers:
+                      standard:
+                        fee:
+                          brackets:
+                            - up-to: 1000
+                              rate: 0.05
+                """);
+
+        // then
+        assertThat(engine.reload()).isFalse();
+        assertThat(engine.current().defaultTier().fee(Money.of(1000))).isEqualTo(Money.of(30));
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.account.policy;
+
+import com.example.account.entity.Account;
+import com.example.account.entity.type.AccountStatus;
+import com.example.account.limit.LimitType;
+import com.example.account.money.Money;
+import com.example.account.policy.TransferPolicyProperties.Bracket;
+import com.example.account.policy.TransferPolicyProperties.Fee;
+import com.example.account.policy.TransferPolicyProperties.Tier;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransferPolicyTest {
+    private static final Tier FALLBACK = new Tier(new BigDecimal("1000000"), new BigDecimal("3000000"),
+            new Fee(List.of(new Bracket(null, new BigDecimal("0.01"), null)), null, null, RoundingMode.HALF_UP));
+
+    @Test
+    void flat_AppliesRateWithRounding() {
+        // given
+        TransferPolicy policy = TransferPolicy.flat(Money.of(1_000_000), Money.of(3_000_000), new BigDecimal("0.01"));
+
+        // when & then (1% of 123.45 = 1.2345)
+        assertThat(policy.defaultTier().fee(Money.ofMinor(12_345L))).isEqualTo(Money.ofMinor(123L));
+        assertThat(policy.defaultTier().fee(Money.of(1000))).isEqualTo(Money.of(10));
+    }
+
+    @Test
+    void fee_UsesBracketAndCaps() {
+        // given
+        Fee fee = new Fee(List.of(
+                new Bracket(new BigDecimal("10000"), BigDecimal.ZERO, new BigDecimal("500")),
+                new Bracket(new BigDecimal("1000000"), new BigDecimal("0.005"), null),
+                new Bracket(null, new BigDecimal("0.003"), new BigDecimal("1000"))),
+                new BigDecimal("500"), new BigDecimal("5000"), RoundingMode.HALF_UP);
+        TransferPolicy policy = compile(Map.of("standard", new Tier(null, null, fee)));
+        TierPolicy tier = policy.defaultTier();
+
+        // when & then
+        assertThat(tier.fee(Money.of(10_000))).isEqualTo(Money.of(500));       // 고정 수수료
+        assertThat(tier.fee(Money.of(50_000))).isEqualTo(Money.of(500));       // 250 -> 최소 수수료
+        assertThat(tier.fee(Money.of(400_000))).isEqualTo(Money.of(2000));     // 0.5%
+        assertThat(tier.fee(Money.of(1_000_000))).isEqualTo(Money.of(5000));   // 상한 포함
+        assertThat(tier.fee(Money.of(1_000_001))).isEqualTo(Money.of(4000));   // 1000 + 0.3% (3000.003)
+        assertThat(tier.fee(Money.of(10_000_000))).isEqualTo(Money.of(5000));  // 최대 수수료
+    }
+
+    @Test
+    void tier_FallsBackToDefaultAndLegacyValues() {
+        // given
+        TransferPolicy policy = compile(Map.of(
+                "standard", FALLBACK,
+                "vip", new Tier(null, new BigDecimal("10000000"),
+                        new Fee(List.of(new Bracket(null, BigDecimal.ZERO, null)), null, null, null))));
+
+        // when
+        TierPolicy vip = policy.requireTier("Vip");
+
+        // then
+        assertThat(vip.name()).isEqualTo("VIP");
+        assertThat(vip.dailyLimit(LimitType.WITHDRAW)).isEqualTo(Money.of(1_000_000));
+        assertThat(vip.dailyLimit(LimitType.TRANSFER)).isEqualTo(Money.of(10_000_000));
+        assertThat(policy.transferFee(account("VIP"), Money.of(1000))).isEqualTo(Money.ZERO);
+        assertThat(policy.transferFee(account("REMOVED"), Money.of(1000))).isEqualTo(Money.of(10));
+        assertThat(policy.transferFee(account(null), Money.of(1000))).isEqualTo(Money.of(10));
+        assertThatThrownBy(() -> policy.requireTier("gold"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void dailyLimit_UsesSmallerOfAccountAndTier() {
+        // given
+        TransferPolicy policy = TransferPolicy.flat(Money.of(500), Money.of(3000), new BigDecimal("0.01"));
+
+        // when & then (계좌 한도 1000 / 3000)
+        assertThat(policy.dailyLimit(account(null), LimitType.WITHDRAW)).isEqualTo(Money.of(500));
+        assertThat(policy.dailyLimit(account(null), LimitType.TRANSFER)).isEqualTo(Money.of(3000));
+    }
+
+    @Test
+    void dailyLimit_FollowsTierWhenAccountHasNoLimit() {
+        // given (등급 한도를 올린 정책)
+        TransferPolicy policy = TransferPolicy.flat(Money.of(5000), Money.of(9000), new BigDecimal("0.01"));
+        Account account = Account.builder()
+                .id(1L)
+                .accountNumber("1234567890")
+                .balance(Money.of(10000))
+                .status(AccountStatus.ACTIVE)
+                .build();
+
+        // when & then
+        assertThat(policy.dailyLimit(account, LimitType.WITHDRAW)).isEqualTo(Money.of(5000));
+        assertThat(policy.dailyLimit(account, LimitType.TRANSFER)).isEqualTo(Money.of(9000));
+    }
+
+    @Test
+    void compile_RejectsInvalidSchedule() {
+        Fee unordered = new Fee(List.of(
+                new Bracket(new BigDecimal("1000"), null, null),
+                new Bracket(new BigDecimal("500"), null, null),
+                new Bracket(null, null, null)), null, null, null);
+        Fee bounded = new Fee(List.of(new Bracket(new BigDecimal("1000"), null, null)), null, null, null);
+        Fee inverted = new Fee(List.of(new Bracket(null, null, null)),
+                new BigDecimal("100"), new BigDecimal("10"), null);
+        Fee fineRate = new Fee(List.of(new Bracket(null, new BigDecimal("0.0000001"), null)), null, null, null);
+
+        assertThatThrownBy(() -> compile(Map.of("standard", new Tier(null, null, unordered))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> compile(Map.of("standard", new Tier(null, null, bounded))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> compile(Map.of("standard", new Tier(null, null, inverted))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> compile(Map.of("standard", new Tier(null, null, fineRate))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> compile(Map.of("standard", new Tier(BigDecimal.ZERO, null, null))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> compile(Map.of("vip", FALLBACK)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("기본 등급이 정의되지 않았습니다: STANDARD");
+    }
+
+    private static TransferPolicy compile(Map<String, Tier> tiers) {
+        return TransferPolicy.compile(new TransferPolicyProperties(TransferPolicy.DEFAULT_TIER, tiers), FALLBACK);
+    }
+
+    private static Account account(String tier) {
+        return Account.builder()
+                .id(1L)
+                .accountNumber("1234567890")
+                .balance(Money.of(10000))
+                .status(AccountStatus.ACTIVE)
+                .dailyWithdrawLimit(Money.of(1000))
+                .dailyTransferLimit(Money.of(3000))
+                .tier(tier)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.account.replica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaHealthMonitor healthMonitor;
+
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        ReadRoutingContext.clear();
+        healthMonitor.stop();
+    }
+
+    @Test
+    void readOnlyTransaction_UsesReplica() {
+        // given
+        JdbcTemplate jdbcTemplate = routingTemplate(h2("replica-ok"));
+
+        // when & then
+        assertThat(readOnly(jdbcTemplate)).isEqualTo("replica");
+        assertThat(readWrite(jdbcTemplate)).isEqualTo("primary");
+        assertThat(ReadRoutingContext.onPrimary(() -> readOnly(jdbcTemplate))).isEqualTo("primary");
+    }
+
+    @Test
+    void readAfterToken_UsesPrimaryUntilReplicaCatchesUp() {
+        // given
+        JdbcTemplate jdbcTemplate = routingTemplate(h2("replica-token"));
+
+        // when
+        ReadRoutingContext.setReadAfter(System.currentTimeMillis() + 60_000L);
+        String beforeCatchUp = readOnly(jdbcTemplate);
+        ReadRoutingContext.setReadAfter(System.currentTimeMillis() - 60_000L);
+        String afterCatchUp = readOnly(jdbcTemplate);
+
+        // then
+        assertThat(beforeCatchUp).isEqualTo("primary");
+        assertThat(afterCatchUp).isEqualTo("replica");
+    }
+
+    @Test
+    void unhealthyReplica_FallsBackToPrimary() {
+        // given
+        JdbcDataSource missing = new JdbcDataSource();
+        missing.setURL("jdbc:h2:mem:replica-missing;IFEXISTS=TRUE");
+        JdbcTemplate jdbcTemplate = routingTemplate(missing);
+
+        // when & then
+        assertThat(readOnly(jdbcTemplate)).isEqualTo("primary");
+    }
+
+    private JdbcTemplate routingTemplate(DataSource replica) {
+        healthMonitor = new ReplicaHealthMonitor(Map.of("replica-0", replica), 5, 1000, new SimpleMeterRegistry());
+        healthMonitor.checkAll();
+        ReplicaRoutingDataSource routingDataSource =
+                new ReplicaRoutingDataSource(h2("primary"), healthMonitor.dataSources(), healthMonitor);
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.afterPropertiesSet();
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        return jdbcTemplate;
+    }
+
+    private String readOnly(JdbcTemplate jdbcTemplate) {
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private String readWrite(JdbcTemplate jdbcTemplate) {
+        transactionTemplate.setReadOnly(false);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+        jdbcTemplate.update("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name.startsWith("replica") ? "replica" : "primary");
+        return dataSource;
+    }
+}
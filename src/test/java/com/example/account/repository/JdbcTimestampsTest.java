@@ -0,0 +1,63 @@
+package com.example.account.repository;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcTimestampsTest {
+
+    private TimeZone defaultZone;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        defaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:jdbc-timestamps;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS events (id BIGINT PRIMARY KEY, created_at TIMESTAMP(6))");
+        jdbcTemplate.execute("DELETE FROM events");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TimeZone.setDefault(defaultZone);
+    }
+
+    @Test
+    void utc_StoresUtcWallClockRegardlessOfJvmZone() {
+        // given
+        Instant instant = Instant.parse("2025-01-01T00:30:00Z");
+
+        // when
+        jdbcTemplate.update("INSERT INTO events (id, created_at) VALUES (?, ?)", 1L, JdbcTimestamps.utc(instant));
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT CAST(created_at AS VARCHAR) FROM events", String.class))
+                .startsWith("2025-01-01 00:30:00");
+        Instant read = jdbcTemplate.queryForObject("SELECT created_at FROM events",
+                (rs, rowNum) -> JdbcTimestamps.get(rs, 1));
+        assertThat(read).isEqualTo(instant);
+    }
+
+    @Test
+    void utc_BindsNull() {
+        // when
+        jdbcTemplate.update("INSERT INTO events (id, created_at) VALUES (?, ?)", 1L, JdbcTimestamps.utc(null));
+
+        // then
+        Instant read = jdbcTemplate.queryForObject("SELECT created_at FROM events",
+                (rs, rowNum) -> JdbcTimestamps.get(rs, "created_at"));
+        assertThat(read).isNull();
+    }
+}
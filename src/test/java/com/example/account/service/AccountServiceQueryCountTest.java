@@ -0,0 +1,130 @@
+package com.example.account.service;
+
+import com.example.account.cache.AccountCache;
+import com.example.account.dto.response.TransactionCursorResponse;
+import com.example.account.dto.response.TransactionHistoryResponse;
+import com.example.account.entity.Account;
+import com.example.account.entity.Posting;
+import com.example.account.entity.type.AccountStatus;
+import com.example.account.entity.type.TransactionType;
+import com.example.account.hot.HotAccountBalances;
+import com.example.account.money.Money;
+import com.example.account.policy.TransferPolicyEngine;
+import com.example.account.repository.BalanceCheckpointJdbcRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 내역 조회가 페이지 크기와 관계없이 일정한 수의 쿼리로 끝나는지 검증합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.sql.init.mode=never"
+})
+@Import(AccountService.class)
+class AccountServiceQueryCountTest {
+    private static final String ACCOUNT_NUMBER = "1000000001";
+    private static final int POSTING_COUNT = 30;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private AccountCache accountCache;
+
+    @MockBean
+    private HotAccountBalances hotAccountBalances;
+
+    @MockBean
+    private TransferPolicyEngine transferPolicyEngine;
+
+    @MockBean
+    private BalanceCheckpointJdbcRepository checkpointRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Account account = account(ACCOUNT_NUMBER);
+        Account counterparty = account("1000000002");
+        entityManager.persist(account);
+        entityManager.persist(counterparty);
+
+        Instant base = Instant.parse("2025-01-01T00:00:00Z");
+        for (int i = 0; i < POSTING_COUNT; i++) {
+            boolean transfer = i % 2 == 0;
+            entityManager.persist(Posting.builder()
+                    .accountId(account.getId())
+                    .transactionId("TX" + i)
+                    .type(transfer ? TransactionType.TRANSFER : TransactionType.DEPOSIT)
+                    .amount(Money.of(transfer ? -1000 : 1000))
+                    .fee(transfer ? Money.of(10) : null)
+                    .counterpartyAccountNumber(transfer ? counterparty.getAccountNumber() : null)
+                    .balanceAfter(Money.of(100_000 + i))
+                    .createdAt(base.plusSeconds(i))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getTransactionHistory_UsesThreeStatementsPerPage() {
+        // when
+        TransactionHistoryResponse response = accountService.getTransactionHistory(ACCOUNT_NUMBER, 0, 20);
+
+        // then (계좌 ID, 내역, 건수)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(response.getTransactions()).hasSize(20);
+        assertThat(response.getTotalElements()).isEqualTo(POSTING_COUNT);
+        assertThat(response.getTransactions().get(1).getCounterPartyAccount()).isEqualTo("1000000002");
+        assertThat(response.getTransactions().get(1).getTransactionId()).isEqualTo("TX28");
+    }
+
+    @Test
+    void getTransactionHistoryByCursor_UsesTwoStatementsPerPage() {
+        // given
+        TransactionCursorResponse first = accountService.getTransactionHistory(ACCOUNT_NUMBER, null, 10);
+        statistics.clear();
+
+        // when
+        TransactionCursorResponse second = accountService.getTransactionHistory(ACCOUNT_NUMBER, first.getNextCursor(), 10);
+
+        // then (계좌 ID, 내역)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(second.getTransactions())
+                .extracting(TransactionHistoryResponse.TransactionDetail::getTransactionId)
+                .startsWith("TX19", "TX18");
+        assertThat(second.getTransactions().get(1).getCounterPartyAccount()).isEqualTo("1000000002");
+    }
+
+    private Account account(String accountNumber) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .balance(Money.ZERO)
+                .dailyWithdrawLimit(Money.of(1_000_000))
+                .dailyTransferLimit(Money.of(3_000_000))
+                .status(AccountStatus.ACTIVE)
+                .build();
+    }
+}
@@ -1,31 +1,49 @@
 package com.example.account.service;
 
+import com.example.account.cache.AccountCache;
 import com.example.account.dto.request.AccountCreateRequest;
+import com.example.account.dto.response.AccountResponse;
 import com.example.account.entity.Account;
-import com.example.account.entity.Transaction;
 import com.example.account.entity.type.AccountStatus;
-import com.example.account.entity.type.TransactionStatus;
 import com.example.account.entity.type.TransactionType;
 import com.example.account.exception.AccountNotFoundException;
 import com.example.account.exception.DuplicateAccountException;
+import com.example.account.exception.InvalidCursorException;
+import com.example.account.hot.HotAccountBalances;
+import com.example.account.money.Money;
+import com.example.account.policy.TransferPolicy;
+import com.example.account.policy.TransferPolicyEngine;
 import com.example.account.repository.AccountRepository;
-import com.example.account.repository.TransactionRepository;
+import com.example.account.repository.BalanceCheckpointJdbcRepository;
+import com.example.account.repository.PostingHistoryRow;
+import com.example.account.repository.PostingRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -36,11 +54,33 @@ class AccountServiceTest {
     private AccountRepository accountRepository;
 
     @Mock
-    private TransactionRepository transactionRepository;
+    private PostingRepository postingRepository;
+
+    @Mock
+    private AccountCache accountCache;
+
+    @Mock
+    private HotAccountBalances hotAccountBalances;
+
+    @Mock
+    private BalanceCheckpointJdbcRepository checkpointRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private TransferPolicyEngine transferPolicyEngine = TransferPolicyEngine.fixed(
+            TransferPolicy.flat(Money.of(1_000_000), Money.of(3_000_000), new BigDecimal("0.01")));
 
     @InjectMocks
     private AccountService accountService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(accountService, "zoneId", ZoneId.of("Asia/Seoul"));
+        accountService.init();
+    }
+
     @Test
     void createAccount_Success() {
         // given
@@ -49,7 +89,7 @@ class AccountServiceTest {
 
         Account account = Account.builder()
                 .accountNumber("1234567890")
-                .balance(BigDecimal.ZERO)
+                .balance(Money.ZERO)
                 .status(AccountStatus.ACTIVE)
                 .createdAt(Instant.now())
                 .build();
@@ -64,9 +104,28 @@ class AccountServiceTest {
 
         // then
         assertThat(response.getAccountNumber()).isEqualTo("1234567890");
-        assertThat(response.getBalance()).isEqualTo(BigDecimal.ZERO);
+        assertThat(response.getBalance()).isEqualTo(Money.ZERO);
         assertThat(response.getStatus()).isEqualTo(AccountStatus.ACTIVE.name());
-        verify(accountRepository).save(any(Account.class));
+        verify(accountRepository).save(argThat(saved ->
+                saved.getDailyWithdrawLimit() == null
+                        && saved.getDailyTransferLimit() == null
+                        && TransferPolicy.DEFAULT_TIER.equals(saved.getTier())));
+    }
+
+    @Test
+    void createAccount_UnknownTier() {
+        // given
+        AccountCreateRequest request = new AccountCreateRequest();
+        request.setAccountNumber("1234567890");
+        request.setTier("PLATINUM");
+
+        given(accountRepository.existsByAccountNumber(request.getAccountNumber()))
+                .willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> accountService.createAccount(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("정의되지 않은 등급입니다: PLATINUM");
     }
 
     @Test
@@ -90,20 +149,22 @@ class AccountServiceTest {
         String accountNumber = "1234567890";
         Account account = Account.builder()
                 .accountNumber(accountNumber)
-                .balance(BigDecimal.valueOf(1000))
+                .balance(Money.of(1000))
                 .status(AccountStatus.ACTIVE)
                 .createdAt(Instant.now())
                 .build();
 
         given(accountRepository.findByAccountNumber(accountNumber))
                 .willReturn(Optional.of(account));
+        given(accountCache.get(eq(accountNumber), any()))
+                .willAnswer(invocation -> invocation.<Supplier<AccountResponse>>getArgument(1).get());
 
         // when
         var response = accountService.getAccount(accountNumber);
 
         // then
         assertThat(response.getAccountNumber()).isEqualTo(accountNumber);
-        assertThat(response.getBalance()).isEqualTo(BigDecimal.valueOf(1000));
+        assertThat(response.getBalance()).isEqualTo(Money.of(1000));
         assertThat(response.getStatus()).isEqualTo(AccountStatus.ACTIVE.name());
     }
 
@@ -113,6 +174,8 @@ class AccountServiceTest {
         String accountNumber = "1234567890";
         given(accountRepository.findByAccountNumber(accountNumber))
                 .willReturn(Optional.empty());
+        given(accountCache.get(eq(accountNumber), any()))
+                .willAnswer(invocation -> invocation.<Supplier<AccountResponse>>getArgument(1).get());
 
         // when & then
         assertThatThrownBy(() -> accountService.getAccount(accountNumber))
@@ -123,29 +186,13 @@ class AccountServiceTest {
     void getTransactionHistory_Success() {
         // given
         String accountNumber = "1234567890";
-        Account account = Account.builder()
-                .accountNumber(accountNumber)
-                .balance(BigDecimal.ZERO)
-                .status(AccountStatus.ACTIVE)
-                .build();
+        PostingHistoryRow posting = posting(1L, "TX123", TransactionType.WITHDRAW, -1000, Instant.now());
 
-        Transaction transaction = Transaction.builder()
-                .transactionId("TX123")
-                .fromAccount(account)
-                .amount(BigDecimal.valueOf(1000))
-                .type(TransactionType.WITHDRAW)  // 트랜잭션 타입 추가
-                .status(TransactionStatus.COMPLETED)  // 트랜잭션 상태 추가
-                .createdAt(Instant.now())
-                .build();
+        given(accountRepository.findIdByAccountNumber(accountNumber))
+                .willReturn(Optional.of(1L));
 
-        given(accountRepository.findByAccountNumber(accountNumber))
-                .willReturn(Optional.of(account));
-
-        given(transactionRepository.findByFromAccountOrToAccount(
-                any(Account.class),
-                any(Account.class),
-                any(PageRequest.class)))
-                .willReturn(new PageImpl<>(List.of(transaction)));
+        given(postingRepository.findHistoryByAccountId(eq(1L), any(PageRequest.class)))
+                .willReturn(new PageImpl<>(List.of(posting)));
 
         // when
         var response = accountService.getTransactionHistory(accountNumber, 0, 20);
@@ -155,5 +202,99 @@ class AccountServiceTest {
         assertThat(response.getTotalPages()).isEqualTo(1);
         assertThat(response.getTransactions().get(0).getType())
                 .isEqualTo(TransactionType.WITHDRAW.name());
+        assertThat(response.getTransactions().get(0).getAmount()).isEqualTo(Money.of(1000));
+    }
+
+    @Test
+    void getTransactionHistoryByCursor_ReturnsNextCursor() {
+        // given
+        String accountNumber = "1234567890";
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        List<PostingHistoryRow> postings = List.of(
+                posting(3L, "TX3", TransactionType.WITHDRAW, -1000, now),
+                posting(2L, "TX2", TransactionType.DEPOSIT, 1000, now),
+                posting(1L, "TX1", TransactionType.DEPOSIT, 1000, now.minusSeconds(1)));
+
+        given(accountRepository.findIdByAccountNumber(accountNumber)).willReturn(Optional.of(1L));
+        given(postingRepository.findHistoryByAccountIdBefore(eq(1L), any(), any(), eq(PageRequest.ofSize(3))))
+                .willReturn(postings);
+
+        // when
+        var response = accountService.getTransactionHistory(accountNumber, null, 2);
+
+        // then
+        assertThat(response.getTransactions())
+                .extracting(detail -> detail.getTransactionId())
+                .containsExactly("TX3", "TX2");
+        assertThat(response.isHasNext()).isTrue();
+
+        TransactionCursor next = TransactionCursor.decode(response.getNextCursor());
+        assertThat(next.createdAt()).isEqualTo(now);
+        assertThat(next.id()).isEqualTo(2L);
+    }
+
+    @Test
+    void getTransactionHistoryByCursor_InvalidCursor() {
+        // given
+        given(accountRepository.findIdByAccountNumber("1234567890")).willReturn(Optional.of(1L));
+
+        // when & then
+        assertThatThrownBy(() -> accountService.getTransactionHistory("1234567890", "not-a-cursor", 20))
+                .isInstanceOf(InvalidCursorException.class);
+        // 초와 나노초를 더하다 long 범위를 넘는 커서
+        String overflowing = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((Long.MAX_VALUE + ":" + Long.MAX_VALUE + ":1").getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> accountService.getTransactionHistory("1234567890", overflowing, 20))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void getBalanceAt_AddsPostingsAfterCheckpoint() {
+        // given
+        String accountNumber = "1234567890";
+        Instant at = Instant.parse("2025-01-10T03:00:00Z");  // 2025-01-10 12:00 (Asia/Seoul)
+        given(accountRepository.findIdByAccountNumber(accountNumber)).willReturn(Optional.of(1L));
+        given(checkpointRepository.findLatestBefore(1L, LocalDate.of(2025, 1, 10)))
+                .willReturn(Optional.of(new BalanceCheckpointJdbcRepository.Checkpoint(LocalDate.of(2025, 1, 9), Money.of(5000))));
+        given(checkpointRepository.sumPostings(1L, Instant.parse("2025-01-09T15:00:00Z"), at))
+                .willReturn(Money.of(-1200));
+
+        // when
+        var response = accountService.getBalanceAt(accountNumber, at);
+
+        // then
+        assertThat(response.getBalance()).isEqualTo(Money.of(3800));
+        assertThat(response.getAt()).isEqualTo(at);
+    }
+
+    @Test
+    void getBalanceAt_WithoutCheckpoint_StartsFromOpeningBalance() {
+        // given
+        String accountNumber = "1234567890";
+        Instant at = Instant.parse("2025-01-10T03:00:00Z");
+        given(accountRepository.findIdByAccountNumber(accountNumber)).willReturn(Optional.of(1L));
+        given(checkpointRepository.findLatestBefore(1L, LocalDate.of(2025, 1, 10))).willReturn(Optional.empty());
+        given(checkpointRepository.findOpeningBalance(1L)).willReturn(Money.of(1000));
+        given(checkpointRepository.sumPostings(1L, null, at)).willReturn(Money.of(500));
+
+        // when
+        var response = accountService.getBalanceAt(accountNumber, at);
+
+        // then
+        assertThat(response.getBalance()).isEqualTo(Money.of(1500));
+    }
+
+    @Test
+    void getBalanceAt_AccountNotFound() {
+        // given
+        given(accountRepository.findIdByAccountNumber("1234567890")).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> accountService.getBalanceAt("1234567890", Instant.now()))
+                .isInstanceOf(AccountNotFoundException.class);
+    }
+
+    private PostingHistoryRow posting(Long id, String transactionId, TransactionType type, long amount, Instant createdAt) {
+        return new PostingHistoryRow(id, transactionId, type, Money.of(amount), null, null, Money.ZERO, createdAt);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package com.example.account.service;
+
+import com.example.account.cache.AccountCache;
+import com.example.account.dto.request.BatchTransactionRequest;
+import com.example.account.dto.response.BatchTransactionResponse;
+import com.example.account.entity.Account;
+import com.example.account.entity.Posting;
+import com.example.account.entity.Transaction;
+import com.example.account.entity.type.AccountStatus;
+import com.example.account.entity.type.TransactionType;
+import com.example.account.hot.HotAccountBalances;
+import com.example.account.id.TransactionIdGenerator;
+import com.example.account.limit.DailyLimitChecker;
+import com.example.account.limit.LimitType;
+import com.example.account.lock.AccountLockManager;
+import com.example.account.money.Money;
+import com.example.account.policy.TransferPolicy;
+import com.example.account.policy.TransferPolicyEngine;
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.TransactionJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchTransactionServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private DailyLimitChecker dailyLimitChecker;
+
+    @Mock
+    private TransactionJdbcRepository transactionJdbcRepository;
+
+    @Mock
+    private AccountLockManager accountLockManager;
+
+    @Mock
+    private AccountCache accountCache;
+
+    @Mock
+    private HotAccountBalances hotAccountBalances;
+
+    @Spy
+    private TransactionIdGenerator transactionIdGenerator = new TransactionIdGenerator(0);
+
+    @Spy
+    private TransferPolicyEngine transferPolicyEngine = TransferPolicyEngine.fixed(
+            TransferPolicy.flat(Money.of(1_000_000), Money.of(3_000_000), new BigDecimal("0.01")));
+
+    @InjectMocks
+    private BatchTransactionService batchTransactionService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void execute_AppliesValidItemsAndReportsFailures() {
+        // given
+        Account fromAccount = account(1L, "1234567890", 5000);
+        Account toAccount = account(2L, "0987654321", 0);
+
+        BatchTransactionRequest request = BatchTransactionRequest.builder()
+                .items(List.of(
+                        item(TransactionType.TRANSFER, "1234567890", "0987654321", 1000),
+                        item(TransactionType.WITHDRAW, "1234567890", null, 10000),
+                        item(TransactionType.DEPOSIT, "0987654321", null, 500),
+                        item(TransactionType.DEPOSIT, "5555555555", null, 500)))
+                .build();
+
+        given(accountRepository.findAllByAccountNumberInWithLock(anyCollection()))
+                .willReturn(List.of(toAccount, fromAccount));
+
+        // when
+        BatchTransactionResponse response = batchTransactionService.execute(request);
+
+        // then
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getFailureCount()).isEqualTo(2);
+        assertThat(response.getResults().get(0).getFee()).isEqualTo(Money.of(10));
+        assertThat(response.getResults().get(1).getErrorCode()).isEqualTo("INSUFFICIENT_BALANCE");
+        assertThat(response.getResults().get(3).getErrorCode()).isEqualTo("ACCOUNT_NOT_FOUND");
+
+        ArgumentCaptor<Map<Long, Money>> balances = ArgumentCaptor.forClass(Map.class);
+        verify(transactionJdbcRepository).updateBalances(balances.capture());
+        assertThat(balances.getValue().get(1L)).isEqualTo(Money.of(3990));
+        assertThat(balances.getValue().get(2L)).isEqualTo(Money.of(1500));
+
+        ArgumentCaptor<List<Transaction>> transactions = ArgumentCaptor.forClass(List.class);
+        verify(transactionJdbcRepository).insertAll(transactions.capture());
+        assertThat(transactions.getValue()).hasSize(2);
+
+        ArgumentCaptor<List<Posting>> postings = ArgumentCaptor.forClass(List.class);
+        verify(transactionJdbcRepository).insertPostings(postings.capture());
+        assertThat(postings.getValue())
+                .extracting(Posting::getAccountId, Posting::getBalanceAfter)
+                .containsExactly(tuple(1L, Money.of(3990)), tuple(2L, Money.of(1000)), tuple(2L, Money.of(1500)));
+        verify(accountLockManager, times(1)).lockForTransaction(anyCollection());
+        verify(dailyLimitChecker).reserve(fromAccount, LimitType.TRANSFER, Money.of(1000));
+    }
+
+    private BatchTransactionRequest.Item item(TransactionType type, String accountNumber,
+                                              String toAccountNumber, long amount) {
+        return BatchTransactionRequest.Item.builder()
+                .type(type)
+                .accountNumber(accountNumber)
+                .toAccountNumber(toAccountNumber)
+                .amount(BigDecimal.valueOf(amount))
+                .build();
+    }
+
+    private Account account(Long id, String accountNumber, long balance) {
+        return Account.builder()
+                .id(id)
+                .accountNumber(accountNumber)
+                .balance(Money.of(balance))
+                .status(AccountStatus.ACTIVE)
+                .dailyWithdrawLimit(Money.of(100000))
+                .dailyTransferLimit(Money.of(100000))
+                .build();
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.account.service;
+
+import com.example.account.dto.request.BatchTransactionRequest;
+import com.example.account.dto.request.TransactionRequest;
+import com.example.account.dto.response.TransactionResponse;
+import com.example.account.exception.InsufficientBalanceException;
+import com.example.account.hot.HotAccountBalances;
+import com.example.account.journal.TransactionWriteBehind;
+import com.example.account.metrics.TransactionMetrics;
+import com.example.account.money.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionCoalescerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Mock
+    private BatchTransactionService batchTransactionService;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private HotAccountBalances hotAccountBalances;
+
+    @Spy
+    private TransactionMetrics transactionMetrics = new TransactionMetrics(registry);
+
+    @Mock
+    private ObjectProvider<TransactionWriteBehind> writeBehindProvider;
+
+    @InjectMocks
+    private TransactionCoalescer transactionCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(transactionCoalescer, "laneCount", 4);
+        ReflectionTestUtils.setField(transactionCoalescer, "maxBatchSize", 256);
+        transactionCoalescer.init();
+    }
+
+    @Test
+    void deposit_RequestsArrivingDuringRoundAreProcessedTogether() throws Exception {
+        // given
+        CountDownLatch firstRoundStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstRound = new CountDownLatch(1);
+        List<Integer> roundSizes = new CopyOnWriteArrayList<>();
+        given(batchTransactionService.executeItems(anyList())).willAnswer(invocation -> {
+            List<BatchTransactionRequest.Item> items = invocation.getArgument(0);
+            roundSizes.add(items.size());
+            if (roundSizes.size() == 1) {
+                firstRoundStarted.countDown();
+                releaseFirstRound.await(5, TimeUnit.SECONDS);
+            }
+            List<BatchTransactionService.ItemOutcome> outcomes = new ArrayList<>();
+            for (BatchTransactionRequest.Item item : items) {
+                outcomes.add(new BatchTransactionService.ItemOutcome(
+                        TransactionResponse.builder().amount(Money.of(item.getAmount())).build(), null));
+            }
+            return outcomes;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            Future<TransactionResponse> first = executor.submit(() -> transactionCoalescer.deposit(request(1)));
+            firstRoundStarted.await(5, TimeUnit.SECONDS);
+            List<Future<TransactionResponse>> queued = new ArrayList<>();
+            for (int i = 2; i <= 5; i++) {
+                long amount = i;
+                queued.add(executor.submit(() -> transactionCoalescer.deposit(request(amount))));
+            }
+            // 첫 라운드가 처리 중인 동안 나머지 요청이 줄을 서도록 기다립니다.
+            Thread.sleep(200);
+
+            // when
+            releaseFirstRound.countDown();
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS).getAmount()).isEqualTo(Money.of(1));
+            for (int i = 0; i < queued.size(); i++) {
+                assertThat(queued.get(i).get(5, TimeUnit.SECONDS).getAmount()).isEqualTo(Money.of(i + 2));
+            }
+            assertThat(roundSizes).containsExactly(1, 4);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void withdraw_FailedItemThrowsOriginalException() {
+        // given
+        given(batchTransactionService.executeItems(anyList())).willReturn(List.of(
+                new BatchTransactionService.ItemOutcome(null, new InsufficientBalanceException("잔액이 부족합니다."))));
+
+        // when & then
+        assertThatThrownBy(() -> transactionCoalescer.withdraw(request(1000)))
+                .isInstanceOf(InsufficientBalanceException.class)
+                .hasMessage("잔액이 부족합니다.");
+        assertThat(registry.get("transaction.rejections")
+                .tags("operation", "withdraw", "reason", "INSUFFICIENT_BALANCE").counter().count()).isEqualTo(1);
+        assertThat(registry.get("transaction.duration").tags("operation", "withdraw", "outcome", "failure")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("transaction.coalescing.round").tags("outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("transaction.in.flight").tags("operation", "withdraw").gauge().value()).isZero();
+    }
+
+    @Test
+    void deposit_HotAccountUsesSingleTransactionPath() {
+        // given
+        TransactionRequest request = request(1000);
+        TransactionResponse response = TransactionResponse.builder().amount(Money.of(1000)).build();
+        given(hotAccountBalances.isHot("1234567890")).willReturn(true);
+        given(transactionService.deposit(request)).willReturn(response);
+
+        // when
+        TransactionResponse result = transactionCoalescer.deposit(request);
+
+        // then
+        assertThat(result).isSameAs(response);
+        verify(batchTransactionService, never()).executeItems(anyList());
+    }
+
+    @Test
+    void init_FailsWhenWriteBehindIsEnabled() {
+        // given
+        given(writeBehindProvider.getIfAvailable()).willReturn(mock(TransactionWriteBehind.class));
+
+        // when & then
+        assertThatThrownBy(() -> transactionCoalescer.init())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private TransactionRequest request(long amount) {
+        return TransactionRequest.builder()
+                .accountNumber("1234567890")
+                .amount(BigDecimal.valueOf(amount))
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.account.service;
+
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.PostingJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionExportServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private PostingJdbcRepository postingJdbcRepository;
+
+    private TransactionExportService transactionExportService;
+
+    @BeforeEach
+    void setUp() {
+        transactionExportService = new TransactionExportService(accountRepository, postingJdbcRepository, new ObjectMapper());
+        ReflectionTestUtils.setField(transactionExportService, "zoneId", ZoneId.of("Asia/Seoul"));
+    }
+
+    @Test
+    void export_Csv() throws Exception {
+        // given
+        givenOnePosting();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        transactionExportService.export(1L, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), ExportFormat.CSV, out);
+
+        // then
+        assertThat(out.toString()).isEqualTo("""
+                transactionId,type,amount,fee,counterPartyAccount,balanceAfter,transactionDate
+                TX001,TRANSFER,1000,10,0987654321,8990,2024-01-01T00:00:00Z
+                """);
+        verify(postingJdbcRepository).streamByAccountId(eq(1L),
+                eq(Instant.parse("2023-12-31T15:00:00Z")), eq(Instant.parse("2024-01-31T15:00:00Z")), any());
+    }
+
+    @Test
+    void export_Ndjson() throws Exception {
+        // given
+        givenOnePosting();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        transactionExportService.export(1L, null, null, ExportFormat.NDJSON, out);
+
+        // then
+        assertThat(out.toString()).isEqualTo("{\"transactionId\":\"TX001\",\"type\":\"TRANSFER\",\"amount\":1000,"
+                + "\"fee\":10,\"counterPartyAccount\":\"0987654321\",\"balanceAfter\":8990,"
+                + "\"transactionDate\":\"2024-01-01T00:00:00Z\"}\n");
+    }
+
+    @Test
+    void csv_QuotesSpecialCharacters() {
+        assertThat(TransactionExportService.csv("a,b")).isEqualTo("\"a,b\"");
+        assertThat(TransactionExportService.csv("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(TransactionExportService.csv(null)).isEmpty();
+    }
+
+    private void givenOnePosting() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        given(rs.getString("transaction_id")).willReturn("TX001");
+        given(rs.getString("type")).willReturn("TRANSFER");
+        given(rs.getBigDecimal("amount")).willReturn(BigDecimal.valueOf(-1000));
+        given(rs.getBigDecimal("fee")).willReturn(BigDecimal.TEN);
+        given(rs.getString("counterparty_account_number")).willReturn("0987654321");
+        given(rs.getBigDecimal("balance_after")).willReturn(BigDecimal.valueOf(8990));
+        given(rs.getTimestamp(eq("created_at"), any(Calendar.class))).willReturn(Timestamp.from(Instant.parse("2024-01-01T00:00:00Z")));
+        willAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(3).processRow(rs);
+            return null;
+        }).given(postingJdbcRepository).streamByAccountId(eq(1L), any(), any(), any());
+    }
+}
@@ -1,9 +1,9 @@
 package com.example.account.service;
 
+import com.example.account.cache.AccountCache;
 import com.example.account.dto.request.TransactionRequest;
 import com.example.account.dto.request.TransferRequest;
 import com.example.account.entity.Account;
-import com.example.account.entity.DailyTransactionSummary;
 import com.example.account.entity.Transaction;
 import com.example.account.entity.type.AccountStatus;
 import com.example.account.entity.type.TransactionStatus;
@@ -12,28 +12,39 @@ import com.example.account.exception.AccountNotActiveException;
 import com.example.account.exception.AccountNotFoundException;
 import com.example.account.exception.DailyLimitExceededException;
 import com.example.account.exception.InsufficientBalanceException;
+import com.example.account.hot.HotAccountBalances;
+import com.example.account.id.TransactionIdGenerator;
+import com.example.account.journal.TransactionWriteBehind;
+import com.example.account.limit.DailyLimitChecker;
+import com.example.account.limit.LimitType;
+import com.example.account.lock.AccountLockManager;
+import com.example.account.metrics.TransactionMetrics;
+import com.example.account.money.Money;
+import com.example.account.policy.TransferPolicy;
+import com.example.account.policy.TransferPolicyEngine;
 import com.example.account.repository.AccountRepository;
-import com.example.account.repository.DailyTransactionSummaryRepository;
+import com.example.account.repository.PostingRepository;
 import com.example.account.repository.TransactionRepository;
-import com.example.account.util.LockUtil;
-import org.junit.jupiter.api.BeforeEach;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,27 +57,36 @@ class TransactionServiceTest {
     private TransactionRepository transactionRepository;
 
     @Mock
-    private DailyTransactionSummaryRepository dailyTransactionSummaryRepository;
+    private DailyLimitChecker dailyLimitChecker;
 
     @Mock
-    private LockUtil lockUtil;
+    private PostingRepository postingRepository;
 
     @Mock
-    private RLock lock;  // RLock 추가
+    private AccountLockManager accountLockManager;
 
     @Mock
-    private RedissonClient redissonClient;
+    private AccountCache accountCache;
+
+    @Mock
+    private HotAccountBalances hotAccountBalances;
+
+    @Mock
+    private ObjectProvider<TransactionWriteBehind> writeBehindProvider;
+
+    @Spy
+    private TransactionIdGenerator transactionIdGenerator = new TransactionIdGenerator(0);
+
+    @Spy
+    private TransactionMetrics transactionMetrics = new TransactionMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    private TransferPolicyEngine transferPolicyEngine = TransferPolicyEngine.fixed(
+            TransferPolicy.flat(Money.of(1_000_000), Money.of(3_000_000), new BigDecimal("0.01")));
 
     @InjectMocks
     private TransactionService transactionService;
 
-    @BeforeEach
-    void setUp() throws InterruptedException {
-        // Redis Lock 모킹 설정
-        when(redissonClient.getLock(anyString())).thenReturn(lock);
-        when(lock.tryLock(anyLong(), anyLong(), any())).thenReturn(true);
-    }
-
 
     @Test
     void transfer_Success() {
@@ -80,30 +100,24 @@ class TransactionServiceTest {
         Account fromAccount = Account.builder()
                 .id(1L)
                 .accountNumber("1234567890")
-                .balance(BigDecimal.valueOf(2000))
+                .balance(Money.of(2000))
                 .status(AccountStatus.ACTIVE)
-                .dailyTransferLimit(BigDecimal.valueOf(10000))
+                .dailyTransferLimit(Money.of(10000))
                 .build();
 
         Account toAccount = Account.builder()
                 .id(2L)
                 .accountNumber("0987654321")
-                .balance(BigDecimal.ZERO)
+                .balance(Money.ZERO)
                 .status(AccountStatus.ACTIVE)
                 .build();
 
-        DailyTransactionSummary summary = DailyTransactionSummary.builder()
-                .accountId(1L)
-                .totalTransfer(BigDecimal.ZERO)
-                .date(Instant.now())
-                .build();
-
         Transaction mockTransaction = Transaction.builder()
                 .id(1L)
                 .transactionId("TX123")
                 .fromAccount(fromAccount)
                 .toAccount(toAccount)
-                .amount(BigDecimal.valueOf(1000))
+                .amount(Money.of(1000))
                 .type(TransactionType.TRANSFER)  // 필수 필드 추가
                 .status(TransactionStatus.COMPLETED)  // 필수 필드 추가
                 .createdAt(Instant.now())
@@ -113,8 +127,6 @@ class TransactionServiceTest {
                 .willReturn(Optional.of(fromAccount));
         given(accountRepository.findByAccountNumberWithLock(request.getToAccountNumber()))
                 .willReturn(Optional.of(toAccount));
-        given(dailyTransactionSummaryRepository.findByAccountIdAndDateWithLock(eq(1L), any()))
-                .willReturn(Optional.of(summary));
         given(transactionRepository.save(any(Transaction.class)))
                 .willReturn(mockTransaction);  // 수정된 부분
 
@@ -123,8 +135,10 @@ class TransactionServiceTest {
 
         // then
         assertThat(response).isNotNull();
+        verify(accountLockManager).lockForTransaction("1234567890", "0987654321");
         verify(transactionRepository).save(any(Transaction.class));
-        verify(dailyTransactionSummaryRepository).save(any(DailyTransactionSummary.class));
+        verify(postingRepository).saveAll(argThat(postings -> ((List<?>) postings).size() == 2));
+        verify(dailyLimitChecker).reserve(fromAccount, LimitType.TRANSFER, Money.of(1000));
     }
 
     @Test
@@ -139,33 +153,26 @@ class TransactionServiceTest {
         Account fromAccount = Account.builder()
                 .id(1L)  // ID 추가
                 .accountNumber("1234567890")
-                .balance(BigDecimal.valueOf(3000))
+                .balance(Money.of(3000))
                 .status(AccountStatus.ACTIVE)
-                .dailyTransferLimit(BigDecimal.valueOf(1000))
+                .dailyTransferLimit(Money.of(1000))
                 .build();
 
         Account toAccount = Account.builder()
                 .id(2L)  // ID 추가
                 .accountNumber("0987654321")
-                .balance(BigDecimal.ZERO)
+                .balance(Money.ZERO)
                 .status(AccountStatus.ACTIVE)
                 .build();
 
-        DailyTransactionSummary summary = DailyTransactionSummary.builder()
-                .id(1L)
-                .accountId(1L)
-                .totalTransfer(BigDecimal.ZERO)
-                .totalWithdraw(BigDecimal.ZERO)
-                .date(Instant.now())
-                .build();
-
         // 올바른 메소드로 모킹 변경
         given(accountRepository.findByAccountNumberWithLock(request.getFromAccountNumber()))
                 .willReturn(Optional.of(fromAccount));
         given(accountRepository.findByAccountNumberWithLock(request.getToAccountNumber()))
                 .willReturn(Optional.of(toAccount));
-        given(dailyTransactionSummaryRepository.findByAccountIdAndDateWithLock(eq(1L), any()))
-                .willReturn(Optional.of(summary));
+
+        willThrow(new DailyLimitExceededException("일일 이체 한도를 초과했습니다."))
+                .given(dailyLimitChecker).reserve(fromAccount, LimitType.TRANSFER, Money.of(2000));
 
         // when & then
         assertThatThrownBy(() -> transactionService.transfer(request))
@@ -185,14 +192,14 @@ class TransactionServiceTest {
         Account fromAccount = Account.builder()
                 .id(1L)
                 .accountNumber("1234567890")
-                .balance(BigDecimal.valueOf(2000))
+                .balance(Money.of(2000))
                 .status(AccountStatus.INACTIVE)
                 .build();
 
         Account toAccount = Account.builder()
                 .id(2L)
                 .accountNumber("0987654321")
-                .balance(BigDecimal.ZERO)
+                .balance(Money.ZERO)
                 .status(AccountStatus.ACTIVE)
                 .build();
 
@@ -202,8 +209,6 @@ class TransactionServiceTest {
         given(accountRepository.findByAccountNumberWithLock(request.getToAccountNumber()))
                 .willReturn(Optional.of(toAccount));
 
-        // Redis lock 관련 모킹은 @BeforeEach에서 이미 설정됨
-
         // when & then
         assertThatThrownBy(() -> transactionService.transfer(request))
                 .isInstanceOf(AccountNotActiveException.class);
@@ -220,7 +225,7 @@ class TransactionServiceTest {
         Account account = Account.builder()
                 .id(1L)
                 .accountNumber("1234567890")
-                .balance(BigDecimal.valueOf(2000))
+                .balance(Money.of(2000))
                 .status(AccountStatus.ACTIVE)
                 .build();
 
@@ -228,7 +233,7 @@ class TransactionServiceTest {
                 .id(1L)
                 .transactionId("TX123")
                 .toAccount(account)
-                .amount(BigDecimal.valueOf(1000))
+                .amount(Money.of(1000))
                 .type(TransactionType.DEPOSIT)
                 .status(TransactionStatus.COMPLETED)
                 .createdAt(Instant.now())
@@ -245,11 +250,85 @@ class TransactionServiceTest {
         // then
         assertThat(response).isNotNull();
         assertThat(response.getTransactionId()).isEqualTo("TX123");
-        assertThat(response.getAmount()).isEqualTo(BigDecimal.valueOf(1000));
+        assertThat(response.getAmount()).isEqualTo(Money.of(1000));
         assertThat(response.getType()).isEqualTo(TransactionType.DEPOSIT.name());
         verify(transactionRepository).save(any(Transaction.class));
     }
 
+    @Test
+    void deposit_HotAccountCreditsSlotWithoutLock() {
+        // given
+        TransactionRequest request = TransactionRequest.builder()
+                .accountNumber("1234567890")
+                .amount(BigDecimal.valueOf(1000))
+                .build();
+
+        Account account = Account.builder()
+                .id(1L)
+                .accountNumber("1234567890")
+                .balance(Money.of(2000))
+                .status(AccountStatus.ACTIVE)
+                .build();
+
+        Transaction mockTransaction = Transaction.builder()
+                .id(1L)
+                .transactionId("TX123")
+                .toAccount(account)
+                .amount(Money.of(1000))
+                .type(TransactionType.DEPOSIT)
+                .status(TransactionStatus.COMPLETED)
+                .createdAt(Instant.now())
+                .build();
+
+        given(hotAccountBalances.isHot("1234567890")).willReturn(true);
+        given(accountRepository.findByAccountNumberWithSharedLock(request.getAccountNumber()))
+                .willReturn(Optional.of(account));
+        given(transactionRepository.save(any(Transaction.class)))
+                .willReturn(mockTransaction);
+        given(hotAccountBalances.credit(account, Money.of(1000)))
+                .willReturn(Money.of(3000));
+
+        // when
+        transactionService.deposit(request);
+
+        // then
+        assertThat(account.getBalance()).isEqualTo(Money.of(2000));
+        verify(hotAccountBalances).credit(account, Money.of(1000));
+        verify(accountLockManager, never()).lockForTransaction(anyString());
+        verify(accountRepository, never()).findByAccountNumberWithLock(anyString());
+    }
+
+    @Test
+    void deposit_WriteBehindDefersInsert() {
+        // given
+        TransactionRequest request = TransactionRequest.builder()
+                .accountNumber("1234567890")
+                .amount(BigDecimal.valueOf(1000))
+                .build();
+
+        Account account = Account.builder()
+                .id(1L)
+                .accountNumber("1234567890")
+                .balance(Money.of(2000))
+                .status(AccountStatus.ACTIVE)
+                .build();
+
+        TransactionWriteBehind writeBehind = mock(TransactionWriteBehind.class);
+        given(writeBehindProvider.getIfAvailable()).willReturn(writeBehind);
+        given(accountRepository.findByAccountNumberWithLock(request.getAccountNumber()))
+                .willReturn(Optional.of(account));
+
+        // when
+        var response = transactionService.deposit(request);
+
+        // then
+        assertThat(response.getAmount()).isEqualTo(Money.of(1000));
+        assertThat(account.getBalance()).isEqualTo(Money.of(3000));
+        verify(writeBehind).record(any(Transaction.class), argThat(postings -> postings.size() == 1));
+        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(postingRepository, never()).saveAll(any());
+    }
+
     @Test
     void deposit_AccountNotActive() {
         // given
@@ -261,7 +340,7 @@ class TransactionServiceTest {
         Account account = Account.builder()
                 .id(1L)
                 .accountNumber("1234567890")
-                .balance(BigDecimal.valueOf(2000))
+                .balance(Money.of(2000))
                 .status(AccountStatus.INACTIVE)
                 .build();
 
@@ -285,23 +364,16 @@ class TransactionServiceTest {
         Account account = Account.builder()
                 .id(1L)
                 .accountNumber("1234567890")
-                .balance(BigDecimal.valueOf(2000))
+                .balance(Money.of(2000))
                 .status(AccountStatus.ACTIVE)
-                .dailyWithdrawLimit(BigDecimal.valueOf(5000))
-                .build();
-
-        DailyTransactionSummary summary = DailyTransactionSummary.builder()
-                .id(1L)
-                .accountId(1L)
-                .totalWithdraw(BigDecimal.ZERO)
-                .date(Instant.now())
+                .dailyWithdrawLimit(Money.of(5000))
                 .build();
 
         Transaction mockTransaction = Transaction.builder()
                 .id(1L)
                 .transactionId("TX123")
                 .fromAccount(account)
-                .amount(BigDecimal.valueOf(1000))
+                .amount(Money.of(1000))
                 .type(TransactionType.WITHDRAW)
                 .status(TransactionStatus.COMPLETED)
                 .createdAt(Instant.now())
@@ -309,8 +381,6 @@ class TransactionServiceTest {
 
         given(accountRepository.findByAccountNumberWithLock(request.getAccountNumber()))
                 .willReturn(Optional.of(account));
-        given(dailyTransactionSummaryRepository.findByAccountIdAndDateWithLock(eq(1L), any()))
-                .willReturn(Optional.of(summary));
         given(transactionRepository.save(any(Transaction.class)))
                 .willReturn(mockTransaction);
 
@@ -320,7 +390,7 @@ class TransactionServiceTest {
         // then
         assertThat(response).isNotNull();
         assertThat(response.getTransactionId()).isEqualTo("TX123");
-        assertThat(response.getAmount()).isEqualTo(BigDecimal.valueOf(1000));
+        assertThat(response.getAmount()).isEqualTo(Money.of(1000));
         assertThat(response.getType()).isEqualTo(TransactionType.WITHDRAW.name());
         verify(transactionRepository).save(any(Transaction.class));
     }
@@ -336,9 +406,9 @@ class TransactionServiceTest {
         Account account = Account.builder()
                 .id(1L)
                 .accountNumber("1234567890")
-                .balance(BigDecimal.valueOf(1000))
+                .balance(Money.of(1000))
                 .status(AccountStatus.ACTIVE)
-                .dailyWithdrawLimit(BigDecimal.valueOf(5000))
+                .dailyWithdrawLimit(Money.of(5000))
                 .build();
 
         given(accountRepository.findByAccountNumberWithLock(request.getAccountNumber()))
@@ -361,22 +431,16 @@ class TransactionServiceTest {
         Account account = Account.builder()
                 .id(1L)
                 .accountNumber("1234567890")
-                .balance(BigDecimal.valueOf(3000))
+                .balance(Money.of(3000))
                 .status(AccountStatus.ACTIVE)
-                .dailyWithdrawLimit(BigDecimal.valueOf(1000))
-                .build();
-
-        DailyTransactionSummary summary = DailyTransactionSummary.builder()
-                .id(1L)
-                .accountId(1L)
-                .totalWithdraw(BigDecimal.ZERO)
-                .date(Instant.now())
+                .dailyWithdrawLimit(Money.of(1000))
                 .build();
 
         given(accountRepository.findByAccountNumberWithLock(request.getAccountNumber()))
                 .willReturn(Optional.of(account));
-        given(dailyTransactionSummaryRepository.findByAccountIdAndDateWithLock(eq(1L), any()))
-                .willReturn(Optional.of(summary));
+
+        willThrow(new DailyLimitExceededException("일일 출금 한도를 초과했습니다."))
+                .given(dailyLimitChecker).reserve(account, LimitType.WITHDRAW, Money.of(2000));
 
         // when & then
         assertThatThrownBy(() -> transactionService.withdraw(request))
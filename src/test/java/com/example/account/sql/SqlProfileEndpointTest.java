@@ -0,0 +1,43 @@
+package com.example.account.sql;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SqlProfileEndpointTest {
+
+    @Mock
+    private SqlProfiler sqlProfiler;
+
+    @InjectMocks
+    private SqlProfileEndpoint sqlProfileEndpoint;
+
+    @Test
+    void reset_RejectedByDefault() {
+        // when & then
+        assertThatThrownBy(() -> sqlProfileEndpoint.reset())
+                .isInstanceOf(InvalidEndpointRequestException.class);
+        verify(sqlProfiler, never()).reset();
+    }
+
+    @Test
+    void reset_ClearsStatsWhenEnabled() {
+        // given
+        ReflectionTestUtils.setField(sqlProfileEndpoint, "resetEnabled", true);
+
+        // when
+        sqlProfileEndpoint.reset();
+
+        // then
+        verify(sqlProfiler).reset();
+    }
+}
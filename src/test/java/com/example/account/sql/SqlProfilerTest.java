@@ -0,0 +1,104 @@
+package com.example.account.sql;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlProfilerTest {
+
+    private SqlProfiler sqlProfiler;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        sqlProfiler = new SqlProfiler();
+        ReflectionTestUtils.setField(sqlProfiler, "slowQueryMillis", 10_000L);
+        ReflectionTestUtils.setField(sqlProfiler, "bindSampleRate", 1.0);
+        ReflectionTestUtils.setField(sqlProfiler, "nPlusOneThreshold", 5);
+
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:sql-profiler;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(ProfilingDataSource.wrap(dataSource, sqlProfiler));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS items (id BIGINT PRIMARY KEY, name VARCHAR(64))");
+        jdbcTemplate.execute("DELETE FROM items");
+    }
+
+    @Test
+    void request_CountsStatementsPerEndpoint() {
+        // when
+        sqlProfiler.begin("POST /api/items");
+        jdbcTemplate.update("INSERT INTO items (id, name) VALUES (?, ?)", 1L, "a");
+        jdbcTemplate.queryForObject("SELECT name FROM items WHERE id = ?", String.class, 1L);
+        sqlProfiler.end("POST /api/items");
+
+        // then
+        EndpointSqlStats.Snapshot snapshot = sqlProfiler.snapshot().get("POST /api/items");
+        assertThat(snapshot.requests()).isEqualTo(1);
+        assertThat(snapshot.statements()).isEqualTo(2);
+        assertThat(snapshot.nPlusOneRequests()).isZero();
+        assertThat(sqlProfiler.snapshot()).doesNotContainKey(SqlProfiler.BACKGROUND);
+    }
+
+    @Test
+    void repeatedQuery_FlaggedAsNPlusOne() {
+        // when
+        sqlProfiler.begin("GET /api/items/1");
+        for (long id = 0; id < 5; id++) {
+            jdbcTemplate.queryForList("SELECT name FROM items WHERE id = ?", String.class, id);
+        }
+        sqlProfiler.end("GET /api/items/{id}");
+
+        // then
+        EndpointSqlStats.Snapshot snapshot = sqlProfiler.snapshot().get("GET /api/items/{id}");
+        assertThat(snapshot.nPlusOneRequests()).isEqualTo(1);
+        assertThat(snapshot.lastNPlusOneSql()).isEqualTo("SELECT name FROM items WHERE id = ?");
+    }
+
+    @Test
+    void literalsInPlainStatements_AreGroupedAsOneQuery() {
+        // when
+        sqlProfiler.begin("GET /api/items");
+        for (int id = 0; id < 5; id++) {
+            jdbcTemplate.queryForList("SELECT name FROM items WHERE id = " + id + " OR name = 'x" + id + "'", String.class);
+        }
+        sqlProfiler.end("GET /api/items");
+
+        // then
+        assertThat(sqlProfiler.snapshot().get("GET /api/items").lastNPlusOneSql())
+                .isEqualTo("SELECT name FROM items WHERE id = ? OR name = ?");
+    }
+
+    @Test
+    void batch_CountedAsOneStatement() {
+        // when
+        sqlProfiler.begin("POST /api/items/batch");
+        jdbcTemplate.batchUpdate("INSERT INTO items (id, name) VALUES (?, ?)",
+                List.of(new Object[]{1L, "a"}, new Object[]{2L, "b"}, new Object[]{3L, "c"},
+                        new Object[]{4L, "d"}, new Object[]{5L, "e"}, new Object[]{6L, "f"}));
+        sqlProfiler.end("POST /api/items/batch");
+
+        // then
+        EndpointSqlStats.Snapshot snapshot = sqlProfiler.snapshot().get("POST /api/items/batch");
+        assertThat(snapshot.statements()).isEqualTo(1);
+        assertThat(snapshot.nPlusOneRequests()).isZero();
+    }
+
+    @Test
+    void slowQueryOutsideRequest_CountedAsBackground() {
+        // given
+        ReflectionTestUtils.setField(sqlProfiler, "slowQueryMillis", 0L);
+
+        // when
+        jdbcTemplate.queryForList("SELECT name FROM items WHERE name = ?", String.class, "x".repeat(100));
+
+        // then
+        assertThat(sqlProfiler.snapshot().get(SqlProfiler.BACKGROUND).slowQueries()).isEqualTo(1);
+    }
+}